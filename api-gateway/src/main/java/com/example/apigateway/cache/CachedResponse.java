@@ -0,0 +1,36 @@
+package com.example.apigateway.cache;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.UnaryOperator;
+
+public record CachedResponse(HttpStatusCode status,
+                             HttpHeaders headers,
+                             byte[] body,
+                             String etag,
+                             Long propertyId,
+                             Instant storedAt,
+                             Instant expiresAt,
+                             ConcurrentMap<String, byte[]> encodedBodies) {
+
+    public CachedResponse(HttpStatusCode status, HttpHeaders headers, byte[] body, String etag,
+                          Long propertyId, Instant storedAt, Instant expiresAt) {
+        this(status, headers, body, etag, propertyId, storedAt, expiresAt, new ConcurrentHashMap<>());
+    }
+
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+
+    public boolean hasEncodedBody(String encoding) {
+        return encodedBodies.containsKey(encoding);
+    }
+
+    public byte[] encodedBody(String encoding, UnaryOperator<byte[]> encoder) {
+        return encodedBodies.computeIfAbsent(encoding, key -> encoder.apply(body));
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.apigateway.cache;
+
+import com.example.apigateway.compression.ResponseCompressor;
+import com.example.apigateway.filters.ResponseCacheGatewayFilter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.connection.ReactiveSubscription;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+@Slf4j
+public class ResponseCache {
+
+    public static final String PROPERTY_CHANGED_CHANNEL = "property-service:property-changed";
+    public static final String FEATURES_CHANGED_MESSAGE = "features";
+    public static final String FEATURES_PATH = "/api/v1/features";
+    /**
+     * Upstream-only TTL in seconds for responses that tell clients {@code no-cache}. Only this cache hears the
+     * property-changed invalidations, so a long TTL is safe here but not in browsers or other shared caches.
+     */
+    public static final String TTL_HEADER = "X-Gateway-Cache-TTL";
+
+    private final Cache<String, CachedResponse> cache;
+    private final AtomicLong generation = new AtomicLong();
+    private final ReactiveRedisConnectionFactory connectionFactory;
+    private final ResponseCompressor compressor;
+    private final MeterRegistry meterRegistry;
+    private final Duration defaultTtl;
+    private final Duration maxTtl;
+    private final int maxBodySize;
+
+    private Disposable subscription;
+
+    public ResponseCache(ReactiveRedisConnectionFactory connectionFactory,
+                         ResponseCompressor compressor,
+                         MeterRegistry meterRegistry,
+                         @Value("${application.response-cache.max-entries}") long maxEntries,
+                         @Value("${application.response-cache.default-ttl}") Duration defaultTtl,
+                         @Value("${application.response-cache.max-ttl}") Duration maxTtl,
+                         @Value("${application.response-cache.max-body-size}") DataSize maxBodySize) {
+        this.connectionFactory = connectionFactory;
+        this.compressor = compressor;
+        this.meterRegistry = meterRegistry;
+        this.defaultTtl = defaultTtl;
+        this.maxTtl = maxTtl;
+        this.maxBodySize = (int) maxBodySize.toBytes();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(maxTtl)
+                .build();
+
+        Gauge.builder("gateway.response.cache.size", cache, Cache::estimatedSize)
+                .register(meterRegistry);
+    }
+
+    public GatewayFilter filter(String... cacheablePaths) {
+        return new ResponseCacheGatewayFilter(this, compressor, meterRegistry, Arrays.asList(cacheablePaths));
+    }
+
+    public Optional<CachedResponse> get(String key) {
+        CachedResponse cached = cache.getIfPresent(key);
+        if (cached == null) {
+            return Optional.empty();
+        }
+        if (cached.isExpired(Instant.now())) {
+            cache.asMap().remove(key, cached);
+            return Optional.empty();
+        }
+        return Optional.of(cached);
+    }
+
+    public long generation() {
+        return generation.get();
+    }
+
+    public void put(String key, CachedResponse response, long expectedGeneration) {
+        if (response.body().length > maxBodySize || generation.get() != expectedGeneration) {
+            return;
+        }
+        cache.put(key, response);
+    }
+
+    public Duration defaultTtl() {
+        return defaultTtl;
+    }
+
+    public Duration maxTtl() {
+        return maxTtl;
+    }
+
+    public void evictProperty(Long propertyId) {
+        generation.incrementAndGet();
+        cache.asMap().values().removeIf(cached ->
+                cached.propertyId() == null || cached.propertyId().equals(propertyId));
+    }
+
+    public void evictPath(String path) {
+        generation.incrementAndGet();
+        cache.asMap().keySet().removeIf(key ->
+                key.equals(path) || key.startsWith(path + "?") || key.startsWith(path + "/"));
+    }
+
+    public void evictAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void subscribeToPropertyChanges() {
+        subscription = Flux.usingWhen(
+                        Mono.fromCallable(() -> new ReactiveRedisMessageListenerContainer(connectionFactory)),
+                        container -> container.receive(ChannelTopic.of(PROPERTY_CHANGED_CHANNEL)),
+                        ReactiveRedisMessageListenerContainer::destroyLater)
+                .doOnSubscribe(s -> evictAll())
+                .map(ReactiveSubscription.Message::getMessage)
+                .doOnNext(this::onPropertyChanged)
+                .doOnError(e -> log.warn("Lost subscription to {}: {}", PROPERTY_CHANGED_CHANNEL, e.getMessage()))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30)))
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void unsubscribe() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    void onPropertyChanged(String message) {
+        if (FEATURES_CHANGED_MESSAGE.equals(message)) {
+            evictPath(FEATURES_PATH);
+            return;
+        }
+        try {
+            evictProperty(Long.valueOf(message));
+        } catch (NumberFormatException e) {
+            evictAll();
+        }
+    }
+}
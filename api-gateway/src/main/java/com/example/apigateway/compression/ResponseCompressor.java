@@ -0,0 +1,218 @@
+package com.example.apigateway.compression;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+@Component
+@Slf4j
+public class ResponseCompressor {
+
+    public static final String GZIP = "gzip";
+    public static final String BROTLI = "br";
+    public static final String ENCODING_ATTR = ResponseCompressor.class.getName() + ".encoding";
+
+    private static final List<MediaType> COMPRESSIBLE_TYPES = List.of(
+            MediaType.APPLICATION_JSON,
+            MediaType.parseMediaType("application/*+json"),
+            MediaType.APPLICATION_XML,
+            MediaType.parseMediaType("application/*+xml"),
+            MediaType.parseMediaType("application/javascript"),
+            MediaType.parseMediaType("text/*"),
+            MediaType.parseMediaType("image/svg+xml"));
+
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    private final Map<EncodingKey, EncodingMeters> encodingMeters = new ConcurrentHashMap<>();
+    private final Map<ResponseKey, Counter> responseCounters = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final int minResponseSize;
+    private final int gzipLevel;
+    private final Encoder.Parameters brotliParameters;
+    private final boolean brotliAvailable;
+
+    public ResponseCompressor(MeterRegistry meterRegistry,
+                              @Value("${application.compression.min-response-size}") DataSize minResponseSize,
+                              @Value("${application.compression.gzip-level}") int gzipLevel,
+                              @Value("${application.compression.brotli-quality}") int brotliQuality) {
+        this.meterRegistry = meterRegistry;
+        this.minResponseSize = (int) minResponseSize.toBytes();
+        this.gzipLevel = gzipLevel;
+        this.brotliParameters = new Encoder.Parameters().setQuality(brotliQuality);
+        this.brotliAvailable = Brotli4jLoader.isAvailable();
+        if (!brotliAvailable) {
+            log.warn("Brotli is not available, falling back to gzip: {}",
+                    Brotli4jLoader.getUnavailabilityCause().getMessage());
+        }
+    }
+
+    public String negotiate(HttpHeaders requestHeaders) {
+        String selected = null;
+        double selectedQuality = 0;
+        for (String value : requestHeaders.getOrEmpty(HttpHeaders.ACCEPT_ENCODING)) {
+            for (String token : value.split(",")) {
+                String[] parts = token.trim().split(";");
+                String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+                if (!coding.equals(GZIP) && !(coding.equals(BROTLI) && brotliAvailable)) {
+                    continue;
+                }
+                double quality = quality(parts);
+                if (quality > selectedQuality || (quality > 0 && quality == selectedQuality && coding.equals(BROTLI))) {
+                    selected = coding;
+                    selectedQuality = quality;
+                }
+            }
+        }
+        return selected;
+    }
+
+    public boolean isCompressible(HttpHeaders responseHeaders) {
+        String contentEncoding = responseHeaders.getFirst(HttpHeaders.CONTENT_ENCODING);
+        if (contentEncoding != null && !contentEncoding.equalsIgnoreCase("identity")) {
+            return false;
+        }
+        String cacheControl = String.join(",", responseHeaders.getOrEmpty(HttpHeaders.CACHE_CONTROL));
+        if (cacheControl.toLowerCase(Locale.ROOT).contains("no-transform")) {
+            return false;
+        }
+        MediaType contentType = responseHeaders.getContentType();
+        return contentType != null && COMPRESSIBLE_TYPES.stream().anyMatch(type -> type.includes(contentType));
+    }
+
+    public boolean isLargeEnough(long size) {
+        return size >= minResponseSize;
+    }
+
+    public byte[] encode(String route, String encoding, byte[] body) {
+        boolean cpuTimeSupported = threadMXBean.isCurrentThreadCpuTimeSupported();
+        long start = cpuTimeSupported ? threadMXBean.getCurrentThreadCpuTime() : System.nanoTime();
+        byte[] encoded = switch (encoding) {
+            case BROTLI -> brotli(body);
+            case GZIP -> gzip(body);
+            default -> throw new IllegalArgumentException("Unsupported content encoding: " + encoding);
+        };
+        long elapsed = (cpuTimeSupported ? threadMXBean.getCurrentThreadCpuTime() : System.nanoTime()) - start;
+
+        EncodingMeters meters = encodingMeters.computeIfAbsent(new EncodingKey(route, encoding), this::encodingMeters);
+        meters.cpuTime().record(elapsed, TimeUnit.NANOSECONDS);
+        meters.ratio().record(encoded.length == 0 ? 1 : (double) body.length / encoded.length);
+        return encoded;
+    }
+
+    public void applyHeaders(HttpHeaders responseHeaders, String encoding, int contentLength) {
+        responseHeaders.set(HttpHeaders.CONTENT_ENCODING, encoding);
+        responseHeaders.setContentLength(contentLength);
+        String etag = responseHeaders.getETag();
+        if (etag != null) {
+            responseHeaders.setETag(encodedEtag(etag, encoding));
+        }
+        addVary(responseHeaders);
+    }
+
+    public void addVary(HttpHeaders responseHeaders) {
+        List<String> vary = responseHeaders.getVary();
+        if (vary.stream().noneMatch(HttpHeaders.ACCEPT_ENCODING::equalsIgnoreCase)) {
+            List<String> updated = new ArrayList<>(vary);
+            updated.add(HttpHeaders.ACCEPT_ENCODING);
+            responseHeaders.setVary(updated);
+        }
+    }
+
+    public void count(String route, String encoding, String source) {
+        responseCounters.computeIfAbsent(new ResponseKey(route, encoding, source), this::responseCounter)
+                .increment();
+    }
+
+    public static String encodedEtag(String etag, String encoding) {
+        if (etag == null || !etag.endsWith("\"")) {
+            return etag;
+        }
+        return etag.substring(0, etag.length() - 1) + "-" + encoding + "\"";
+    }
+
+    private EncodingMeters encodingMeters(EncodingKey key) {
+        Timer cpuTime = Timer.builder("gateway.compression.cpu.time")
+                .tag("route", key.route())
+                .tag("encoding", key.encoding())
+                .register(meterRegistry);
+        DistributionSummary ratio = DistributionSummary.builder("gateway.compression.ratio")
+                .tag("route", key.route())
+                .tag("encoding", key.encoding())
+                .register(meterRegistry);
+        return new EncodingMeters(cpuTime, ratio);
+    }
+
+    private Counter responseCounter(ResponseKey key) {
+        return Counter.builder("gateway.compression.responses")
+                .tag("route", key.route())
+                .tag("encoding", key.encoding())
+                .tag("source", key.source())
+                .register(meterRegistry);
+    }
+
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(gzipLevel);
+            }
+        }) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private byte[] brotli(byte[] body) {
+        try {
+            return Encoder.compress(body, brotliParameters);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record EncodingKey(String route, String encoding) {
+    }
+
+    private record EncodingMeters(Timer cpuTime, DistributionSummary ratio) {
+    }
+
+    private record ResponseKey(String route, String encoding, String source) {
+    }
+}
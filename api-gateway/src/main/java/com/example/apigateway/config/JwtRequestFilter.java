@@ -1,55 +1,53 @@
 package com.example.apigateway.config;
 
 import com.example.apigateway.utils.JwtTokenUtils;
+import com.example.common.security.InternalIdentity;
+import com.example.common.security.InternalIdentitySigner;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.security.core.context.ReactiveSecurityContextHolder;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
-import org.springframework.web.filter.OncePerRequestFilter;
 import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.server.WebFilter;
 import org.springframework.web.server.WebFilterChain;
 import reactor.core.publisher.Mono;
 
-import java.io.IOException;
-import java.util.List;
-import java.util.stream.Collectors;
-
 @Component
 @RequiredArgsConstructor
 public class JwtRequestFilter implements WebFilter {
 
-    @Value("${jwt.secret}")
-    private String secret;
-
     private final JwtTokenUtils jwtTokenUtils;
+    private final InternalIdentitySigner internalIdentitySigner;
 
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
         String authHeader = exchange.getRequest().getHeaders().getFirst("Authorization");
-        String jwtToken = null;
 
         if (authHeader != null && authHeader.length() >= 7 && authHeader.startsWith("Bearer ")) {
-            jwtToken = authHeader.substring(7);
+            String jwtToken = authHeader.substring(7);
+            InternalIdentity identity;
             try {
-                String username = jwtTokenUtils.getUsername(jwtToken);
-                List<GrantedAuthority> authorities = jwtTokenUtils.getRoles(jwtToken).stream()
-                        .map(SimpleGrantedAuthority::new)
-                        .collect(Collectors.toList());
-
-                UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(username, null, authorities);
-
-                return chain.filter(exchange)
-                        .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication));
+                identity = jwtTokenUtils.getIdentity(jwtToken);
             } catch (Exception e) {
-                exchange.getResponse().setStatusCode(org.springframework.http.HttpStatus.UNAUTHORIZED);
+                exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
                 return exchange.getResponse().setComplete();
             }
+
+            String signedIdentity = internalIdentitySigner.sign(identity, jwtToken);
+            ServerHttpRequest request = exchange.getRequest().mutate()
+                    .headers(headers -> headers.set(InternalIdentitySigner.HEADER, signedIdentity))
+                    .build();
+
+            return chain.filter(exchange.mutate().request(request).build())
+                    .contextWrite(ReactiveSecurityContextHolder.withAuthentication(identity.toAuthentication(jwtToken)));
+        }
+
+        if (exchange.getRequest().getHeaders().containsKey(InternalIdentitySigner.HEADER)) {
+            ServerHttpRequest request = exchange.getRequest().mutate()
+                    .headers(headers -> headers.remove(InternalIdentitySigner.HEADER))
+                    .build();
+            return chain.filter(exchange.mutate().request(request).build());
         }
 
         return chain.filter(exchange);
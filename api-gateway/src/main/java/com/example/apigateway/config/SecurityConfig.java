@@ -35,6 +35,7 @@ public class SecurityConfig {
                         .pathMatchers(HttpMethod.GET, "/api/v1/features/**").permitAll()
                         .pathMatchers(HttpMethod.GET, "/api/v1/properties/**").permitAll()
                         .pathMatchers(HttpMethod.GET, "/api/v1/reviews/**").permitAll()
+                        .pathMatchers(HttpMethod.GET, "/api/v1/pages/**").permitAll()
                         .pathMatchers("/api/v1/auth/**", "/swagger-ui.html",
                                 "/swagger-ui/**", "/v3/api-docs/**", "/swagger-resources/**",
                                 "/api-docs/**", "/webjars/**","/aggregate/**", "/actuator/**").permitAll()
@@ -0,0 +1,37 @@
+package com.example.apigateway.controllers;
+
+import com.example.apigateway.dto.PropertyPageResponse;
+import com.example.apigateway.services.PropertyPageService;
+import com.example.apigateway.utils.PropertyPageException;
+import com.example.common.exception.ErrorResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequiredArgsConstructor
+public class PropertyPageController {
+
+    private final PropertyPageService propertyPageService;
+
+    @GetMapping(path = "${application.endpoint.property-page}")
+    public Mono<ResponseEntity<PropertyPageResponse>> getPropertyPage(@PathVariable("id") Long id,
+                                                                      ServerHttpRequest request) {
+        return propertyPageService.getPropertyPage(id, request.getHeaders())
+                .map(page -> ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(page));
+    }
+
+    @ExceptionHandler
+    private ResponseEntity<ErrorResponse> handleException(PropertyPageException e) {
+        return ResponseEntity.status(e.getStatus())
+                .body(new ErrorResponse(e.getStatus().value(), e.getMessage()));
+    }
+}
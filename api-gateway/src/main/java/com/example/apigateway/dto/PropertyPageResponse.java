@@ -0,0 +1,21 @@
+package com.example.apigateway.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class PropertyPageResponse {
+    private JsonNode property;
+    private JsonNode availableDates;
+    private JsonNode reviews;
+    private Boolean favorite;
+    private List<String> unavailable;
+}
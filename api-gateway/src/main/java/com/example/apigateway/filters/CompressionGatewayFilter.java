@@ -0,0 +1,113 @@
+package com.example.apigateway.filters;
+
+import com.example.apigateway.compression.ResponseCompressor;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+@Component
+public class CompressionGatewayFilter implements GatewayFilter, Ordered {
+
+    private final ResponseCompressor compressor;
+
+    public CompressionGatewayFilter(ResponseCompressor compressor) {
+        this.compressor = compressor;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = new IdentityEncodingRequestDecorator(exchange.getRequest());
+        if (exchange.getRequest().getMethod() == HttpMethod.HEAD) {
+            return chain.filter(exchange.mutate().request(request).build());
+        }
+
+        String encoding = compressor.negotiate(exchange.getRequest().getHeaders());
+        if (encoding != null) {
+            exchange.getAttributes().put(ResponseCompressor.ENCODING_ATTR, encoding);
+        }
+        return chain.filter(exchange.mutate()
+                .request(request)
+                .response(new CompressingResponseDecorator(exchange.getResponse(), routeId(exchange), encoding))
+                .build());
+    }
+
+    @Override
+    public int getOrder() {
+        return NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 3;
+    }
+
+    private String routeId(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        return route != null ? route.getId() : "unknown";
+    }
+
+    private static class IdentityEncodingRequestDecorator extends ServerHttpRequestDecorator {
+        private final HttpHeaders headers;
+
+        IdentityEncodingRequestDecorator(ServerHttpRequest delegate) {
+            super(delegate);
+            HttpHeaders copy = new HttpHeaders();
+            copy.putAll(delegate.getHeaders());
+            copy.remove(HttpHeaders.ACCEPT_ENCODING);
+            this.headers = HttpHeaders.readOnlyHttpHeaders(copy);
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+
+    private class CompressingResponseDecorator extends ServerHttpResponseDecorator {
+        private final String route;
+        private final String encoding;
+
+        CompressingResponseDecorator(ServerHttpResponse delegate, String route, String encoding) {
+            super(delegate);
+            this.route = route;
+            this.encoding = encoding;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            HttpHeaders headers = getHeaders();
+            if (!compressor.isCompressible(headers)) {
+                return super.writeWith(body);
+            }
+            compressor.addVary(headers);
+            long contentLength = headers.getContentLength();
+            if (encoding == null || (contentLength >= 0 && !compressor.isLargeEnough(contentLength))) {
+                return super.writeWith(body);
+            }
+
+            return DataBufferUtils.join(body).flatMap(joined -> {
+                byte[] bytes = new byte[joined.readableByteCount()];
+                joined.read(bytes);
+                DataBufferUtils.release(joined);
+
+                if (!compressor.isLargeEnough(bytes.length)) {
+                    return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+                }
+                byte[] encoded = compressor.encode(route, encoding, bytes);
+                compressor.applyHeaders(headers, encoding, encoded.length);
+                compressor.count(route, encoding, "live");
+                return super.writeWith(Mono.just(bufferFactory().wrap(encoded)));
+            });
+        }
+    }
+}
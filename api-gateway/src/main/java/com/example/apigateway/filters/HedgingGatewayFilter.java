@@ -0,0 +1,272 @@
+package com.example.apigateway.filters;
+
+import com.example.apigateway.loadbalancer.EwmaLoadBalancer;
+import com.example.apigateway.loadbalancer.InstanceLatencyTracker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.ReactiveLoadBalancerClientFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseCookie;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebExchangeDecorator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.netty.Connection;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+public class HedgingGatewayFilter implements GatewayFilter, Ordered {
+
+    private static final int HEDGE_COST = 100;
+    private static final int MAX_BUDGET = 10 * HEDGE_COST;
+
+    private final AtomicInteger budget = new AtomicInteger(MAX_BUDGET);
+    private final MeterRegistry meterRegistry;
+    private final Duration minDelay;
+    private final Duration maxDelay;
+    private final int budgetPercent;
+
+    public HedgingGatewayFilter(MeterRegistry meterRegistry,
+                                @Value("${application.hedging.min-delay}") Duration minDelay,
+                                @Value("${application.hedging.max-delay}") Duration maxDelay,
+                                @Value("${application.hedging.budget-percent}") int budgetPercent) {
+        this.meterRegistry = meterRegistry;
+        this.minDelay = minDelay;
+        this.maxDelay = maxDelay;
+        this.budgetPercent = budgetPercent;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (exchange.getRequest().getMethod() != HttpMethod.GET) {
+            return chain.filter(exchange);
+        }
+
+        String route = routeId(exchange);
+        Timer latency = latencyTimer(route);
+        budget.updateAndGet(current -> Math.min(current + budgetPercent, MAX_BUDGET));
+
+        Attempt primary = new Attempt(exchange, null);
+        Mono<Attempt> hedge = Mono.delay(hedgeDelay(latency))
+                .filter(tick -> tryAcquireHedge())
+                .map(tick -> new Attempt(exchange, primary.instanceKey()))
+                .flatMap(attempt -> {
+                    count(route, "hedged");
+                    return attempt.run(chain, latency);
+                });
+
+        return Flux.merge(primary.run(chain, latency), hedge)
+                .filter(Attempt::succeeded)
+                .next()
+                .doOnDiscard(Attempt.class, Attempt::release)
+                .switchIfEmpty(Mono.defer(() -> Mono.error(primary.error)))
+                .flatMap(winner -> {
+                    count(route, winner == primary ? "primary" : "hedge");
+                    winner.applyTo(exchange);
+                    return Mono.empty();
+                });
+    }
+
+    @Override
+    public int getOrder() {
+        return ReactiveLoadBalancerClientFilter.LOAD_BALANCER_CLIENT_FILTER_ORDER - 1;
+    }
+
+    private Duration hedgeDelay(Timer latency) {
+        for (ValueAtPercentile percentile : latency.takeSnapshot().percentileValues()) {
+            if (percentile.percentile() == 0.95 && percentile.value() > 0) {
+                Duration p95 = Duration.ofNanos((long) percentile.value(TimeUnit.NANOSECONDS));
+                return p95.compareTo(minDelay) < 0 ? minDelay : p95.compareTo(maxDelay) > 0 ? maxDelay : p95;
+            }
+        }
+        return maxDelay;
+    }
+
+    private boolean tryAcquireHedge() {
+        int current;
+        do {
+            current = budget.get();
+            if (current < HEDGE_COST) {
+                return false;
+            }
+        } while (!budget.compareAndSet(current, current - HEDGE_COST));
+        return true;
+    }
+
+    private Timer latencyTimer(String route) {
+        return Timer.builder("gateway.hedging.attempt.latency")
+                .tag("route", route)
+                .publishPercentiles(0.95)
+                .register(meterRegistry);
+    }
+
+    private String routeId(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        return route != null ? route.getId() : "unknown";
+    }
+
+    private void count(String route, String result) {
+        Counter.builder("gateway.hedging.requests")
+                .tag("route", route)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static class Attempt {
+        private final IsolatedExchange exchange;
+        private Throwable error;
+        private boolean succeeded;
+
+        Attempt(ServerWebExchange source, String excludedInstance) {
+            this.exchange = new IsolatedExchange(source);
+            if (excludedInstance != null) {
+                exchange.getAttributes().put(EwmaLoadBalancer.EXCLUDED_INSTANCE_ATTR, excludedInstance);
+            }
+        }
+
+        Mono<Attempt> run(GatewayFilterChain chain, Timer latency) {
+            return Mono.defer(() -> {
+                long start = System.nanoTime();
+                return chain.filter(exchange)
+                        .doFinally(signal -> {
+                            if (signal != SignalType.ON_ERROR) {
+                                latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                            }
+                        })
+                        .then(Mono.fromCallable(() -> {
+                            succeeded = true;
+                            return this;
+                        }))
+                        .onErrorResume(e -> {
+                            error = e;
+                            return Mono.just(this);
+                        });
+            });
+        }
+
+        boolean succeeded() {
+            return succeeded;
+        }
+
+        String instanceKey() {
+            Response<ServiceInstance> response = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR);
+            return response != null && response.hasServer() ? InstanceLatencyTracker.key(response.getServer()) : null;
+        }
+
+        void applyTo(ServerWebExchange target) {
+            target.getAttributes().putAll(exchange.getAttributes());
+            target.getAttributes().remove(EwmaLoadBalancer.EXCLUDED_INSTANCE_ATTR);
+            ServerHttpResponse response = target.getResponse();
+            if (exchange.response.status != null) {
+                response.setStatusCode(exchange.response.status);
+            }
+            response.getHeaders().putAll(exchange.response.headers);
+            exchange.response.cookies.values().forEach(cookies -> cookies.forEach(response::addCookie));
+        }
+
+        void release() {
+            Connection connection = exchange.getAttribute(ServerWebExchangeUtils.CLIENT_RESPONSE_CONN_ATTR);
+            if (connection != null) {
+                connection.dispose();
+            }
+        }
+    }
+
+    private static class IsolatedExchange extends ServerWebExchangeDecorator {
+        private final Map<String, Object> attributes;
+        private final IsolatedResponse response;
+
+        IsolatedExchange(ServerWebExchange delegate) {
+            super(delegate);
+            this.attributes = new HashMap<>(delegate.getAttributes());
+            this.response = new IsolatedResponse(delegate.getResponse());
+        }
+
+        @Override
+        public ServerHttpResponse getResponse() {
+            return response;
+        }
+
+        @Override
+        public Map<String, Object> getAttributes() {
+            return attributes;
+        }
+    }
+
+    private static class IsolatedResponse extends ServerHttpResponseDecorator {
+        private final HttpHeaders headers = new HttpHeaders();
+        private final MultiValueMap<String, ResponseCookie> cookies = new LinkedMultiValueMap<>();
+        private HttpStatusCode status;
+
+        IsolatedResponse(ServerHttpResponse delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public boolean setStatusCode(HttpStatusCode status) {
+            this.status = status;
+            return true;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() {
+            return status;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public MultiValueMap<String, ResponseCookie> getCookies() {
+            return cookies;
+        }
+
+        @Override
+        public void addCookie(ResponseCookie cookie) {
+            cookies.add(cookie.getName(), cookie);
+        }
+
+        @Override
+        public boolean isCommitted() {
+            return false;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            return Mono.error(new IllegalStateException("Hedged attempts must not write the response body"));
+        }
+
+        @Override
+        public Mono<Void> setComplete() {
+            return Mono.error(new IllegalStateException("Hedged attempts must not complete the response"));
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.apigateway.filters;
+
+import com.example.apigateway.ratelimit.MeteredRedisRateLimiter;
+import com.example.apigateway.ratelimit.UserOrAddressKeyResolver;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.ratelimit.RedisRateLimiter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+
+/**
+ * Gives the property page endpoint the rate limit and compression the proxied routes get. The page is served by a
+ * controller rather than a route, and each request fans out to several upstream calls.
+ */
+@Component
+public class PropertyPageTrafficFilter implements WebFilter {
+
+    public static final String ROUTE_ID = "property_page";
+
+    private static final Route ROUTE = Route.async()
+            .id(ROUTE_ID)
+            .uri(URI.create("forward:/"))
+            .predicate(exchange -> true)
+            .build();
+
+    private final MeteredRedisRateLimiter rateLimiter;
+    private final UserOrAddressKeyResolver keyResolver;
+    private final CompressionGatewayFilter compression;
+    private final PathPattern path;
+
+    public PropertyPageTrafficFilter(MeteredRedisRateLimiter rateLimiter,
+                                     UserOrAddressKeyResolver keyResolver,
+                                     CompressionGatewayFilter compression,
+                                     @Value("${application.endpoint.property-page}") String path) {
+        this.rateLimiter = rateLimiter;
+        this.keyResolver = keyResolver;
+        this.compression = compression;
+        this.path = PathPatternParser.defaultInstance.parse(path);
+        // Matches the tightest of the routes the page aggregates
+        rateLimiter.getConfig().put(ROUTE_ID, new RedisRateLimiter.Config()
+                .setReplenishRate(20)
+                .setBurstCapacity(40));
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!path.matches(exchange.getRequest().getPath().pathWithinApplication())) {
+            return chain.filter(exchange);
+        }
+
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, ROUTE);
+        return keyResolver.resolve(exchange)
+                .flatMap(key -> rateLimiter.isAllowed(ROUTE_ID, key))
+                .flatMap(response -> {
+                    ServerHttpResponse httpResponse = exchange.getResponse();
+                    response.getHeaders().forEach(httpResponse.getHeaders()::add);
+                    if (!response.isAllowed()) {
+                        httpResponse.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+                        return httpResponse.setComplete();
+                    }
+                    return compression.filter(exchange, chain::filter);
+                });
+    }
+}
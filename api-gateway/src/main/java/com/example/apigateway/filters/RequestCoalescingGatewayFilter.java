@@ -0,0 +1,170 @@
+package com.example.apigateway.filters;
+
+import com.example.apigateway.utils.HeaderUtils;
+import com.example.apigateway.utils.RequestKeyUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+public class RequestCoalescingGatewayFilter implements GatewayFilter, Ordered {
+
+    private final ConcurrentHashMap<String, InFlight> inFlight = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final int maxBodySize;
+
+    public RequestCoalescingGatewayFilter(MeterRegistry meterRegistry,
+                                          @Value("${application.request-coalescing.max-body-size}") DataSize maxBodySize) {
+        this.meterRegistry = meterRegistry;
+        this.maxBodySize = (int) maxBodySize.toBytes();
+
+        Gauge.builder("gateway.coalescing.in.flight", inFlight, ConcurrentHashMap::size)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (request.getMethod() != HttpMethod.GET) {
+            return chain.filter(exchange);
+        }
+
+        String key = coalescingKey(request);
+        InFlight leader = new InFlight();
+        InFlight existing = inFlight.putIfAbsent(key, leader);
+        String route = routeId(exchange);
+
+        if (existing != null) {
+            existing.followers.incrementAndGet();
+            count(route, "follower");
+            return existing.response.asMono()
+                    .map(Optional::of)
+                    .defaultIfEmpty(Optional.empty())
+                    .flatMap(shared -> shared
+                            .map(response -> write(exchange.getResponse(), response))
+                            .orElseGet(() -> chain.filter(exchange)));
+        }
+
+        count(route, "leader");
+        return chain.filter(exchange.mutate()
+                        .response(new CapturingResponseDecorator(exchange.getResponse(), leader))
+                        .build())
+                .doOnError(leader.response::tryEmitError)
+                .doFinally(signal -> {
+                    inFlight.remove(key, leader);
+                    leader.response.tryEmitEmpty();
+                    DistributionSummary.builder("gateway.coalescing.fanout")
+                            .tag("route", route)
+                            .register(meterRegistry)
+                            .record(leader.followers.get());
+                });
+    }
+
+    @Override
+    public int getOrder() {
+        return NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1;
+    }
+
+    private static String coalescingKey(ServerHttpRequest request) {
+        String path = RequestKeyUtils.normalizePath(request.getPath().pathWithinApplication().value());
+        HttpHeaders headers = request.getHeaders();
+        return String.join("|",
+                RequestKeyUtils.requestKey(path, request.getQueryParams()),
+                String.valueOf(headers.getFirst(HttpHeaders.AUTHORIZATION)),
+                String.valueOf(headers.getFirst(HttpHeaders.ACCEPT)),
+                String.valueOf(headers.getFirst(HttpHeaders.IF_NONE_MATCH)));
+    }
+
+    private static Mono<Void> write(ServerHttpResponse response, SharedResponse shared) {
+        response.setStatusCode(shared.status());
+        response.getHeaders().putAll(shared.headers());
+        if (shared.body().length == 0) {
+            return response.setComplete();
+        }
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(shared.body())));
+    }
+
+    private String routeId(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        return route != null ? route.getId() : "unknown";
+    }
+
+    private void count(String route, String role) {
+        Counter.builder("gateway.coalescing.requests")
+                .tag("route", route)
+                .tag("role", role)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private record SharedResponse(HttpStatusCode status, HttpHeaders headers, byte[] body) {
+    }
+
+    private static class InFlight {
+        private final Sinks.One<SharedResponse> response = Sinks.one();
+        private final AtomicInteger followers = new AtomicInteger();
+    }
+
+    private class CapturingResponseDecorator extends ServerHttpResponseDecorator {
+        private final InFlight leader;
+
+        CapturingResponseDecorator(ServerHttpResponse delegate, InFlight leader) {
+            super(delegate);
+            this.leader = leader;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            if (getHeaders().getContentLength() > maxBodySize) {
+                return super.writeWith(body);
+            }
+
+            return DataBufferUtils.join(body).flatMap(joined -> {
+                byte[] bytes = new byte[joined.readableByteCount()];
+                joined.read(bytes);
+                DataBufferUtils.release(joined);
+
+                if (bytes.length <= maxBodySize && !getHeaders().containsKey(HttpHeaders.SET_COOKIE)) {
+                    leader.response.tryEmitValue(new SharedResponse(getStatusCode(),
+                            HeaderUtils.shareableCopy(getHeaders()), bytes));
+                }
+                return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+            });
+        }
+
+        @Override
+        public Mono<Void> setComplete() {
+            if (!getHeaders().containsKey(HttpHeaders.SET_COOKIE)) {
+                leader.response.tryEmitValue(new SharedResponse(getStatusCode(),
+                        HeaderUtils.shareableCopy(getHeaders()), new byte[0]));
+            }
+            return super.setComplete();
+        }
+    }
+}
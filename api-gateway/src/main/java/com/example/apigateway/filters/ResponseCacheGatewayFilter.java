@@ -0,0 +1,299 @@
+package com.example.apigateway.filters;
+
+import com.example.apigateway.cache.CachedResponse;
+import com.example.apigateway.cache.ResponseCache;
+import com.example.apigateway.compression.ResponseCompressor;
+import com.example.apigateway.utils.HeaderUtils;
+import com.example.apigateway.utils.RequestKeyUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+
+public class ResponseCacheGatewayFilter implements GatewayFilter, Ordered {
+
+    private static final String CACHE_HEADER = "X-Cache";
+
+    private final ResponseCache responseCache;
+    private final ResponseCompressor compressor;
+    private final MeterRegistry meterRegistry;
+    private final List<PathPattern> cacheablePaths;
+
+    public ResponseCacheGatewayFilter(ResponseCache responseCache, ResponseCompressor compressor,
+                                      MeterRegistry meterRegistry, List<String> cacheablePaths) {
+        this.responseCache = responseCache;
+        this.compressor = compressor;
+        this.meterRegistry = meterRegistry;
+        this.cacheablePaths = cacheablePaths.stream()
+                .map(PathPatternParser.defaultInstance::parse)
+                .toList();
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        exchange.getResponse().beforeCommit(() -> {
+            exchange.getResponse().getHeaders().remove(ResponseCache.TTL_HEADER);
+            return Mono.empty();
+        });
+        ServerHttpRequest request = exchange.getRequest();
+        if (request.getMethod() != HttpMethod.GET || request.getHeaders().containsKey(HttpHeaders.AUTHORIZATION)) {
+            return chain.filter(exchange);
+        }
+
+        String path = RequestKeyUtils.normalizePath(request.getPath().pathWithinApplication().value());
+        PathPattern.PathMatchInfo matchInfo = match(path);
+        if (matchInfo == null) {
+            return chain.filter(exchange);
+        }
+
+        String requestCacheControl = String.join(",", request.getHeaders().getOrEmpty(HttpHeaders.CACHE_CONTROL))
+                .toLowerCase(Locale.ROOT);
+        if (requestCacheControl.contains("no-store")) {
+            count(exchange, "bypass");
+            return chain.filter(exchange);
+        }
+
+        String key = RequestKeyUtils.requestKey(path, request.getQueryParams());
+        if (!requestCacheControl.contains("no-cache") && !requestCacheControl.contains("max-age=0")) {
+            CachedResponse cached = responseCache.get(key).orElse(null);
+            if (cached != null) {
+                return writeCached(exchange, cached);
+            }
+        }
+
+        count(exchange, "miss");
+        Long propertyId = propertyId(matchInfo);
+        long generation = responseCache.generation();
+        return chain.filter(exchange.mutate()
+                .response(new CachingResponseDecorator(exchange, key, propertyId, generation))
+                .build());
+    }
+
+    @Override
+    public int getOrder() {
+        return NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 2;
+    }
+
+    private Mono<Void> writeCached(ServerWebExchange exchange, CachedResponse cached) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.getHeaders().putAll(cached.headers());
+        response.getHeaders().set(CACHE_HEADER, "HIT");
+        response.getHeaders().set(HttpHeaders.AGE,
+                String.valueOf(Duration.between(cached.storedAt(), Instant.now()).toSeconds()));
+        if (compressor.isCompressible(cached.headers())) {
+            compressor.addVary(response.getHeaders());
+        }
+
+        String encoding = encoding(exchange, cached.headers(), cached.body().length);
+        String etag = encoding != null ? ResponseCompressor.encodedEtag(cached.etag(), encoding) : cached.etag();
+        if (matchesIfNoneMatch(exchange.getRequest(), etag)) {
+            count(exchange, "not_modified");
+            response.getHeaders().setETag(etag);
+            return writeNotModified(response);
+        }
+
+        count(exchange, "hit");
+        response.setStatusCode(cached.status());
+        if (encoding == null) {
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.body())));
+        }
+        String route = routeId(exchange);
+        boolean precompressed = cached.hasEncodedBody(encoding);
+        byte[] encoded = cached.encodedBody(encoding, body -> compressor.encode(route, encoding, body));
+        compressor.applyHeaders(response.getHeaders(), encoding, encoded.length);
+        compressor.count(route, encoding, precompressed ? "cache" : "live");
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(encoded)));
+    }
+
+    private String encoding(ServerWebExchange exchange, HttpHeaders headers, int bodyLength) {
+        String encoding = exchange.getAttribute(ResponseCompressor.ENCODING_ATTR);
+        return encoding != null && compressor.isCompressible(headers) && compressor.isLargeEnough(bodyLength)
+                ? encoding : null;
+    }
+
+    private Mono<Void> writeNotModified(ServerHttpResponse response) {
+        response.setStatusCode(HttpStatus.NOT_MODIFIED);
+        response.getHeaders().remove(HttpHeaders.CONTENT_TYPE);
+        response.getHeaders().remove(HttpHeaders.CONTENT_LENGTH);
+        return response.setComplete();
+    }
+
+    private PathPattern.PathMatchInfo match(String path) {
+        PathContainer pathContainer = PathContainer.parsePath(path);
+        for (PathPattern pattern : cacheablePaths) {
+            PathPattern.PathMatchInfo matchInfo = pattern.matchAndExtract(pathContainer);
+            if (matchInfo != null) {
+                return matchInfo;
+            }
+        }
+        return null;
+    }
+
+    private Long propertyId(PathPattern.PathMatchInfo matchInfo) {
+        String id = matchInfo.getUriVariables().get("id");
+        return id != null ? Long.valueOf(id) : null;
+    }
+
+    private static boolean matchesIfNoneMatch(ServerHttpRequest request, String etag) {
+        if (etag == null) {
+            return false;
+        }
+        String opaqueTag = stripWeak(etag);
+        return request.getHeaders().getIfNoneMatch().stream()
+                .anyMatch(candidate -> candidate.equals("*") || stripWeak(candidate).equals(opaqueTag));
+    }
+
+    private static String stripWeak(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    private static String generateEtag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest).substring(0, 22) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private Duration timeToLive(HttpHeaders headers) {
+        String cacheControl = String.join(",", headers.getOrEmpty(HttpHeaders.CACHE_CONTROL))
+                .toLowerCase(Locale.ROOT);
+        if (cacheControl.contains("no-store") || cacheControl.contains("private")) {
+            return Duration.ZERO;
+        }
+        String gatewayTtl = headers.getFirst(ResponseCache.TTL_HEADER);
+        if (gatewayTtl != null) {
+            try {
+                return min(Duration.ofSeconds(Long.parseLong(gatewayTtl.trim())), responseCache.maxTtl());
+            } catch (NumberFormatException e) {
+                return Duration.ZERO;
+            }
+        }
+        if (cacheControl.contains("no-cache")) {
+            return Duration.ZERO;
+        }
+
+        Duration ttl = responseCache.defaultTtl();
+        for (String directive : cacheControl.split(",")) {
+            String trimmed = directive.trim();
+            if (trimmed.startsWith("s-maxage=") || (trimmed.startsWith("max-age=") && !cacheControl.contains("s-maxage="))) {
+                try {
+                    ttl = Duration.ofSeconds(Long.parseLong(trimmed.substring(trimmed.indexOf('=') + 1)));
+                } catch (NumberFormatException e) {
+                    return Duration.ZERO;
+                }
+            }
+        }
+        return min(ttl, responseCache.maxTtl());
+    }
+
+    private static Duration min(Duration ttl, Duration maxTtl) {
+        return ttl.compareTo(maxTtl) > 0 ? maxTtl : ttl;
+    }
+
+    private String routeId(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        return route != null ? route.getId() : "unknown";
+    }
+
+    private void count(ServerWebExchange exchange, String result) {
+        Counter.builder("gateway.response.cache.requests")
+                .tag("route", routeId(exchange))
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private class CachingResponseDecorator extends ServerHttpResponseDecorator {
+        private final ServerWebExchange exchange;
+        private final String key;
+        private final Long propertyId;
+        private final long generation;
+
+        CachingResponseDecorator(ServerWebExchange exchange, String key, Long propertyId, long generation) {
+            super(exchange.getResponse());
+            this.exchange = exchange;
+            this.key = key;
+            this.propertyId = propertyId;
+            this.generation = generation;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            HttpStatusCode status = getStatusCode();
+            HttpHeaders headers = getHeaders();
+            Duration ttl = timeToLive(headers);
+            if (status == null || status.value() != HttpStatus.OK.value()
+                    || headers.containsKey(HttpHeaders.SET_COOKIE)
+                    || headers.getVary().contains("*")
+                    || ttl.isZero() || ttl.isNegative()) {
+                return super.writeWith(body);
+            }
+
+            return DataBufferUtils.join(body).flatMap(joined -> {
+                byte[] bytes = new byte[joined.readableByteCount()];
+                joined.read(bytes);
+                DataBufferUtils.release(joined);
+
+                if (headers.getETag() == null) {
+                    headers.setETag(generateEtag(bytes));
+                }
+                if (headers.getCacheControl() == null) {
+                    headers.setCacheControl(CacheControl.maxAge(ttl).cachePublic());
+                }
+
+                Instant now = Instant.now();
+                CachedResponse cached = new CachedResponse(status, HeaderUtils.shareableCopy(headers, CACHE_HEADER, ResponseCache.TTL_HEADER),
+                        bytes, headers.getETag(), propertyId, now, now.plus(ttl));
+                responseCache.put(key, cached, generation);
+
+                headers.set(CACHE_HEADER, "MISS");
+                String encoding = encoding(exchange, headers, bytes.length);
+                if (encoding == null) {
+                    if (matchesIfNoneMatch(exchange.getRequest(), headers.getETag())) {
+                        return writeNotModified(getDelegate());
+                    }
+                    return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+                }
+
+                String route = routeId(exchange);
+                byte[] encoded = cached.encodedBody(encoding, identity -> compressor.encode(route, encoding, identity));
+                compressor.applyHeaders(headers, encoding, encoded.length);
+                if (matchesIfNoneMatch(exchange.getRequest(), headers.getETag())) {
+                    return writeNotModified(getDelegate());
+                }
+                compressor.count(route, encoding, "live");
+                return super.writeWith(Mono.just(bufferFactory().wrap(encoded)));
+            });
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.apigateway.loadbalancer;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class EwmaLoadBalancer implements ReactorServiceInstanceLoadBalancer {
+
+    public static final String EXCLUDED_INSTANCE_ATTR = EwmaLoadBalancer.class.getName() + ".excludedInstance";
+
+    private final ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider;
+    private final InstanceLatencyTracker latencyTracker;
+
+    public EwmaLoadBalancer(ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider,
+                            InstanceLatencyTracker latencyTracker) {
+        this.serviceInstanceListSupplierProvider = serviceInstanceListSupplierProvider;
+        this.latencyTracker = latencyTracker;
+    }
+
+    @Override
+    public Mono<Response<ServiceInstance>> choose(Request request) {
+        ServiceInstanceListSupplier supplier = serviceInstanceListSupplierProvider
+                .getIfAvailable(NoopServiceInstanceListSupplier::new);
+        String excluded = excludedInstance(request);
+        return supplier.get(request).next()
+                .map(instances -> choose(instances, excluded));
+    }
+
+    private Response<ServiceInstance> choose(List<ServiceInstance> instances, String excluded) {
+        List<ServiceInstance> candidates = instances;
+        if (excluded != null && instances.size() > 1) {
+            candidates = instances.stream()
+                    .filter(instance -> !InstanceLatencyTracker.key(instance).equals(excluded))
+                    .toList();
+        }
+        if (candidates.isEmpty()) {
+            return new EmptyResponse();
+        }
+        if (candidates.size() == 1) {
+            return new DefaultResponse(candidates.get(0));
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(candidates.size());
+        int second = random.nextInt(candidates.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        ServiceInstance a = candidates.get(first);
+        ServiceInstance b = candidates.get(second);
+        return new DefaultResponse(latencyTracker.cost(b) < latencyTracker.cost(a) ? b : a);
+    }
+
+    private static String excludedInstance(Request request) {
+        if (request.getContext() instanceof RequestDataContext context && context.getClientRequest() != null) {
+            Object excluded = context.getClientRequest().getAttributes().get(EXCLUDED_INSTANCE_ATTR);
+            return excluded instanceof String key ? key : null;
+        }
+        return null;
+    }
+}
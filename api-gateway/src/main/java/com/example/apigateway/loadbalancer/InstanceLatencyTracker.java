@@ -0,0 +1,106 @@
+package com.example.apigateway.loadbalancer;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+public class InstanceLatencyTracker {
+
+    private final ConcurrentHashMap<String, InstanceStats> stats = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final double smoothing;
+    private final double decayNanos;
+    private final long failurePenaltyNanos;
+
+    public InstanceLatencyTracker(MeterRegistry meterRegistry,
+                                  @Value("${application.load-balancer.smoothing}") double smoothing,
+                                  @Value("${application.load-balancer.decay-time}") Duration decayTime,
+                                  @Value("${application.load-balancer.failure-penalty}") Duration failurePenalty) {
+        this.meterRegistry = meterRegistry;
+        this.smoothing = smoothing;
+        this.decayNanos = decayTime.toNanos();
+        this.failurePenaltyNanos = failurePenalty.toNanos();
+    }
+
+    public static String key(ServiceInstance instance) {
+        return instance.getServiceId() + "@" + instance.getHost() + ":" + instance.getPort();
+    }
+
+    public long start(ServiceInstance instance) {
+        stats(instance).inFlight.incrementAndGet();
+        return System.nanoTime();
+    }
+
+    public void complete(ServiceInstance instance, long startNanos) {
+        long now = System.nanoTime();
+        InstanceStats instanceStats = stats(instance);
+        instanceStats.inFlight.decrementAndGet();
+        instanceStats.observe(now - startNanos, now);
+    }
+
+    public void fail(ServiceInstance instance, long startNanos) {
+        long now = System.nanoTime();
+        InstanceStats instanceStats = stats(instance);
+        instanceStats.inFlight.decrementAndGet();
+        instanceStats.observe(Math.max(now - startNanos, failurePenaltyNanos), now);
+    }
+
+    public void cancel(ServiceInstance instance, long startNanos) {
+        long now = System.nanoTime();
+        InstanceStats instanceStats = stats(instance);
+        instanceStats.inFlight.decrementAndGet();
+        instanceStats.observeAtLeast(now - startNanos, now);
+    }
+
+    public double cost(ServiceInstance instance) {
+        InstanceStats instanceStats = stats.get(key(instance));
+        return instanceStats != null ? instanceStats.cost(System.nanoTime()) : 0;
+    }
+
+    private InstanceStats stats(ServiceInstance instance) {
+        return stats.computeIfAbsent(key(instance), key -> {
+            InstanceStats instanceStats = new InstanceStats();
+            Gauge.builder("gateway.loadbalancer.latency.ewma", instanceStats,
+                            s -> s.decayed(System.nanoTime()) / TimeUnit.MILLISECONDS.toNanos(1))
+                    .tag("service", instance.getServiceId())
+                    .tag("instance", instance.getHost() + ":" + instance.getPort())
+                    .baseUnit("milliseconds")
+                    .register(meterRegistry);
+            return instanceStats;
+        });
+    }
+
+    private class InstanceStats {
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private double ewmaNanos;
+        private long updatedAt = System.nanoTime();
+
+        synchronized void observe(long rttNanos, long now) {
+            double current = decayed(now);
+            ewmaNanos = current == 0 ? rttNanos : current + smoothing * (rttNanos - current);
+            updatedAt = now;
+        }
+
+        synchronized void observeAtLeast(long elapsedNanos, long now) {
+            if (elapsedNanos > decayed(now)) {
+                observe(elapsedNanos, now);
+            }
+        }
+
+        synchronized double decayed(long now) {
+            return ewmaNanos * Math.exp(-Math.max(now - updatedAt, 0) / decayNanos);
+        }
+
+        double cost(long now) {
+            return decayed(now) * (inFlight.get() + 1);
+        }
+    }
+}
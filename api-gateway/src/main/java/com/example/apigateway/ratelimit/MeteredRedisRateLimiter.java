@@ -0,0 +1,48 @@
+package com.example.apigateway.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cloud.gateway.filter.ratelimit.RedisRateLimiter;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@Component
+public class MeteredRedisRateLimiter extends RedisRateLimiter {
+
+    private final MeterRegistry meterRegistry;
+
+    public MeteredRedisRateLimiter(ReactiveStringRedisTemplate redisTemplate,
+                                   @Qualifier(REDIS_SCRIPT_NAME) RedisScript<List<Long>> script,
+                                   ConfigurationService configurationService,
+                                   MeterRegistry meterRegistry) {
+        super(redisTemplate, script, configurationService);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Mono<Response> isAllowed(String routeId, String id) {
+        return super.isAllowed(routeId, id)
+                .doOnNext(response -> count(routeId, result(response)));
+    }
+
+    private static String result(Response response) {
+        if (!response.isAllowed()) {
+            return "throttled";
+        }
+        return "-1".equals(response.getHeaders().get(REMAINING_HEADER)) ? "unavailable" : "allowed";
+    }
+
+    private void count(String routeId, String result) {
+        Counter.builder("gateway.ratelimit.requests")
+                .tag("route", routeId)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+}
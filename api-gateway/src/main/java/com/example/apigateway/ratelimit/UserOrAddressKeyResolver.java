@@ -0,0 +1,54 @@
+package com.example.apigateway.ratelimit;
+
+import com.example.common.security.InternalIdentity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.ratelimit.KeyResolver;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.cloud.gateway.support.ipresolver.RemoteAddressResolver;
+import org.springframework.cloud.gateway.support.ipresolver.XForwardedRemoteAddressResolver;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+
+@Component
+public class UserOrAddressKeyResolver implements KeyResolver {
+
+    private final RemoteAddressResolver remoteAddressResolver;
+
+    /**
+     * @param trustedProxies number of proxies in front of the gateway that append to {@code X-Forwarded-For};
+     *                       zero ignores the header so clients cannot pick their own bucket
+     */
+    public UserOrAddressKeyResolver(@Value("${application.rate-limit.trusted-proxies}") int trustedProxies) {
+        this.remoteAddressResolver = trustedProxies > 0
+                ? XForwardedRemoteAddressResolver.maxTrustedIndex(trustedProxies)
+                : new RemoteAddressResolver() {
+                };
+    }
+
+    @Override
+    public Mono<String> resolve(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        String routeId = route != null ? route.getId() : "unknown";
+
+        return ReactiveSecurityContextHolder.getContext()
+                .map(SecurityContext::getAuthentication)
+                .filter(authentication -> authentication.getDetails() instanceof InternalIdentity)
+                .map(authentication -> "user:" + ((InternalIdentity) authentication.getDetails()).userId())
+                .switchIfEmpty(Mono.fromSupplier(() -> "ip:" + remoteAddress(exchange)))
+                .map(key -> routeId + ":" + key);
+    }
+
+    private String remoteAddress(ServerWebExchange exchange) {
+        InetSocketAddress address = remoteAddressResolver.resolve(exchange);
+        if (address == null) {
+            return "unknown";
+        }
+        return address.getAddress() != null ? address.getAddress().getHostAddress() : address.getHostString();
+    }
+}
@@ -1,6 +1,14 @@
 package com.example.apigateway.routes;
 
+import com.example.apigateway.cache.ResponseCache;
+import com.example.apigateway.filters.CompressionGatewayFilter;
+import com.example.apigateway.filters.HedgingGatewayFilter;
+import com.example.apigateway.filters.RequestCoalescingGatewayFilter;
+import com.example.apigateway.ratelimit.MeteredRedisRateLimiter;
+import com.example.apigateway.ratelimit.UserOrAddressKeyResolver;
+import org.springframework.cloud.gateway.filter.ratelimit.RedisRateLimiter;
 import org.springframework.cloud.gateway.route.RouteLocator;
+import org.springframework.cloud.gateway.route.builder.GatewayFilterSpec;
 import org.springframework.cloud.gateway.route.builder.RouteLocatorBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -9,45 +17,79 @@ import org.springframework.context.annotation.Configuration;
 public class Routes {
 
     @Bean
-    public RouteLocator customRoutes(RouteLocatorBuilder builder) {
+    public RouteLocator customRoutes(RouteLocatorBuilder builder,
+                                     ResponseCache responseCache,
+                                     RequestCoalescingGatewayFilter requestCoalescing,
+                                     CompressionGatewayFilter compression,
+                                     HedgingGatewayFilter hedging,
+                                     UserOrAddressKeyResolver rateLimitKeyResolver) {
         return builder.routes()
                 .route("booking_service", r -> r.path("/api/v1/bookings/**")
-                        .uri("http://booking-service:8080"))
+                        .filters(f -> rateLimit(f, rateLimitKeyResolver, 20, 40)
+                                .filter(compression))
+                        .uri("lb://booking-service"))
 
                 .route("booking_service_swagger", r -> r.path("/aggregate/booking-service/v3/api-docs")
                         .filters(f -> f.rewritePath("/aggregate/booking-service/v3/api-docs", "/v3/api-docs"))
-                        .uri("http://booking-service:8080"))
+                        .uri("lb://booking-service"))
 
                 .route("property_service", r -> r.path("/api/v1/properties/**")
-                        .uri("http://property-service:8080"))
+                        .filters(f -> rateLimit(f, rateLimitKeyResolver, 50, 100)
+                                .filter(compression)
+                                .filter(responseCache.filter(
+                                        "/api/v1/properties", "/api/v1/properties/search", "/api/v1/properties/{id:\\d+}"))
+                                .filter(requestCoalescing)
+                                .filter(hedging))
+                        .uri("lb://property-service"))
 
                 .route("image_service", r -> r.path("/api/v1/images/**")
-                        .uri("http://property-service:8080"))
+                        .filters(f -> rateLimit(f, rateLimitKeyResolver, 20, 40))
+                        .uri("lb://property-service"))
 
                 .route("features_service", r -> r.path("/api/v1/features/**")
-                        .uri("http://property-service:8080"))
+                        .filters(f -> rateLimit(f, rateLimitKeyResolver, 50, 100)
+                                .filter(compression)
+                                .filter(responseCache.filter(ResponseCache.FEATURES_PATH))
+                                .filter(hedging))
+                        .uri("lb://property-service"))
 
                 .route("property_service_swagger", r -> r.path("/aggregate/property-service/v3/api-docs")
                         .filters(f -> f.rewritePath("/aggregate/property-service/v3/api-docs", "/v3/api-docs"))
-                        .uri("http://property-service:8080"))
+                        .uri("lb://property-service"))
 
                 .route("review_service", r -> r.path("/api/v1/reviews/**")
-                        .uri("http://review-service:8080"))
+                        .filters(f -> rateLimit(f, rateLimitKeyResolver, 30, 60)
+                                .filter(compression)
+                                .filter(requestCoalescing)
+                                .filter(hedging))
+                        .uri("lb://review-service"))
 
                 .route("review_service_swagger", r -> r.path("/aggregate/review-service/v3/api-docs")
                         .filters(f -> f.rewritePath("/aggregate/review-service/v3/api-docs", "/v3/api-docs"))
-                        .uri("http://review-service:8080"))
+                        .uri("lb://review-service"))
 
                 .route("user_service", r -> r.path("/api/v1/users/**")
-                        .uri("http://user-service:8080"))
+                        .filters(f -> rateLimit(f, rateLimitKeyResolver, 20, 40)
+                                .filter(compression))
+                        .uri("lb://user-service"))
 
                 .route("auth_service", r -> r.path("/api/v1/auth/**")
-                        .uri("http://user-service:8080"))
+                        .filters(f -> rateLimit(f, rateLimitKeyResolver, 5, 10))
+                        .uri("lb://user-service"))
 
                 .route("user_service_swagger", r -> r.path("/aggregate/user-service/v3/api-docs")
                         .filters(f -> f.rewritePath("/aggregate/user-service/v3/api-docs", "/v3/api-docs"))
-                        .uri("http://user-service:8080"))
+                        .uri("lb://user-service"))
 
                 .build();
     }
+
+    private static GatewayFilterSpec rateLimit(GatewayFilterSpec filters, UserOrAddressKeyResolver keyResolver,
+                                               int replenishRate, int burstCapacity) {
+        return filters.requestRateLimiter()
+                .rateLimiter(MeteredRedisRateLimiter.class, (RedisRateLimiter.Config config) -> config
+                        .setReplenishRate(replenishRate)
+                        .setBurstCapacity(burstCapacity))
+                .configure(config -> config.setKeyResolver(keyResolver));
+    }
 }
@@ -0,0 +1,9 @@
+package com.example.apigateway.services;
+
+import com.example.apigateway.dto.PropertyPageResponse;
+import org.springframework.http.HttpHeaders;
+import reactor.core.publisher.Mono;
+
+public interface PropertyPageService {
+    Mono<PropertyPageResponse> getPropertyPage(Long id, HttpHeaders requestHeaders);
+}
@@ -0,0 +1,145 @@
+package com.example.apigateway.services;
+
+import com.example.apigateway.dto.PropertyPageResponse;
+import com.example.apigateway.utils.PropertyPageException;
+import com.example.common.security.InternalIdentitySigner;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeoutException;
+
+@Service
+@Slf4j
+public class PropertyPageServiceImpl implements PropertyPageService {
+
+    private static final String PROPERTY_SERVICE_URL = "http://property-service";
+    private static final String REVIEW_SERVICE_URL = "http://review-service";
+    private static final List<String> FORWARDED_HEADERS = List.of(HttpHeaders.AUTHORIZATION, InternalIdentitySigner.HEADER);
+
+    private final WebClient propertyClient;
+    private final WebClient reviewClient;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${web-client.endpoint.property-by-id}")
+    private String propertyByIdEndpoint;
+
+    @Value("${web-client.endpoint.available-dates}")
+    private String availableDatesEndpoint;
+
+    @Value("${web-client.endpoint.reviews-by-property-id}")
+    private String reviewsEndpoint;
+
+    @Value("${web-client.endpoint.favorite-status}")
+    private String favoriteStatusEndpoint;
+
+    @Value("${application.property-page.timeout.property}")
+    private Duration propertyTimeout;
+
+    @Value("${application.property-page.timeout.available-dates}")
+    private Duration availableDatesTimeout;
+
+    @Value("${application.property-page.timeout.reviews}")
+    private Duration reviewsTimeout;
+
+    @Value("${application.property-page.timeout.favorite}")
+    private Duration favoriteTimeout;
+
+    public PropertyPageServiceImpl(@LoadBalanced WebClient.Builder webClientBuilder,
+                                   MeterRegistry meterRegistry) {
+        this.propertyClient = webClientBuilder.clone().baseUrl(PROPERTY_SERVICE_URL).build();
+        this.reviewClient = webClientBuilder.clone().baseUrl(REVIEW_SERVICE_URL).build();
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Mono<PropertyPageResponse> getPropertyPage(Long id, HttpHeaders requestHeaders) {
+        List<String> unavailable = new CopyOnWriteArrayList<>();
+
+        Mono<JsonNode> property = fetch("property", propertyClient, propertyByIdEndpoint, id, requestHeaders, propertyTimeout)
+                .onErrorMap(this::toPropertyPageException)
+                .switchIfEmpty(Mono.error(new PropertyPageException(HttpStatus.BAD_GATEWAY, "Empty property response")));
+
+        Mono<Optional<JsonNode>> availableDates = optional("availableDates", unavailable,
+                fetch("available-dates", propertyClient, availableDatesEndpoint, id, requestHeaders, availableDatesTimeout)
+                        .map(response -> response.path("availableDates")));
+
+        Mono<Optional<JsonNode>> reviews = optional("reviews", unavailable,
+                fetch("reviews", reviewClient, reviewsEndpoint, id, requestHeaders, reviewsTimeout));
+
+        Mono<Optional<JsonNode>> favorite = requestHeaders.containsKey(HttpHeaders.AUTHORIZATION)
+                ? optional("favorite", unavailable,
+                        fetch("favorite", propertyClient, favoriteStatusEndpoint, id, requestHeaders, favoriteTimeout))
+                : Mono.just(Optional.empty());
+
+        return Mono.zip(property, availableDates, reviews, favorite)
+                .map(parts -> new PropertyPageResponse(
+                        parts.getT1(),
+                        parts.getT2().orElse(null),
+                        parts.getT3().orElse(null),
+                        parts.getT4().map(JsonNode::asBoolean).orElse(null),
+                        List.copyOf(unavailable)));
+    }
+
+    private Mono<JsonNode> fetch(String part, WebClient client, String endpoint, Long id,
+                                 HttpHeaders requestHeaders, Duration timeout) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return client.get()
+                    .uri(endpoint, id)
+                    .accept(MediaType.APPLICATION_JSON)
+                    .headers(headers -> FORWARDED_HEADERS.forEach(name -> {
+                        String value = requestHeaders.getFirst(name);
+                        if (value != null) {
+                            headers.set(name, value);
+                        }
+                    }))
+                    .retrieve()
+                    .bodyToMono(JsonNode.class)
+                    .timeout(timeout)
+                    .doOnSuccess(response -> record(sample, part, "success"))
+                    .doOnError(e -> record(sample, part, e instanceof TimeoutException ? "timeout" : "error"));
+        });
+    }
+
+    private Mono<Optional<JsonNode>> optional(String part, List<String> unavailable, Mono<JsonNode> call) {
+        return call.map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .onErrorResume(e -> {
+                    log.warn("Property page part {} unavailable: {}", part, e.getMessage());
+                    unavailable.add(part);
+                    return Mono.just(Optional.empty());
+                });
+    }
+
+    private Throwable toPropertyPageException(Throwable e) {
+        if (e instanceof WebClientResponseException responseException) {
+            return new PropertyPageException(responseException.getStatusCode(), "Property request failed: " + responseException.getStatusText());
+        }
+        if (e instanceof TimeoutException) {
+            return new PropertyPageException(HttpStatus.GATEWAY_TIMEOUT, "Property request timed out");
+        }
+        return new PropertyPageException(HttpStatus.BAD_GATEWAY, "Property request failed: " + e.getMessage());
+    }
+
+    private void record(Timer.Sample sample, String part, String outcome) {
+        sample.stop(Timer.builder("gateway.property.page.calls")
+                .tag("part", part)
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+}
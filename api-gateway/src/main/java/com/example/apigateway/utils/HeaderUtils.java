@@ -0,0 +1,28 @@
+package com.example.apigateway.utils;
+
+import org.springframework.http.HttpHeaders;
+
+import java.util.List;
+
+public final class HeaderUtils {
+
+    private static final List<String> CONNECTION_SPECIFIC_HEADERS = List.of(
+            HttpHeaders.TRANSFER_ENCODING, HttpHeaders.CONNECTION, HttpHeaders.DATE, HttpHeaders.SET_COOKIE);
+
+    private HeaderUtils() {
+    }
+
+    public static HttpHeaders shareableCopy(HttpHeaders source, String... excluded) {
+        HttpHeaders copy = new HttpHeaders();
+        source.forEach((name, values) -> {
+            if (!name.regionMatches(true, 0, "Access-Control-", 0, 15)) {
+                copy.put(name, List.copyOf(values));
+            }
+        });
+        CONNECTION_SPECIFIC_HEADERS.forEach(copy::remove);
+        for (String name : excluded) {
+            copy.remove(name);
+        }
+        return HttpHeaders.readOnlyHttpHeaders(copy);
+    }
+}
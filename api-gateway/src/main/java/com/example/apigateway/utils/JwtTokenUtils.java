@@ -1,5 +1,6 @@
 package com.example.apigateway.utils;
 
+import com.example.common.security.InternalIdentity;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
@@ -36,7 +37,21 @@ public class JwtTokenUtils {
     }
 
     public List<String> getRoles(String token) {
-        Object roles = getClaimsFromToken(token).get("roles");
+        return getRoles(getClaimsFromToken(token));
+    }
+
+    public InternalIdentity getIdentity(String token) {
+        Claims claims = getClaimsFromToken(token);
+        return new InternalIdentity(
+                claims.get("id", Long.class),
+                claims.getSubject(),
+                claims.get("email", String.class),
+                getRoles(claims),
+                claims.getExpiration().toInstant().getEpochSecond());
+    }
+
+    private List<String> getRoles(Claims claims) {
+        Object roles = claims.get("roles");
 
         if (roles instanceof List<?> roleList) {
             return roleList.stream()
@@ -0,0 +1,14 @@
+package com.example.apigateway.utils;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatusCode;
+
+@Getter
+public class PropertyPageException extends RuntimeException {
+    private final HttpStatusCode status;
+
+    public PropertyPageException(HttpStatusCode status, String message) {
+        super(message);
+        this.status = status;
+    }
+}
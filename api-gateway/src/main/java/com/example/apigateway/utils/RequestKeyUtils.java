@@ -0,0 +1,40 @@
+package com.example.apigateway.utils;
+
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.util.UriUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+public final class RequestKeyUtils {
+
+    private RequestKeyUtils() {
+    }
+
+    public static String normalizePath(String path) {
+        String normalized = path.replaceAll("/{2,}", "/");
+        return normalized.length() > 1 && normalized.endsWith("/")
+                ? normalized.substring(0, normalized.length() - 1)
+                : normalized;
+    }
+
+    public static String requestKey(String path, MultiValueMap<String, String> queryParams) {
+        if (queryParams.isEmpty()) {
+            return path;
+        }
+        TreeMap<String, List<String>> sorted = new TreeMap<>();
+        queryParams.forEach((name, values) -> sorted.put(decode(name), values.stream()
+                .map(value -> value == null ? "" : decode(value))
+                .toList()));
+
+        return path + "?" + sorted.entrySet().stream()
+                .flatMap(entry -> entry.getValue().stream().map(value -> entry.getKey() + "=" + value))
+                .collect(Collectors.joining("&"));
+    }
+
+    private static String decode(String value) {
+        return UriUtils.decode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.apigateway.cache;
+
+import com.example.apigateway.compression.ResponseCompressor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class ResponseCacheTest {
+
+    private ResponseCache responseCache;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        responseCache = new ResponseCache(mock(ReactiveRedisConnectionFactory.class),
+                new ResponseCompressor(meterRegistry, DataSize.ofBytes(256), 6, 5),
+                meterRegistry, 100, Duration.ofSeconds(30), Duration.ofMinutes(5), DataSize.ofBytes(64));
+    }
+
+    @Test
+    void get_ExpiredEntry_ReturnsEmptyAndRemovesIt() {
+        // Given
+        Instant now = Instant.now();
+        responseCache.put("/api/v1/features", response(null, now.minusSeconds(60), now.minusSeconds(1)),
+                responseCache.generation());
+
+        // When / Then
+        assertThat(responseCache.get("/api/v1/features")).isEmpty();
+        assertThat(responseCache.get("/api/v1/features")).isEmpty();
+    }
+
+    @Test
+    void put_BodyLargerThanLimit_IsNotCached() {
+        // Given
+        Instant now = Instant.now();
+        CachedResponse large = new CachedResponse(HttpStatus.OK, new HttpHeaders(), new byte[65], null,
+                null, now, now.plusSeconds(30));
+
+        // When
+        responseCache.put("/api/v1/properties", large, responseCache.generation());
+
+        // Then
+        assertThat(responseCache.get("/api/v1/properties")).isEmpty();
+    }
+
+    @Test
+    void put_EvictedWhileInFlight_DropsStaleResponse() {
+        // Given
+        long generation = responseCache.generation();
+        responseCache.evictProperty(1L);
+
+        // When
+        responseCache.put("/api/v1/properties/1", fresh(1L), generation);
+
+        // Then
+        assertThat(responseCache.get("/api/v1/properties/1")).isEmpty();
+    }
+
+    @Test
+    void onPropertyChanged_PropertyId_EvictsPropertyAndListingsOnly() {
+        // Given
+        responseCache.put("/api/v1/properties/1", fresh(1L), responseCache.generation());
+        responseCache.put("/api/v1/properties/2", fresh(2L), responseCache.generation());
+        responseCache.put("/api/v1/properties?page=0", fresh(null), responseCache.generation());
+
+        // When
+        responseCache.onPropertyChanged("1");
+
+        // Then
+        assertThat(responseCache.get("/api/v1/properties/1")).isEmpty();
+        assertThat(responseCache.get("/api/v1/properties?page=0")).isEmpty();
+        assertThat(responseCache.get("/api/v1/properties/2")).isPresent();
+    }
+
+    @Test
+    void onPropertyChanged_FeaturesChanged_EvictsFeatureCatalogOnly() {
+        // Given
+        responseCache.put("/api/v1/features", fresh(null), responseCache.generation());
+        responseCache.put("/api/v1/features?page=1", fresh(null), responseCache.generation());
+        responseCache.put("/api/v1/properties?page=0", fresh(null), responseCache.generation());
+
+        // When
+        responseCache.onPropertyChanged(ResponseCache.FEATURES_CHANGED_MESSAGE);
+
+        // Then
+        assertThat(responseCache.get("/api/v1/features")).isEmpty();
+        assertThat(responseCache.get("/api/v1/features?page=1")).isEmpty();
+        assertThat(responseCache.get("/api/v1/properties?page=0")).isPresent();
+    }
+
+    @Test
+    void onPropertyChanged_UnknownMessage_EvictsEverything() {
+        // Given
+        responseCache.put("/api/v1/properties/2", fresh(2L), responseCache.generation());
+        responseCache.put("/api/v1/features", fresh(null), responseCache.generation());
+
+        // When
+        responseCache.onPropertyChanged("reindex");
+
+        // Then
+        assertThat(responseCache.get("/api/v1/properties/2")).isEmpty();
+        assertThat(responseCache.get("/api/v1/features")).isEmpty();
+    }
+
+    private static CachedResponse fresh(Long propertyId) {
+        Instant now = Instant.now();
+        return response(propertyId, now, now.plusSeconds(30));
+    }
+
+    private static CachedResponse response(Long propertyId, Instant storedAt, Instant expiresAt) {
+        return new CachedResponse(HttpStatus.OK, new HttpHeaders(), "[]".getBytes(), "\"etag\"",
+                propertyId, storedAt, expiresAt);
+    }
+}
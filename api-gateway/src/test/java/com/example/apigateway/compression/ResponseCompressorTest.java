@@ -0,0 +1,52 @@
+package com.example.apigateway.compression;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseCompressorTest {
+
+    private static final byte[] BODY = "{\"id\":1,\"title\":\"Sea view\"},".repeat(100).getBytes(StandardCharsets.UTF_8);
+
+    private SimpleMeterRegistry meterRegistry;
+    private ResponseCompressor compressor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        compressor = new ResponseCompressor(meterRegistry, DataSize.ofKilobytes(1), 6, 5);
+    }
+
+    @Test
+    void encode_SameRouteAndEncoding_RecordsIntoOneSeries() {
+        // When
+        compressor.encode("property_service", ResponseCompressor.GZIP, BODY);
+        compressor.encode("property_service", ResponseCompressor.GZIP, BODY);
+        compressor.encode("review_service", ResponseCompressor.GZIP, BODY);
+
+        // Then
+        assertThat(meterRegistry.get("gateway.compression.cpu.time").timers()).hasSize(2);
+        assertThat(meterRegistry.get("gateway.compression.cpu.time").tag("route", "property_service").timer().count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get("gateway.compression.ratio").tag("route", "property_service").summary().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void count_SameSeries_IncrementsOneCounter() {
+        // When
+        compressor.count("property_service", ResponseCompressor.GZIP, "live");
+        compressor.count("property_service", ResponseCompressor.GZIP, "live");
+        compressor.count("property_service", ResponseCompressor.GZIP, "cache");
+
+        // Then
+        assertThat(meterRegistry.get("gateway.compression.responses").counters()).hasSize(2);
+        assertThat(meterRegistry.get("gateway.compression.responses").tag("source", "live").counter().count())
+                .isEqualTo(2.0);
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.apigateway.controllers;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerResponse;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "jwt.secret=test-secret-that-is-at-least-32-bytes-long",
+        "spring.data.redis.port=1",
+        "management.tracing.enabled=false",
+        "application.property-page.timeout.available-dates=1s"
+})
+@AutoConfigureWebTestClient
+class PropertyPageControllerTest {
+
+    private static final Map<String, StubResponse> RESPONSES = new ConcurrentHashMap<>();
+    private static final AtomicInteger HITS = new AtomicInteger();
+
+    private static final DisposableServer PROPERTY_SERVICE = HttpServer.create()
+            .port(0)
+            .route(routes -> routes
+                    .get("/api/v1/properties/{id}", (request, response) -> respond(response, "property"))
+                    .get("/api/v1/properties/{id}/available-dates", (request, response) -> respond(response, "availableDates"))
+                    .get("/api/v1/favorites/{id}", (request, response) -> respond(response, "favorite")))
+            .bindNow();
+
+    private static final DisposableServer REVIEW_SERVICE = HttpServer.create()
+            .port(0)
+            .route(routes -> routes
+                    .get("/api/v1/reviews/property/{id}", (request, response) -> respond(response, "reviews")))
+            .bindNow();
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @DynamicPropertySource
+    static void serviceInstances(DynamicPropertyRegistry registry) {
+        registry.add("spring.cloud.discovery.client.simple.instances.property-service[0].uri",
+                () -> "http://localhost:" + PROPERTY_SERVICE.port());
+        registry.add("spring.cloud.discovery.client.simple.instances.review-service[0].uri",
+                () -> "http://localhost:" + REVIEW_SERVICE.port());
+    }
+
+    @AfterAll
+    static void stopInstances() {
+        PROPERTY_SERVICE.disposeNow();
+        REVIEW_SERVICE.disposeNow();
+    }
+
+    @BeforeEach
+    void setUp() {
+        HITS.set(0);
+        RESPONSES.put("property", new StubResponse(200, "{\"id\":1,\"title\":\"Sea view\"}", Duration.ZERO));
+        RESPONSES.put("availableDates", new StubResponse(200, "{\"availableDates\":[\"2026-11-01\"]}", Duration.ZERO));
+        RESPONSES.put("reviews", new StubResponse(200, "{\"content\":[{\"rating\":5}]}", Duration.ZERO));
+        RESPONSES.put("favorite", new StubResponse(200, "true", Duration.ZERO));
+    }
+
+    @Test
+    void getPropertyPage_AllPartsAvailable_AggregatesThroughLoadBalancedInstances() {
+        // When / Then
+        webTestClient.get().uri("/api/v1/pages/properties/1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.property.title").isEqualTo("Sea view")
+                .jsonPath("$.availableDates[0]").isEqualTo("2026-11-01")
+                .jsonPath("$.reviews.content[0].rating").isEqualTo(5)
+                .jsonPath("$.favorite").doesNotExist()
+                .jsonPath("$.unavailable").isEmpty();
+
+        assertThat(HITS).hasValue(3);
+    }
+
+    @Test
+    void getPropertyPage_ReviewServiceFails_ReturnsPartialPage() {
+        // Given
+        RESPONSES.put("reviews", new StubResponse(503, "{}", Duration.ZERO));
+
+        // When / Then
+        webTestClient.get().uri("/api/v1/pages/properties/1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.property.title").isEqualTo("Sea view")
+                .jsonPath("$.availableDates[0]").isEqualTo("2026-11-01")
+                .jsonPath("$.reviews").doesNotExist()
+                .jsonPath("$.unavailable[0]").isEqualTo("reviews");
+    }
+
+    @Test
+    void getPropertyPage_AvailableDatesTimeOut_ReturnsPartialPage() {
+        // Given
+        RESPONSES.put("availableDates", new StubResponse(200, "{\"availableDates\":[]}", Duration.ofSeconds(3)));
+
+        // When / Then
+        webTestClient.get().uri("/api/v1/pages/properties/1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.property.title").isEqualTo("Sea view")
+                .jsonPath("$.availableDates").doesNotExist()
+                .jsonPath("$.unavailable[0]").isEqualTo("availableDates");
+    }
+
+    @Test
+    void getPropertyPage_PropertyNotFound_ReturnsUpstreamStatus() {
+        // Given
+        RESPONSES.put("property", new StubResponse(404, "{}", Duration.ZERO));
+
+        // When / Then
+        webTestClient.get().uri("/api/v1/pages/properties/1")
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.NOT_FOUND)
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(404);
+    }
+
+    private static Mono<Void> respond(HttpServerResponse response, String part) {
+        HITS.incrementAndGet();
+        StubResponse stub = RESPONSES.get(part);
+        return response.status(stub.status())
+                .header(HttpHeaders.CONTENT_TYPE, "application/json")
+                .sendString(Mono.just(stub.body()).delayElement(stub.delay()))
+                .then();
+    }
+
+    private record StubResponse(int status, String body, Duration delay) {
+    }
+}
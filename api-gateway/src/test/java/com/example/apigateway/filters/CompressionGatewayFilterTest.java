@@ -0,0 +1,190 @@
+package com.example.apigateway.filters;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.decoder.Decoder;
+import com.example.apigateway.compression.ResponseCompressor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class CompressionGatewayFilterTest {
+
+    private static final String LARGE_BODY = "{\"content\":[" + "{\"id\":1,\"title\":\"Sea view\"},".repeat(100) + "{}]}";
+    private static final String SMALL_BODY = "{\"id\":1}";
+
+    private final AtomicReference<HttpHeaders> upstreamRequestHeaders = new AtomicReference<>();
+
+    private SimpleMeterRegistry meterRegistry;
+    private CompressionGatewayFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new CompressionGatewayFilter(new ResponseCompressor(meterRegistry, DataSize.ofKilobytes(1), 6, 5));
+    }
+
+    @Test
+    void filter_LargeJsonAcceptingGzip_CompressesAndHidesAcceptEncodingFromUpstream() throws IOException {
+        // Given
+        MockServerWebExchange exchange = exchange(MockServerHttpRequest.get("/api/v1/properties")
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip"));
+
+        // When
+        filter.filter(exchange, upstream(MediaType.APPLICATION_JSON, LARGE_BODY, headers -> {
+        })).block();
+
+        // Then
+        HttpHeaders headers = exchange.getResponse().getHeaders();
+        byte[] body = body(exchange);
+        assertThat(headers.getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(headers.getContentLength()).isEqualTo(body.length).isLessThan(LARGE_BODY.length());
+        assertThat(headers.getVary()).containsExactly(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(new String(new GZIPInputStream(new ByteArrayInputStream(body)).readAllBytes(), StandardCharsets.UTF_8))
+                .isEqualTo(LARGE_BODY);
+        assertThat(upstreamRequestHeaders.get().containsKey(HttpHeaders.ACCEPT_ENCODING)).isFalse();
+        assertThat(meterRegistry.get("gateway.compression.responses").tag("encoding", "gzip").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void filter_ClientPrefersBrotli_CompressesWithBrotli() throws IOException {
+        // Given
+        assumeTrue(Brotli4jLoader.isAvailable());
+        MockServerWebExchange exchange = exchange(MockServerHttpRequest.get("/api/v1/properties")
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0.8, br"));
+
+        // When
+        filter.filter(exchange, upstream(MediaType.APPLICATION_JSON, LARGE_BODY, headers -> {
+        })).block();
+
+        // Then
+        assertThat(exchange.getResponse().getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("br");
+        assertThat(new String(Decoder.decompress(body(exchange)).getDecompressedData(), StandardCharsets.UTF_8))
+                .isEqualTo(LARGE_BODY);
+    }
+
+    @Test
+    void filter_BodyBelowThreshold_IsSentUncompressed() {
+        // Given
+        MockServerWebExchange exchange = exchange(MockServerHttpRequest.get("/api/v1/properties/1")
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip"));
+
+        // When
+        filter.filter(exchange, upstream(MediaType.APPLICATION_JSON, SMALL_BODY, headers -> {
+        })).block();
+
+        // Then
+        HttpHeaders headers = exchange.getResponse().getHeaders();
+        assertThat(headers.containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+        assertThat(headers.getVary()).containsExactly(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(new String(body(exchange), StandardCharsets.UTF_8)).isEqualTo(SMALL_BODY);
+    }
+
+    @Test
+    void filter_DeclaredLengthBelowThreshold_SkipsBuffering() {
+        // Given
+        MockServerWebExchange exchange = exchange(MockServerHttpRequest.get("/api/v1/properties/1")
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip"));
+
+        // When
+        filter.filter(exchange, upstream(MediaType.APPLICATION_JSON, SMALL_BODY,
+                headers -> headers.setContentLength(SMALL_BODY.length()))).block();
+
+        // Then
+        assertThat(exchange.getResponse().getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+        assertThat(new String(body(exchange), StandardCharsets.UTF_8)).isEqualTo(SMALL_BODY);
+    }
+
+    @Test
+    void filter_NonCompressibleContentType_IsSentUncompressed() {
+        // Given
+        MockServerWebExchange exchange = exchange(MockServerHttpRequest.get("/api/v1/images/1")
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip"));
+
+        // When
+        filter.filter(exchange, upstream(MediaType.IMAGE_PNG, LARGE_BODY, headers -> {
+        })).block();
+
+        // Then
+        HttpHeaders headers = exchange.getResponse().getHeaders();
+        assertThat(headers.containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+        assertThat(headers.getVary()).isEmpty();
+        assertThat(new String(body(exchange), StandardCharsets.UTF_8)).isEqualTo(LARGE_BODY);
+    }
+
+    @Test
+    void filter_NoTransform_IsSentUncompressed() {
+        // Given
+        MockServerWebExchange exchange = exchange(MockServerHttpRequest.get("/api/v1/properties")
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip"));
+
+        // When
+        filter.filter(exchange, upstream(MediaType.APPLICATION_JSON, LARGE_BODY,
+                headers -> headers.setCacheControl("no-transform"))).block();
+
+        // Then
+        assertThat(exchange.getResponse().getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+    }
+
+    @Test
+    void filter_ClientWithoutAcceptEncoding_IsSentUncompressedWithVary() {
+        // Given
+        MockServerWebExchange exchange = exchange(MockServerHttpRequest.get("/api/v1/properties"));
+
+        // When
+        filter.filter(exchange, upstream(MediaType.APPLICATION_JSON, LARGE_BODY, headers -> {
+        })).block();
+
+        // Then
+        HttpHeaders headers = exchange.getResponse().getHeaders();
+        assertThat(headers.containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+        assertThat(headers.getVary()).containsExactly(HttpHeaders.ACCEPT_ENCODING);
+    }
+
+    private GatewayFilterChain upstream(MediaType contentType, String body, Consumer<HttpHeaders> headers) {
+        return exchange -> {
+            upstreamRequestHeaders.set(exchange.getRequest().getHeaders());
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.OK);
+            response.getHeaders().setContentType(contentType);
+            headers.accept(response.getHeaders());
+            return response.writeWith(Mono.just(response.bufferFactory()
+                    .wrap(body.getBytes(StandardCharsets.UTF_8))));
+        };
+    }
+
+    private static byte[] body(MockServerWebExchange exchange) {
+        return DataBufferUtils.join(exchange.getResponse().getBody())
+                .map(buffer -> {
+                    byte[] bytes = new byte[buffer.readableByteCount()];
+                    buffer.read(bytes);
+                    DataBufferUtils.release(buffer);
+                    return bytes;
+                })
+                .block();
+    }
+
+    private static MockServerWebExchange exchange(MockServerHttpRequest.BaseBuilder<?> request) {
+        return MockServerWebExchange.from(request);
+    }
+}
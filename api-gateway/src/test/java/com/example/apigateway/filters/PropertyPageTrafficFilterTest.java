@@ -0,0 +1,125 @@
+package com.example.apigateway.filters;
+
+import com.example.apigateway.compression.ResponseCompressor;
+import com.example.apigateway.ratelimit.MeteredRedisRateLimiter;
+import com.example.apigateway.ratelimit.UserOrAddressKeyResolver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.ratelimit.RateLimiter;
+import org.springframework.cloud.gateway.filter.ratelimit.RedisRateLimiter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PropertyPageTrafficFilterTest {
+
+    private static final String PAGE_BODY = "{\"reviews\":[" + "{\"id\":1,\"comment\":\"Great stay\"},".repeat(100) + "{}]}";
+    private static final InetSocketAddress CLIENT = new InetSocketAddress("203.0.113.7", 50000);
+
+    private final AtomicInteger handlerCalls = new AtomicInteger();
+    private final Map<String, RedisRateLimiter.Config> rateLimitConfig = new HashMap<>();
+
+    private MeteredRedisRateLimiter rateLimiter;
+    private PropertyPageTrafficFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiter = mock(MeteredRedisRateLimiter.class);
+        when(rateLimiter.getConfig()).thenReturn(rateLimitConfig);
+        filter = new PropertyPageTrafficFilter(rateLimiter, new UserOrAddressKeyResolver(0),
+                new CompressionGatewayFilter(new ResponseCompressor(new SimpleMeterRegistry(), DataSize.ofKilobytes(1), 6, 5)),
+                "/api/v1/pages/properties/{id}");
+    }
+
+    @Test
+    void constructor_RegistersRateLimitForPropertyPage() {
+        // Then
+        RedisRateLimiter.Config config = rateLimitConfig.get(PropertyPageTrafficFilter.ROUTE_ID);
+        assertThat(config.getReplenishRate()).isEqualTo(20);
+        assertThat(config.getBurstCapacity()).isEqualTo(40);
+    }
+
+    @Test
+    void filter_PropertyPageAllowed_RateLimitsByClientAndCompresses() {
+        // Given
+        when(rateLimiter.isAllowed("property_page", "property_page:ip:203.0.113.7"))
+                .thenReturn(Mono.just(new RateLimiter.Response(true, Map.of("X-RateLimit-Remaining", "39"))));
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/pages/properties/1")
+                .remoteAddress(CLIENT)
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip"));
+
+        // When
+        filter.filter(exchange, handler()).block();
+
+        // Then
+        HttpHeaders headers = exchange.getResponse().getHeaders();
+        assertThat(handlerCalls).hasValue(1);
+        assertThat(headers.getFirst("X-RateLimit-Remaining")).isEqualTo("39");
+        assertThat(headers.getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(headers.getContentLength()).isLessThan(PAGE_BODY.length());
+    }
+
+    @Test
+    void filter_PropertyPageThrottled_RejectsWithoutCallingHandler() {
+        // Given
+        when(rateLimiter.isAllowed("property_page", "property_page:ip:203.0.113.7"))
+                .thenReturn(Mono.just(new RateLimiter.Response(false, Map.of("X-RateLimit-Remaining", "0"))));
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/pages/properties/1")
+                .remoteAddress(CLIENT));
+
+        // When
+        filter.filter(exchange, handler()).block();
+
+        // Then
+        assertThat(handlerCalls).hasValue(0);
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(exchange.getResponse().getHeaders().getFirst("X-RateLimit-Remaining")).isEqualTo("0");
+    }
+
+    @Test
+    void filter_OtherPath_PassesThrough() {
+        // Given
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/actuator/health")
+                .remoteAddress(CLIENT)
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip"));
+
+        // When
+        filter.filter(exchange, handler()).block();
+
+        // Then
+        assertThat(handlerCalls).hasValue(1);
+        assertThat(exchange.getResponse().getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+        verify(rateLimiter, never()).isAllowed(anyString(), anyString());
+    }
+
+    private WebFilterChain handler() {
+        return exchange -> {
+            handlerCalls.incrementAndGet();
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.OK);
+            response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            return response.writeWith(Mono.just(response.bufferFactory()
+                    .wrap(PAGE_BODY.getBytes(StandardCharsets.UTF_8))));
+        };
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.apigateway.filters;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.unit.DataSize;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestCoalescingGatewayFilterTest {
+
+    private static final String BODY = "{\"id\":1,\"averageRating\":4.5}";
+
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private final Sinks.Empty<Void> upstreamReleased = Sinks.empty();
+
+    private SimpleMeterRegistry meterRegistry;
+    private RequestCoalescingGatewayFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new RequestCoalescingGatewayFilter(meterRegistry, DataSize.ofMegabytes(1));
+    }
+
+    @Test
+    void filter_ConcurrentIdenticalGets_CallUpstreamOnce() throws Exception {
+        // Given
+        GatewayFilterChain chain = upstream(HttpStatus.OK);
+        List<MockServerWebExchange> exchanges = List.of(
+                exchange(MockServerHttpRequest.get("/api/v1/reviews/property/1")),
+                exchange(MockServerHttpRequest.get("/api/v1/reviews/property/1/")),
+                exchange(MockServerHttpRequest.get("/api/v1/reviews/property/1")));
+
+        // When
+        List<CompletableFuture<Void>> responses = exchanges.stream()
+                .map(exchange -> filter.filter(exchange, chain).toFuture())
+                .toList();
+        upstreamReleased.tryEmitEmpty();
+        CompletableFuture.allOf(responses.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(upstreamCalls).hasValue(1);
+        for (MockServerWebExchange exchange : exchanges) {
+            assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(exchange.getResponse().getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+            assertThat(exchange.getResponse().getBodyAsString().block()).isEqualTo(BODY);
+        }
+        assertThat(meterRegistry.get("gateway.coalescing.requests").tag("role", "follower").counter().count())
+                .isEqualTo(2.0);
+        assertThat(meterRegistry.get("gateway.coalescing.fanout").summary().max()).isEqualTo(2.0);
+    }
+
+    @Test
+    void filter_DifferentAuthorization_IsNotCoalesced() throws Exception {
+        // Given
+        GatewayFilterChain chain = upstream(HttpStatus.OK);
+
+        // When
+        CompletableFuture<Void> first = filter.filter(exchange(MockServerHttpRequest.get("/api/v1/reviews/property/1")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer first")), chain).toFuture();
+        CompletableFuture<Void> second = filter.filter(exchange(MockServerHttpRequest.get("/api/v1/reviews/property/1")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer second")), chain).toFuture();
+        upstreamReleased.tryEmitEmpty();
+        CompletableFuture.allOf(first, second).get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(upstreamCalls).hasValue(2);
+    }
+
+    @Test
+    void filter_UpstreamErrorStatus_IsSharedWithFollowers() throws Exception {
+        // Given
+        GatewayFilterChain chain = upstream(HttpStatus.SERVICE_UNAVAILABLE);
+        MockServerWebExchange leader = exchange(MockServerHttpRequest.get("/api/v1/reviews/property/1"));
+        MockServerWebExchange follower = exchange(MockServerHttpRequest.get("/api/v1/reviews/property/1"));
+
+        // When
+        CompletableFuture<Void> leaderResponse = filter.filter(leader, chain).toFuture();
+        CompletableFuture<Void> followerResponse = filter.filter(follower, chain).toFuture();
+        upstreamReleased.tryEmitEmpty();
+        CompletableFuture.allOf(leaderResponse, followerResponse).get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(follower.getResponse().getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    @Test
+    void filter_UpstreamFails_PropagatesErrorToFollowers() {
+        // Given
+        IllegalStateException failure = new IllegalStateException("Connection refused");
+        GatewayFilterChain chain = exchange -> {
+            upstreamCalls.incrementAndGet();
+            return upstreamReleased.asMono().then(Mono.error(failure));
+        };
+
+        // When
+        CompletableFuture<Void> leader = filter.filter(
+                exchange(MockServerHttpRequest.get("/api/v1/reviews/property/1")), chain).toFuture();
+        CompletableFuture<Void> follower = filter.filter(
+                exchange(MockServerHttpRequest.get("/api/v1/reviews/property/1")), chain).toFuture();
+        upstreamReleased.tryEmitEmpty();
+
+        // Then
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCause(failure);
+        assertThat(leader).isCompletedExceptionally();
+        assertThat(upstreamCalls).hasValue(1);
+    }
+
+    @Test
+    void filter_LeaderCancelled_FollowerCallsUpstreamItself() throws Exception {
+        // Given
+        GatewayFilterChain chain = upstream(HttpStatus.OK);
+        MockServerWebExchange follower = exchange(MockServerHttpRequest.get("/api/v1/reviews/property/1"));
+        Disposable leader = filter.filter(exchange(MockServerHttpRequest.get("/api/v1/reviews/property/1")), chain)
+                .subscribe();
+        CompletableFuture<Void> followerResponse = filter.filter(follower, chain).toFuture();
+
+        // When
+        leader.dispose();
+        upstreamReleased.tryEmitEmpty();
+        followerResponse.get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(upstreamCalls).hasValue(2);
+        assertThat(follower.getResponse().getBodyAsString().block(Duration.ofSeconds(5))).isEqualTo(BODY);
+    }
+
+    @Test
+    void filter_NonGetRequest_IsNotCoalesced() throws Exception {
+        // Given
+        GatewayFilterChain chain = upstream(HttpStatus.OK);
+
+        // When
+        CompletableFuture<Void> first = filter.filter(exchange(MockServerHttpRequest.post("/api/v1/reviews")), chain)
+                .toFuture();
+        CompletableFuture<Void> second = filter.filter(exchange(MockServerHttpRequest.post("/api/v1/reviews")), chain)
+                .toFuture();
+        upstreamReleased.tryEmitEmpty();
+        CompletableFuture.allOf(first, second).get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(upstreamCalls).hasValue(2);
+    }
+
+    private GatewayFilterChain upstream(HttpStatusCode status) {
+        return exchange -> {
+            upstreamCalls.incrementAndGet();
+            return upstreamReleased.asMono().then(Mono.defer(() -> {
+                ServerHttpResponse response = exchange.getResponse();
+                response.setStatusCode(status);
+                response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                return response.writeWith(Mono.just(response.bufferFactory()
+                        .wrap(BODY.getBytes(StandardCharsets.UTF_8))));
+            }));
+        };
+    }
+
+    private static MockServerWebExchange exchange(MockServerHttpRequest.BaseBuilder<?> request) {
+        return MockServerWebExchange.from(request);
+    }
+}
@@ -0,0 +1,278 @@
+package com.example.apigateway.filters;
+
+import com.example.apigateway.cache.CachedResponse;
+import com.example.apigateway.cache.ResponseCache;
+import com.example.apigateway.compression.ResponseCompressor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class ResponseCacheGatewayFilterTest {
+
+    private static final String BODY = "[{\"id\":1,\"name\":\"WiFi\"}]";
+
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+
+    private ResponseCache responseCache;
+    private GatewayFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        responseCache = new ResponseCache(mock(ReactiveRedisConnectionFactory.class),
+                new ResponseCompressor(meterRegistry, DataSize.ofKilobytes(1), 6, 5),
+                meterRegistry, 100, Duration.ofSeconds(30), Duration.ofMinutes(5), DataSize.ofMegabytes(1));
+        filter = responseCache.filter("/api/v1/features", "/api/v1/properties/{id:\\d+}");
+    }
+
+    @Test
+    void filter_RepeatedGet_ServesSecondRequestFromCache() {
+        // Given
+        GatewayFilterChain chain = upstream(headers -> headers.setCacheControl("public, max-age=60"));
+        MockServerWebExchange first = exchange(MockServerHttpRequest.get("/api/v1/features"));
+        MockServerWebExchange second = exchange(MockServerHttpRequest.get("/api/v1/features/"));
+
+        // When
+        filter.filter(first, chain).block();
+        filter.filter(second, chain).block();
+
+        // Then
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(first.getResponse().getHeaders().getFirst("X-Cache")).isEqualTo("MISS");
+        assertThat(second.getResponse().getHeaders().getFirst("X-Cache")).isEqualTo("HIT");
+        assertThat(second.getResponse().getHeaders().getFirst(HttpHeaders.AGE)).isEqualTo("0");
+        assertThat(second.getResponse().getBodyAsString().block()).isEqualTo(BODY);
+    }
+
+    @Test
+    void filter_MaxAge_UsesResponseTtl() {
+        // Given
+        GatewayFilterChain chain = upstream(headers -> headers.setCacheControl("public, max-age=60"));
+
+        // When
+        filter.filter(exchange(MockServerHttpRequest.get("/api/v1/features")), chain).block();
+
+        // Then
+        assertThat(ttl("/api/v1/features")).isEqualTo(Duration.ofSeconds(60));
+    }
+
+    @Test
+    void filter_SharedMaxAgeAboveLimit_CapsTtlAtMaxTtl() {
+        // Given
+        GatewayFilterChain chain = upstream(headers -> headers.setCacheControl("public, max-age=30, s-maxage=3600"));
+
+        // When
+        filter.filter(exchange(MockServerHttpRequest.get("/api/v1/features")), chain).block();
+
+        // Then
+        assertThat(ttl("/api/v1/features")).isEqualTo(Duration.ofMinutes(5));
+    }
+
+    @Test
+    void filter_NoCacheControl_UsesDefaultTtlAndAdvertisesIt() {
+        // Given
+        GatewayFilterChain chain = upstream(headers -> {
+        });
+        MockServerWebExchange exchange = exchange(MockServerHttpRequest.get("/api/v1/features"));
+
+        // When
+        filter.filter(exchange, chain).block();
+
+        // Then
+        assertThat(ttl("/api/v1/features")).isEqualTo(Duration.ofSeconds(30));
+        assertThat(exchange.getResponse().getHeaders().getCacheControl()).isEqualTo("max-age=30, public");
+    }
+
+    @Test
+    void filter_GatewayTtlHeader_CachesNoCacheResponseAndHidesHeader() {
+        // Given
+        GatewayFilterChain chain = upstream(headers -> {
+            headers.setCacheControl("no-cache");
+            headers.set(ResponseCache.TTL_HEADER, "300");
+        });
+        MockServerWebExchange first = exchange(MockServerHttpRequest.get("/api/v1/features"));
+        MockServerWebExchange second = exchange(MockServerHttpRequest.get("/api/v1/features"));
+
+        // When
+        filter.filter(first, chain).block();
+        filter.filter(second, chain).block();
+
+        // Then
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(ttl("/api/v1/features")).isEqualTo(Duration.ofMinutes(5));
+        for (MockServerWebExchange exchange : List.of(first, second)) {
+            HttpHeaders headers = exchange.getResponse().getHeaders();
+            assertThat(headers.getCacheControl()).isEqualTo("no-cache");
+            assertThat(headers.getETag()).isNotNull();
+            assertThat(headers.containsKey(ResponseCache.TTL_HEADER)).isFalse();
+        }
+    }
+
+    @Test
+    void filter_NoCacheWithoutGatewayTtl_IsNotCached() {
+        // Given
+        GatewayFilterChain chain = upstream(headers -> headers.setCacheControl("no-cache"));
+
+        // When
+        filter.filter(exchange(MockServerHttpRequest.get("/api/v1/features")), chain).block();
+
+        // Then
+        assertThat(responseCache.get("/api/v1/features")).isEmpty();
+    }
+
+    @Test
+    void filter_AuthorizedRequest_StillHidesGatewayTtlHeader() {
+        // Given
+        GatewayFilterChain chain = upstream(headers -> headers.set(ResponseCache.TTL_HEADER, "300"));
+        MockServerWebExchange exchange = exchange(MockServerHttpRequest.get("/api/v1/features")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer token"));
+
+        // When
+        filter.filter(exchange, chain).block();
+
+        // Then
+        assertThat(exchange.getResponse().getHeaders().containsKey(ResponseCache.TTL_HEADER)).isFalse();
+    }
+
+    @Test
+    void filter_PrivateResponse_IsNotCached() {
+        // Given
+        GatewayFilterChain chain = upstream(headers -> headers.setCacheControl("private, max-age=60"));
+
+        // When
+        filter.filter(exchange(MockServerHttpRequest.get("/api/v1/features")), chain).block();
+        filter.filter(exchange(MockServerHttpRequest.get("/api/v1/features")), chain).block();
+
+        // Then
+        assertThat(upstreamCalls).hasValue(2);
+        assertThat(responseCache.get("/api/v1/features")).isEmpty();
+    }
+
+    @Test
+    void filter_VaryAll_IsNotCached() {
+        // Given
+        GatewayFilterChain chain = upstream(headers -> headers.setVary(List.of("*")));
+
+        // When
+        filter.filter(exchange(MockServerHttpRequest.get("/api/v1/features")), chain).block();
+
+        // Then
+        assertThat(responseCache.get("/api/v1/features")).isEmpty();
+    }
+
+    @Test
+    void filter_CompressibleHit_VariesOnAcceptEncoding() {
+        // Given
+        GatewayFilterChain chain = upstream(headers -> headers.setVary(List.of(HttpHeaders.ACCEPT_LANGUAGE)));
+        filter.filter(exchange(MockServerHttpRequest.get("/api/v1/features")), chain).block();
+        MockServerWebExchange hit = exchange(MockServerHttpRequest.get("/api/v1/features"));
+
+        // When
+        filter.filter(hit, chain).block();
+
+        // Then
+        assertThat(hit.getResponse().getHeaders().getVary())
+                .containsExactly(HttpHeaders.ACCEPT_LANGUAGE, HttpHeaders.ACCEPT_ENCODING);
+    }
+
+    @Test
+    void filter_MatchingIfNoneMatch_ReturnsNotModifiedFromCache() {
+        // Given
+        GatewayFilterChain chain = upstream(headers -> headers.setETag("\"v1\""));
+        filter.filter(exchange(MockServerHttpRequest.get("/api/v1/features")), chain).block();
+        MockServerWebExchange conditional = exchange(MockServerHttpRequest.get("/api/v1/features")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"v1\""));
+
+        // When
+        filter.filter(conditional, chain).block();
+
+        // Then
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(conditional.getResponse().getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    }
+
+    @Test
+    void filter_RequestNoCache_RefreshesFromUpstream() {
+        // Given
+        GatewayFilterChain chain = upstream(headers -> headers.setCacheControl("public, max-age=60"));
+        filter.filter(exchange(MockServerHttpRequest.get("/api/v1/features")), chain).block();
+
+        // When
+        filter.filter(exchange(MockServerHttpRequest.get("/api/v1/features")
+                .header(HttpHeaders.CACHE_CONTROL, "no-cache")), chain).block();
+
+        // Then
+        assertThat(upstreamCalls).hasValue(2);
+    }
+
+    @Test
+    void filter_AuthorizedRequest_BypassesCache() {
+        // Given
+        GatewayFilterChain chain = upstream(headers -> headers.setCacheControl("public, max-age=60"));
+
+        // When
+        filter.filter(exchange(MockServerHttpRequest.get("/api/v1/features")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer token")), chain).block();
+
+        // Then
+        assertThat(responseCache.get("/api/v1/features")).isEmpty();
+    }
+
+    @Test
+    void filter_PropertyEvicted_FetchesFreshResponse() {
+        // Given
+        GatewayFilterChain chain = upstream(headers -> headers.setCacheControl("public, max-age=60"));
+        filter.filter(exchange(MockServerHttpRequest.get("/api/v1/properties/7")), chain).block();
+        assertThat(responseCache.get("/api/v1/properties/7")).map(CachedResponse::propertyId).hasValue(7L);
+
+        // When
+        responseCache.evictProperty(7L);
+        MockServerWebExchange afterEviction = exchange(MockServerHttpRequest.get("/api/v1/properties/7"));
+        filter.filter(afterEviction, chain).block();
+
+        // Then
+        assertThat(upstreamCalls).hasValue(2);
+        assertThat(afterEviction.getResponse().getHeaders().getFirst("X-Cache")).isEqualTo("MISS");
+    }
+
+    private Duration ttl(String key) {
+        CachedResponse cached = responseCache.get(key).orElseThrow();
+        return Duration.between(cached.storedAt(), cached.expiresAt());
+    }
+
+    private GatewayFilterChain upstream(Consumer<HttpHeaders> headers) {
+        return exchange -> {
+            upstreamCalls.incrementAndGet();
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.OK);
+            response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            headers.accept(response.getHeaders());
+            return response.writeWith(Mono.just(response.bufferFactory()
+                    .wrap(BODY.getBytes(StandardCharsets.UTF_8))));
+        };
+    }
+
+    private static MockServerWebExchange exchange(MockServerHttpRequest.BaseBuilder<?> request) {
+        return MockServerWebExchange.from(request);
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.apigateway.loadbalancer;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "jwt.secret=test-secret-that-is-at-least-32-bytes-long",
+        "spring.data.redis.port=1",
+        "management.tracing.enabled=false",
+        "application.hedging.budget-percent=25"
+})
+class HedgedLoadBalancingTest {
+
+    private static final int REQUESTS = 300;
+
+    private static final StubInstance FAST = new StubInstance(Duration.ofMillis(5), 1);
+    private static final StubInstance SLOW = new StubInstance(Duration.ofMillis(30), 2);
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    private int port;
+
+    @DynamicPropertySource
+    static void reviewServiceInstances(DynamicPropertyRegistry registry) {
+        registry.add("spring.cloud.discovery.client.simple.instances.review-service[0].uri", FAST::uri);
+        registry.add("spring.cloud.discovery.client.simple.instances.review-service[1].uri", SLOW::uri);
+    }
+
+    @AfterAll
+    static void stopInstances() {
+        FAST.server.disposeNow();
+        SLOW.server.disposeNow();
+    }
+
+    @Test
+    void gateway_WithStallingInstances_CutsTailLatency() throws Exception {
+        // Given
+        List<Long> direct = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            StubInstance instance = i % 2 == 0 ? FAST : SLOW;
+            direct.add(timedGet(instance.uri() + "/api/v1/reviews/property/" + i));
+        }
+
+        for (int i = 0; i < 100; i++) {
+            timedGet(gatewayUrl(REQUESTS + i));
+        }
+        FAST.hits.set(0);
+        SLOW.hits.set(0);
+
+        // When
+        List<Long> gateway = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            gateway.add(timedGet(gatewayUrl(2 * REQUESTS + i)));
+        }
+
+        // Then
+        long directP99 = percentile(direct, 0.99);
+        long gatewayP99 = percentile(gateway, 0.99);
+        assertThat(directP99).isGreaterThanOrEqualTo(StubInstance.STALL.toMillis());
+        assertThat(gatewayP99).isLessThan(directP99 / 2);
+        assertThat(FAST.hits.get()).isGreaterThan(SLOW.hits.get());
+    }
+
+    private String gatewayUrl(int propertyId) {
+        return "http://localhost:" + port + "/api/v1/reviews/property/" + propertyId;
+    }
+
+    private long timedGet(String url) throws Exception {
+        long start = System.nanoTime();
+        HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(URI.create(url)).build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode()).isEqualTo(200);
+        return Duration.ofNanos(System.nanoTime() - start).toMillis();
+    }
+
+    private static long percentile(List<Long> samples, double percentile) {
+        List<Long> sorted = new ArrayList<>(samples);
+        Collections.sort(sorted);
+        return sorted.get((int) Math.ceil(percentile * sorted.size()) - 1);
+    }
+
+    private static class StubInstance {
+        private static final Duration STALL = Duration.ofMillis(800);
+        private static final double STALL_PROBABILITY = 0.025;
+
+        private final AtomicInteger hits = new AtomicInteger();
+        private final DisposableServer server;
+
+        StubInstance(Duration latency, long seed) {
+            Random random = new Random(seed);
+            this.server = HttpServer.create()
+                    .port(0)
+                    .route(routes -> routes.get("/api/v1/reviews/property/{id}", (request, response) -> {
+                        hits.incrementAndGet();
+                        Duration delay;
+                        synchronized (random) {
+                            delay = random.nextDouble() < STALL_PROBABILITY ? STALL : latency;
+                        }
+                        return response.header("Content-Type", "application/json")
+                                .sendString(Mono.just("{\"content\":[]}").delayElement(delay));
+                    }))
+                    .bindNow();
+        }
+
+        String uri() {
+            return "http://localhost:" + server.port();
+        }
+    }
+}
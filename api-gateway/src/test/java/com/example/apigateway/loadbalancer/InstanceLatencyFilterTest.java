@@ -0,0 +1,104 @@
+package com.example.apigateway.loadbalancer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InstanceLatencyFilterTest {
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final ServiceInstance instance = new DefaultServiceInstance("review-service-1", "review-service",
+            "localhost", 8081, false);
+
+    private InstanceLatencyTracker latencyTracker;
+    private InstanceLatencyFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        latencyTracker = new InstanceLatencyTracker(new SimpleMeterRegistry(), 1.0,
+                Duration.ofHours(1), Duration.ofSeconds(1));
+        filter = new InstanceLatencyFilter(latencyTracker);
+    }
+
+    @Test
+    void filter_HedgeLoserCancelledEarly_DoesNotLowerLatency() throws Exception {
+        // Given
+        latencyTracker.complete(instance, latencyTracker.start(instance) - 200 * MILLIS);
+        Disposable request = filter.filter(exchange(), pending()).subscribe();
+        Thread.sleep(20);
+
+        // When
+        request.dispose();
+
+        // Then
+        assertThat(latencyTracker.cost(instance)).isGreaterThan(190.0 * MILLIS).isLessThan(210.0 * MILLIS);
+    }
+
+    @Test
+    void filter_CancelledAfterExceedingLatency_RaisesLatency() throws Exception {
+        // Given
+        latencyTracker.complete(instance, latencyTracker.start(instance) - MILLIS);
+        Disposable request = filter.filter(exchange(), pending()).subscribe();
+        Thread.sleep(50);
+
+        // When
+        request.dispose();
+
+        // Then
+        assertThat(latencyTracker.cost(instance)).isGreaterThan(49.0 * MILLIS);
+    }
+
+    @Test
+    void filter_ServerError_RecordsFailurePenalty() {
+        // Given
+        GatewayFilterChain chain = exchange -> {
+            exchange.getResponse().setStatusCode(HttpStatus.INTERNAL_SERVER_ERROR);
+            return Mono.empty();
+        };
+
+        // When
+        filter.filter(exchange(), chain).block();
+
+        // Then
+        assertThat(latencyTracker.cost(instance)).isGreaterThan(990.0 * MILLIS);
+    }
+
+    @Test
+    void filter_Completed_RecordsElapsedTime() {
+        // Given
+        GatewayFilterChain chain = exchange -> Mono.delay(Duration.ofMillis(30)).then();
+
+        // When
+        filter.filter(exchange(), chain).block();
+
+        // Then
+        assertThat(latencyTracker.cost(instance)).isGreaterThan(29.0 * MILLIS).isLessThan(990.0 * MILLIS);
+    }
+
+    private MockServerWebExchange exchange() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/reviews/property/1"));
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR,
+                new DefaultResponse(instance));
+        return exchange;
+    }
+
+    private static GatewayFilterChain pending() {
+        return exchange -> Mono.never();
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.apigateway.ratelimit;
+
+import com.example.common.security.InternalIdentity;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserOrAddressKeyResolverTest {
+
+    private static final InetSocketAddress INGRESS = new InetSocketAddress("10.0.0.5", 41234);
+
+    @Test
+    void resolve_AuthenticatedUser_KeysOnUserId() {
+        // Given
+        UserOrAddressKeyResolver resolver = new UserOrAddressKeyResolver(1);
+        InternalIdentity identity = new InternalIdentity(42L, "guest", "guest@example.com",
+                List.of("ROLE_USER"), Long.MAX_VALUE);
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/bookings")
+                .remoteAddress(INGRESS)
+                .header("X-Forwarded-For", "203.0.113.7"));
+
+        // When
+        String key = resolver.resolve(exchange)
+                .contextWrite(ReactiveSecurityContextHolder.withAuthentication(identity.toAuthentication("token")))
+                .block();
+
+        // Then
+        assertThat(key).isEqualTo("unknown:user:42");
+    }
+
+    @Test
+    void resolve_AnonymousBehindProxy_KeysOnForwardedClientAddress() {
+        // Given
+        UserOrAddressKeyResolver resolver = new UserOrAddressKeyResolver(1);
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/api/v1/auth/sign-in")
+                .remoteAddress(INGRESS)
+                .header("X-Forwarded-For", "198.51.100.1, 203.0.113.7"));
+
+        // When
+        String key = resolver.resolve(exchange).block();
+
+        // Then
+        assertThat(key).isEqualTo("unknown:ip:203.0.113.7");
+    }
+
+    @Test
+    void resolve_AnonymousWithoutForwardedHeader_KeysOnSocketAddress() {
+        // Given
+        UserOrAddressKeyResolver resolver = new UserOrAddressKeyResolver(1);
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/api/v1/auth/sign-in")
+                .remoteAddress(INGRESS));
+
+        // When
+        String key = resolver.resolve(exchange).block();
+
+        // Then
+        assertThat(key).isEqualTo("unknown:ip:10.0.0.5");
+    }
+
+    @Test
+    void resolve_NoTrustedProxies_IgnoresForwardedHeader() {
+        // Given
+        UserOrAddressKeyResolver resolver = new UserOrAddressKeyResolver(0);
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/api/v1/auth/sign-in")
+                .remoteAddress(INGRESS)
+                .header("X-Forwarded-For", "203.0.113.7"));
+
+        // When
+        String key = resolver.resolve(exchange).block();
+
+        // Then
+        assertThat(key).isEqualTo("unknown:ip:10.0.0.5");
+    }
+}
@@ -1,24 +1,24 @@
 package com.example.bookingservice.config;
 
+import com.example.common.security.InternalIdentity;
+import com.example.common.security.InternalIdentitySigner;
 import com.example.bookingservice.util.JwtTokenUtils;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.List;
 
 @Component
 @RequiredArgsConstructor
 public class JwtRequestFilter extends OncePerRequestFilter {
     private final JwtTokenUtils jwtTokenUtils;
+    private final InternalIdentitySigner internalIdentitySigner;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -27,14 +27,10 @@ public class JwtRequestFilter extends OncePerRequestFilter {
         if (authHeader != null && authHeader.length() >= 7 && authHeader.startsWith("Bearer ")) {
             String jwtToken = authHeader.substring(7);
             try {
-                String username = jwtTokenUtils.getUsername(jwtToken);
-                List<SimpleGrantedAuthority> authorities = jwtTokenUtils.getRoles(jwtToken).stream()
-                        .map(SimpleGrantedAuthority::new)
-                        .toList();
-
-                UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(username, null, authorities);
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+                InternalIdentity identity = internalIdentitySigner.verify(
+                                request.getHeader(InternalIdentitySigner.HEADER), jwtToken)
+                        .orElseGet(() -> jwtTokenUtils.getIdentity(jwtToken));
+                SecurityContextHolder.getContext().setAuthentication(identity.toAuthentication(jwtToken));
             } catch (Exception e) {
                 response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Invalid or expired token");
                 return;
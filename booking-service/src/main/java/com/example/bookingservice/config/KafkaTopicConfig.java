@@ -0,0 +1,20 @@
+package com.example.bookingservice.config;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+
+@Configuration
+public class KafkaTopicConfig {
+
+    @Bean
+    public NewTopic bookingCreatedTopic(@Value("${application.kafka.topic.booking-created.partitions}") int partitions,
+                                        @Value("${application.kafka.topic.booking-created.replicas}") int replicas) {
+        return TopicBuilder.name("booking-created")
+                .partitions(partitions)
+                .replicas(replicas)
+                .build();
+    }
+}
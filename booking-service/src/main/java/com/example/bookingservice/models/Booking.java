@@ -17,7 +17,8 @@ import java.time.LocalDateTime;
 public class Booking {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "booking_id_generator")
+    @SequenceGenerator(name = "booking_id_generator", sequenceName = "booking_booking_id_seq", allocationSize = 50)
     @Column(name = "booking_id")
     private Long id;
 
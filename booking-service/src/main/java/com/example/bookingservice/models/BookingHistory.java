@@ -16,7 +16,8 @@ import java.time.LocalDateTime;
 public class BookingHistory {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "booking_history_id_generator")
+    @SequenceGenerator(name = "booking_history_id_generator", sequenceName = "booking_history_history_id_seq", allocationSize = 50)
     @Column(name = "history_id")
     private Long id;
 
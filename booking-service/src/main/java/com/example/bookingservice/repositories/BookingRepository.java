@@ -2,15 +2,24 @@ package com.example.bookingservice.repositories;
 
 import com.example.bookingservice.models.Booking;
 import feign.Param;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
+/**
+ * Booking is range-partitioned by check_in_date. Queries only skip old partitions when they bound checkInDate,
+ * so the date-range queries take an {@code earliestCheckIn} that callers derive from the maximum stay.
+ * Lookups by id alone ({@link #findById}, {@link #findByIdForUpdate}) cannot be pruned and probe the primary key
+ * index of every attached partition: one index lookup per month from the archive cutoff to the last created partition.
+ */
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, Long> {
     Page<Booking> findByPropertyId(Long propertyId, Pageable pageable);
@@ -19,21 +28,43 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
 
     Page<Booking> findAll(Pageable pageable);
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Booking b WHERE b.id = :id")
+    Optional<Booking> findByIdForUpdate(@Param("id") Long id);
+
     @Query("SELECT COUNT(b) FROM Booking b WHERE b.propertyId = :propertyId " +
+            "AND b.checkInDate >= :earliestCheckIn " +
             "AND (b.checkOutDate > :checkIn AND b.checkInDate < :checkOut) AND b.status != 'CANCELLED'")
     Long countOverlappingBookings(@Param("propertyId") Long propertyId,
                                   @Param("checkIn") LocalDate checkIn,
-                                  @Param("checkOut") LocalDate checkOut);
+                                  @Param("checkOut") LocalDate checkOut,
+                                  @Param("earliestCheckIn") LocalDate earliestCheckIn);
+
+    @Query("SELECT COUNT(b) FROM Booking b WHERE b.propertyId = :propertyId AND b.id <> :bookingId " +
+            "AND b.checkInDate >= :earliestCheckIn " +
+            "AND (b.checkOutDate > :checkIn AND b.checkInDate < :checkOut) AND b.status != 'CANCELLED'")
+    Long countOverlappingBookingsExcluding(@Param("propertyId") Long propertyId,
+                                           @Param("checkIn") LocalDate checkIn,
+                                           @Param("checkOut") LocalDate checkOut,
+                                           @Param("earliestCheckIn") LocalDate earliestCheckIn,
+                                           @Param("bookingId") Long bookingId);
 
     @Query("SELECT b FROM Booking b WHERE b.propertyId = :propertyId " +
+            "AND b.checkInDate >= :earliestCheckIn " +
             "AND b.checkOutDate >= :today " +
             "AND b.status != com.example.bookingservice.models.BookingStatus.CANCELLED " +
             "ORDER BY b.checkInDate ASC")
-    List<Booking> findFutureBookings(@Param("propertyId") Long propertyId, @Param("today") LocalDate today);
+    List<Booking> findFutureBookings(@Param("propertyId") Long propertyId,
+                                     @Param("today") LocalDate today,
+                                     @Param("earliestCheckIn") LocalDate earliestCheckIn);
 
     @Query("SELECT b FROM Booking b WHERE b.propertyId = :propertyId AND b.userId = :userId " +
             "AND b.status = 'CONFIRMED' AND b.checkOutDate < CURRENT_DATE")
     List<Booking> findConfirmedBookingByPropertyIdAndUserId(Long propertyId, Long userId);
 
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM booking_archive WHERE property_id = :propertyId " +
+            "AND user_id = :userId AND status = 'CONFIRMED')", nativeQuery = true)
+    boolean existsArchivedConfirmedBooking(@Param("propertyId") Long propertyId, @Param("userId") Long userId);
+
     List<Booking> findTop5ByUserIdOrderByCreatedAtDesc(Long userId);
 }
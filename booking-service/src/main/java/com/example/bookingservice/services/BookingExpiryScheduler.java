@@ -0,0 +1,103 @@
+package com.example.bookingservice.services;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Component
+@Slf4j
+public class BookingExpiryScheduler {
+
+    private static final String EXPIRE_STALE_HOLDS = """
+            WITH stale AS (
+                SELECT booking_id, check_in_date
+                FROM booking
+                WHERE status IN ('PENDING', 'AWAITING_PAYMENT')
+                  AND created_at < ?
+                  AND (updated_at IS NULL OR updated_at < ?)
+                ORDER BY created_at
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            ), expired AS (
+                UPDATE booking b
+                SET status = 'CANCELLED', updated_at = ?
+                FROM stale
+                WHERE b.booking_id = stale.booking_id AND b.check_in_date = stale.check_in_date
+                RETURNING b.booking_id, b.property_id
+            ), history AS (
+                INSERT INTO booking_history (booking_id, status, changed_at)
+                SELECT booking_id, 'CANCELLED', ? FROM expired
+            )
+            SELECT booking_id, property_id FROM expired
+            """;
+
+    record ExpiredBooking(long bookingId, long propertyId) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CacheManager cacheManager;
+    private final Duration holdTtl;
+    private final int batchSize;
+    private final Counter expired;
+
+    public BookingExpiryScheduler(JdbcTemplate jdbcTemplate, CacheManager cacheManager,
+                                  @Value("${application.booking.expiry.hold-ttl}") Duration holdTtl,
+                                  @Value("${application.booking.expiry.batch-size}") int batchSize,
+                                  MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.cacheManager = cacheManager;
+        this.holdTtl = holdTtl;
+        this.batchSize = batchSize;
+        this.expired = Counter.builder("booking.expired").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${application.booking.expiry.poll-interval}",
+            initialDelayString = "${application.booking.expiry.poll-interval}")
+    public void expireStaleHolds() {
+        try {
+            int total = 0;
+            List<ExpiredBooking> batch;
+            do {
+                batch = expireBatch();
+                total += batch.size();
+            } while (batch.size() == batchSize);
+
+            if (total > 0) {
+                log.info("{} unpaid bookings older than {} have been cancelled", total, holdTtl);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Failed to expire unpaid bookings, retrying on the next run", e);
+        }
+    }
+
+    private List<ExpiredBooking> expireBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime cutoff = now.minus(holdTtl);
+        List<ExpiredBooking> batch = jdbcTemplate.query(EXPIRE_STALE_HOLDS,
+                (rs, rowNum) -> new ExpiredBooking(rs.getLong("booking_id"), rs.getLong("property_id")),
+                cutoff, cutoff, batchSize, now, now);
+
+        evict("bookingById", batch.stream().map(ExpiredBooking::bookingId).toList());
+        evict("availableDates", batch.stream().map(ExpiredBooking::propertyId).distinct().toList());
+        expired.increment(batch.size());
+        return batch;
+    }
+
+    private void evict(String cacheName, List<Long> keys) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            keys.forEach(cache::evict);
+        }
+    }
+}
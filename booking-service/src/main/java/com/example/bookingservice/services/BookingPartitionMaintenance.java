@@ -0,0 +1,75 @@
+package com.example.bookingservice.services;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+@Component
+@Slf4j
+public class BookingPartitionMaintenance {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private final int historyBatchSize;
+    private final Counter archivedBookings;
+    private final Counter archivedHistory;
+
+    public BookingPartitionMaintenance(JdbcTemplate jdbcTemplate,
+                                       @Value("${application.booking.partitions.months-ahead}") int monthsAhead,
+                                       @Value("${application.booking.archive.retention-months}") int retentionMonths,
+                                       @Value("${application.booking.archive.history-batch-size}") int historyBatchSize,
+                                       MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+        this.historyBatchSize = historyBatchSize;
+        this.archivedBookings = Counter.builder("booking.archive.rows").tag("table", "booking").register(meterRegistry);
+        this.archivedHistory = Counter.builder("booking.archive.rows").tag("table", "booking_history").register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${application.booking.partitions.cron}")
+    public void maintain() {
+        try {
+            createPartitions();
+            archive();
+        } catch (DataAccessException e) {
+            log.warn("Booking partition maintenance failed, it will be retried on the next run", e);
+        }
+    }
+
+    void createPartitions() {
+        LocalDate currentMonth = LocalDate.now().withDayOfMonth(1);
+        Integer created = jdbcTemplate.queryForObject("SELECT create_booking_partitions(?, ?)", Integer.class,
+                currentMonth, monthsAhead + 1);
+        if (created != null && created > 0) {
+            log.info("{} booking partitions have been created", created);
+        }
+    }
+
+    void archive() {
+        LocalDate cutoff = LocalDate.now().withDayOfMonth(1).minusMonths(retentionMonths);
+        Integer bookings = jdbcTemplate.queryForObject("SELECT archive_bookings(?)", Integer.class, cutoff);
+        archivedBookings.increment(bookings != null ? bookings : 0);
+
+        int history = 0;
+        Integer moved;
+        do {
+            moved = jdbcTemplate.queryForObject("SELECT archive_booking_history(?)", Integer.class, historyBatchSize);
+            history += moved != null ? moved : 0;
+        } while (moved != null && moved == historyBatchSize);
+        archivedHistory.increment(history);
+
+        log.info("Archived {} bookings and {} history records with check-out before {}", bookings, history, cutoff);
+    }
+}
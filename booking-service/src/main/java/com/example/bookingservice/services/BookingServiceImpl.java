@@ -17,6 +17,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.dao.CannotSerializeTransactionException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -209,7 +210,19 @@ public class BookingServiceImpl implements BookingService {
         }
 
         return transactionTemplate.execute(status -> {
-            Booking attachedBooking = bookingRepository.findById(bookingId).orElseThrow();
+            Booking attachedBooking = bookingRepository.findByIdForUpdate(bookingId).orElseThrow();
+
+            if (attachedBooking.getStatus() == bookingStatus) {
+                return convertToGetBookingDTO(attachedBooking);
+            }
+            if (attachedBooking.getStatus() == BookingStatus.CANCELLED) {
+                throw new BookingException("Booking has been cancelled and its status cannot be changed");
+            }
+            if (bookingStatus == BookingStatus.CONFIRMED && bookingRepository.countOverlappingBookingsExcluding(
+                    attachedBooking.getPropertyId(), attachedBooking.getCheckInDate(), attachedBooking.getCheckOutDate(),
+                    earliestCheckInStillStaying(attachedBooking.getCheckInDate()), bookingId) > 0) {
+                throw new BookingException("Property is not available for selected dates.");
+            }
 
             attachedBooking.setStatus(bookingStatus);
             attachedBooking.setUpdatedAt(LocalDateTime.now());
@@ -233,7 +246,7 @@ public class BookingServiceImpl implements BookingService {
     @Override
     @Transactional
     public void initiatePayment(Long bookingId, String token) {
-        Booking booking = bookingRepository.findById(bookingId)
+        Booking booking = bookingRepository.findByIdForUpdate(bookingId)
                 .orElseThrow(() -> new BookingException("Booking not found"));
 
         Long currentUserId = jwtTokenUtils.getUserId(token);
@@ -255,12 +268,16 @@ public class BookingServiceImpl implements BookingService {
     @Override
     @Transactional
     public void completePayment(Long bookingId) {
-        Booking booking = bookingRepository.findById(bookingId)
+        Booking booking = bookingRepository.findByIdForUpdate(bookingId)
                 .orElseThrow(() -> new BookingException("Booking not found"));
 
-        if (booking.getStatus() != BookingStatus.AWAITING_PAYMENT) {
+        if (booking.getStatus() == BookingStatus.CONFIRMED) {
             return;
         }
+        if (booking.getStatus() != BookingStatus.AWAITING_PAYMENT) {
+            throw new BookingException("Payment cannot be applied to booking " + bookingId
+                    + " (status is " + booking.getStatus() + ")");
+        }
 
         booking.setStatus(BookingStatus.CONFIRMED);
         booking.setUpdatedAt(LocalDateTime.now());
@@ -281,18 +298,21 @@ public class BookingServiceImpl implements BookingService {
     @Override
     public Boolean isAvailable(Long propertyId, LocalDate checkIn, LocalDate checkOut) {
         validateBookingDates(checkIn, checkOut);
-        return bookingRepository.countOverlappingBookings(propertyId, checkIn, checkOut) == 0;
+        return bookingRepository.countOverlappingBookings(propertyId, checkIn, checkOut,
+                earliestCheckInStillStaying(checkIn)) == 0;
     }
 
     @Override
     public Boolean whetherThereWasABooking(Long propertyId, Long userId) {
-        return !bookingRepository.findConfirmedBookingByPropertyIdAndUserId(propertyId, userId).isEmpty();
+        return !bookingRepository.findConfirmedBookingByPropertyIdAndUserId(propertyId, userId).isEmpty()
+                || bookingRepository.existsArchivedConfirmedBooking(propertyId, userId);
     }
 
     @Override
     @Cacheable(value = "availableDates", key = "#propertyId")
         public List<LocalDate> getAvailableDates(Long propertyId) {
-        List<Booking> bookings = bookingRepository.findFutureBookings(propertyId, LocalDate.now());
+        List<Booking> bookings = bookingRepository.findFutureBookings(propertyId, LocalDate.now(),
+                earliestCheckInStillStaying(LocalDate.now()));
 
         List<LocalDate> availableDates = new ArrayList<>();
         LocalDate today = LocalDate.now();
@@ -369,6 +389,14 @@ public class BookingServiceImpl implements BookingService {
         bookingHistoryRepository.save(bookingHistory);
     }
 
+    /**
+     * validateBookingDates keeps every stay within MAX_BOOKING_WINDOW_MONTHS, so a booking that has not checked out
+     * by {@code date} checked in after this day. Bounding checkInDate with it lets Postgres skip older partitions.
+     */
+    private static LocalDate earliestCheckInStillStaying(LocalDate date) {
+        return date.minusMonths(MAX_BOOKING_WINDOW_MONTHS).minusDays(1);
+    }
+
     private void validateBookingDates(LocalDate checkIn, LocalDate checkOut) {
         if (checkIn.isAfter(checkOut) || checkIn.isEqual(checkOut)) {
             throw new BookingException("Check-in date must be before check-out date.");
@@ -386,12 +414,7 @@ public class BookingServiceImpl implements BookingService {
         bookingCreatedEvent.setBookingId(booking.getId());
         bookingCreatedEvent.setEmail(jwtTokenUtils.getEmail(token));
 
-        try {
-            String propertyTitle = propertyClient.getPropertyById(booking.getPropertyId()).getTitle();
-            bookingCreatedEvent.setPropertyName(propertyTitle);
-        } catch (Exception e) {
-            bookingCreatedEvent.setPropertyName("Unknown Property");
-        }
+        setPropertyDetails(bookingCreatedEvent, booking.getPropertyId());
 
         bookingCreatedEvent.setCheckInDate(booking.getCheckInDate().toString());
         bookingCreatedEvent.setCheckOutDate(booking.getCheckOutDate().toString());
@@ -411,19 +434,35 @@ public class BookingServiceImpl implements BookingService {
             return;
         }
 
-        try {
-            String propertyTitle = propertyClient.getPropertyById(booking.getPropertyId()).getTitle();
-            bookingCreatedEvent.setPropertyName(propertyTitle);
-        } catch (Exception e) {
-            bookingCreatedEvent.setPropertyName("Unknown Property");
-        }
+        setPropertyDetails(bookingCreatedEvent, booking.getPropertyId());
 
         bookingCreatedEvent.setCheckInDate(booking.getCheckInDate().toString());
         bookingCreatedEvent.setCheckOutDate(booking.getCheckOutDate().toString());
+        bookingCreatedEvent.setLocale(LocaleContextHolder.getLocale().toLanguageTag());
 
         producer.sendBookingCreatedEvent("booking-created", bookingCreatedEvent);
     }
 
+    private void setPropertyDetails(BookingCreatedEvent bookingCreatedEvent, Long propertyId) {
+        GetPropertyDTO property;
+        try {
+            property = propertyClient.getPropertyById(propertyId);
+        } catch (Exception e) {
+            bookingCreatedEvent.setPropertyName("Unknown Property");
+            return;
+        }
+        bookingCreatedEvent.setPropertyName(property.getTitle());
+
+        if (property.getOwnerId() != null) {
+            bookingCreatedEvent.setOwnerId(property.getOwnerId());
+            try {
+                bookingCreatedEvent.setOwnerEmail(userClient.getUserById(property.getOwnerId()).getEmail());
+            } catch (Exception e) {
+                log.warn("Could not fetch owner email for property {}", propertyId, e);
+            }
+        }
+    }
+
     protected void executeAfterCommit(Runnable runnable) {
         TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
             @Override
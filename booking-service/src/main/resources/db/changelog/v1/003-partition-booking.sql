@@ -0,0 +1,165 @@
+--liquibase formatted sql
+
+--changeset 9jer:create-partitioned-booking-table
+ALTER TABLE Booking_History DROP CONSTRAINT booking_history_booking_id_fkey;
+
+DROP INDEX idx_booking_property_id;
+DROP INDEX idx_booking_user_id;
+DROP INDEX idx_booking_dates;
+ALTER TABLE Booking DROP CONSTRAINT booking_pkey;
+ALTER TABLE Booking ALTER COLUMN booking_id DROP IDENTITY;
+ALTER TABLE Booking RENAME TO Booking_Unpartitioned;
+
+CREATE SEQUENCE booking_booking_id_seq;
+
+CREATE TABLE Booking (
+                         booking_id BIGINT NOT NULL DEFAULT nextval('booking_booking_id_seq'),
+                         user_id BIGINT NOT NULL,
+                         property_id BIGINT NOT NULL,
+                         check_in_date DATE NOT NULL,
+                         check_out_date DATE NOT NULL,
+                         status VARCHAR(50) NOT NULL DEFAULT 'PENDING',
+                         created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                         updated_at TIMESTAMP,
+                         PRIMARY KEY (booking_id, check_in_date)
+) PARTITION BY RANGE (check_in_date);
+
+ALTER SEQUENCE booking_booking_id_seq OWNED BY Booking.booking_id;
+
+CREATE TABLE Booking_Default PARTITION OF Booking DEFAULT;
+
+CREATE INDEX idx_booking_dates ON Booking(property_id, check_in_date, check_out_date);
+CREATE INDEX idx_booking_user_created ON Booking(user_id, created_at DESC);
+CREATE INDEX idx_booking_history_booking_id ON Booking_History(booking_id);
+
+--changeset 9jer:create-booking-archive-tables
+CREATE TABLE Booking_Archive (
+                         booking_id BIGINT PRIMARY KEY,
+                         user_id BIGINT NOT NULL,
+                         property_id BIGINT NOT NULL,
+                         check_in_date DATE NOT NULL,
+                         check_out_date DATE NOT NULL,
+                         status VARCHAR(50) NOT NULL,
+                         created_at TIMESTAMP,
+                         updated_at TIMESTAMP
+);
+
+CREATE TABLE Booking_History_Archive (
+                                 history_id BIGINT PRIMARY KEY,
+                                 booking_id BIGINT NOT NULL,
+                                 status VARCHAR(50) NOT NULL,
+                                 changed_at TIMESTAMP
+);
+
+CREATE INDEX idx_booking_archive_user_property ON Booking_Archive(user_id, property_id);
+CREATE INDEX idx_booking_history_archive_booking_id ON Booking_History_Archive(booking_id);
+
+--changeset 9jer:create-booking-partitions-function splitStatements:false
+CREATE FUNCTION create_booking_partitions(first_month DATE, months INT) RETURNS INT AS $$
+DECLARE
+    month_start DATE;
+    month_end DATE;
+    partition_name TEXT;
+    created INT := 0;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('booking_partitions'));
+
+    FOR i IN 0..months - 1 LOOP
+        month_start := (date_trunc('month', first_month) + make_interval(months => i))::DATE;
+        month_end := (month_start + INTERVAL '1 month')::DATE;
+        partition_name := 'booking_p' || to_char(month_start, 'YYYY_MM');
+        CONTINUE WHEN to_regclass(partition_name) IS NOT NULL;
+
+        IF EXISTS (SELECT 1 FROM booking_default WHERE check_in_date >= month_start AND check_in_date < month_end) THEN
+            EXECUTE format('CREATE TABLE %I (LIKE booking INCLUDING DEFAULTS)', partition_name);
+            EXECUTE format('WITH moved AS (DELETE FROM booking_default WHERE check_in_date >= %L AND check_in_date < %L RETURNING *) '
+                               'INSERT INTO %I SELECT * FROM moved', month_start, month_end, partition_name);
+            EXECUTE format('ALTER TABLE booking ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                           partition_name, month_start, month_end);
+        ELSE
+            EXECUTE format('CREATE TABLE %I PARTITION OF booking FOR VALUES FROM (%L) TO (%L)',
+                           partition_name, month_start, month_end);
+        END IF;
+        created := created + 1;
+    END LOOP;
+
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+--changeset 9jer:create-archive-bookings-function splitStatements:false
+CREATE FUNCTION archive_bookings(cutoff DATE) RETURNS INT AS $$
+DECLARE
+    partition_name TEXT;
+    last_check_out DATE;
+    moved INT;
+    archived INT := 0;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('booking_partitions'));
+    PERFORM set_config('lock_timeout', '5s', true);
+
+    FOR partition_name IN
+        SELECT c.relname
+        FROM pg_inherits i
+                 JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = 'booking'::regclass
+          AND c.relname ~ '^booking_p\d{4}_\d{2}$'
+          AND (to_date(substr(c.relname, 10), 'YYYY_MM') + INTERVAL '1 month')::DATE <= cutoff
+        ORDER BY c.relname
+    LOOP
+        EXECUTE format('SELECT max(check_out_date) FROM %I', partition_name) INTO last_check_out;
+        CONTINUE WHEN last_check_out >= cutoff;
+
+        EXECUTE format('INSERT INTO booking_archive SELECT * FROM %I', partition_name);
+        GET DIAGNOSTICS moved = ROW_COUNT;
+        EXECUTE format('ALTER TABLE booking DETACH PARTITION %I', partition_name);
+        EXECUTE format('DROP TABLE %I', partition_name);
+        archived := archived + moved;
+    END LOOP;
+
+    WITH stale AS (
+        DELETE FROM booking_default WHERE check_out_date < cutoff RETURNING *
+    )
+    INSERT INTO booking_archive SELECT * FROM stale;
+    GET DIAGNOSTICS moved = ROW_COUNT;
+
+    RETURN archived + moved;
+END;
+$$ LANGUAGE plpgsql;
+
+--changeset 9jer:create-archive-booking-history-function splitStatements:false
+CREATE FUNCTION archive_booking_history(batch_size INT) RETURNS INT AS $$
+DECLARE
+    moved INT;
+BEGIN
+    WITH batch AS (
+        DELETE FROM booking_history
+        WHERE history_id IN (
+            SELECT h.history_id
+            FROM booking_history h
+                     JOIN booking_archive a ON a.booking_id = h.booking_id
+            LIMIT batch_size
+            FOR UPDATE OF h SKIP LOCKED)
+        RETURNING *
+    )
+    INSERT INTO booking_history_archive SELECT * FROM batch;
+    GET DIAGNOSTICS moved = ROW_COUNT;
+
+    RETURN moved;
+END;
+$$ LANGUAGE plpgsql;
+
+--changeset 9jer:migrate-bookings-to-partitions
+SELECT create_booking_partitions(first_month,
+                                 (EXTRACT(YEAR FROM age(date_trunc('month', CURRENT_DATE), first_month)) * 12
+                                     + EXTRACT(MONTH FROM age(date_trunc('month', CURRENT_DATE), first_month)))::INT + 5)
+FROM (SELECT date_trunc('month', LEAST(COALESCE(min(check_in_date), CURRENT_DATE), CURRENT_DATE))::DATE AS first_month
+      FROM Booking_Unpartitioned) bounds;
+
+INSERT INTO Booking (booking_id, user_id, property_id, check_in_date, check_out_date, status, created_at, updated_at)
+SELECT booking_id, user_id, property_id, check_in_date, check_out_date, status, created_at, updated_at
+FROM Booking_Unpartitioned;
+
+SELECT setval('booking_booking_id_seq', COALESCE((SELECT max(booking_id) FROM Booking), 0) + 1, false);
+
+DROP TABLE Booking_Unpartitioned;
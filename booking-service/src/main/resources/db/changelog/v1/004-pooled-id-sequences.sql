@@ -0,0 +1,11 @@
+--liquibase formatted sql
+
+--changeset 9jer:use-pooled-booking-id-sequences
+ALTER SEQUENCE booking_booking_id_seq INCREMENT BY 50;
+
+ALTER TABLE Booking_History ALTER COLUMN history_id DROP IDENTITY;
+CREATE SEQUENCE booking_history_history_id_seq INCREMENT BY 50 OWNED BY Booking_History.history_id;
+SELECT setval('booking_history_history_id_seq',
+              GREATEST((SELECT COALESCE(max(history_id), 0) FROM Booking_History),
+                       (SELECT COALESCE(max(history_id), 0) FROM Booking_History_Archive)) + 1, false);
+ALTER TABLE Booking_History ALTER COLUMN history_id SET DEFAULT nextval('booking_history_history_id_seq');
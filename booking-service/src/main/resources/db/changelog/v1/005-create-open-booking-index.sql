@@ -0,0 +1,5 @@
+--liquibase formatted sql
+
+--changeset 9jer:create-open-booking-index
+CREATE INDEX idx_booking_open_created ON Booking(status, created_at)
+    WHERE status IN ('PENDING', 'AWAITING_PAYMENT');
@@ -0,0 +1,54 @@
+package com.example.bookingservice.event;
+
+import com.example.common.kafka.KafkaSendRecorder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BookingCreatedEventProducerTest {
+
+    @Mock
+    private KafkaTemplate<String, BookingCreatedEvent> kafkaTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private KafkaSendRecorder sendRecorder = new KafkaSendRecorder(meterRegistry);
+
+    @InjectMocks
+    private BookingCreatedEventProducer producer;
+
+    @Test
+    void sendBookingCreatedEvent_SendsEventKeyedByBookingId() {
+        // Given
+        BookingCreatedEvent event = new BookingCreatedEvent();
+        event.setBookingId(42L);
+        event.setEmail("guest@example.com");
+        event.setPropertyName("Luxury Villa");
+        event.setCheckInDate("2026-05-01");
+        event.setCheckOutDate("2026-05-10");
+        when(kafkaTemplate.send(anyString(), anyString(), any(BookingCreatedEvent.class)))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        // When
+        producer.sendBookingCreatedEvent("booking-created", event);
+
+        // Then
+        verify(kafkaTemplate, times(1)).send("booking-created", "42", event);
+        assertEquals(1L, meterRegistry.get("kafka.producer.send")
+                .tag("topic", "booking-created").tag("result", "success").timer().count());
+    }
+}
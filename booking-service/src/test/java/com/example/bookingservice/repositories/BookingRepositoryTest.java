@@ -1,13 +1,19 @@
 package com.example.bookingservice.repositories;
 
 import com.example.bookingservice.models.Booking;
+import com.example.bookingservice.models.BookingHistory;
 import com.example.bookingservice.models.BookingStatus;
+import com.example.bookingservice.services.BookingExpiryScheduler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -25,6 +31,12 @@ class BookingRepositoryTest {
     @Autowired
     private BookingRepository bookingRepository;
 
+    @Autowired
+    private BookingHistoryRepository bookingHistoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Test
     void countOverlappingBookings_ShouldReturnCorrectCount() {
         Booking booking = new Booking();
@@ -37,18 +49,18 @@ class BookingRepositoryTest {
         bookingRepository.save(booking);
 
         Long overlap1 = bookingRepository.countOverlappingBookings(
-                100L, LocalDate.of(2026, 5, 15), LocalDate.of(2026, 5, 25));
+                100L, LocalDate.of(2026, 5, 15), LocalDate.of(2026, 5, 25), LocalDate.of(2026, 2, 14));
         assertThat(overlap1).isEqualTo(1);
 
         Long overlap2 = bookingRepository.countOverlappingBookings(
-                100L, LocalDate.of(2026, 5, 22), LocalDate.of(2026, 5, 30));
+                100L, LocalDate.of(2026, 5, 22), LocalDate.of(2026, 5, 30), LocalDate.of(2026, 2, 21));
         assertThat(overlap2).isEqualTo(0);
 
         booking.setStatus(BookingStatus.CANCELLED);
         bookingRepository.save(booking);
 
         Long overlap3 = bookingRepository.countOverlappingBookings(
-                100L, LocalDate.of(2026, 5, 15), LocalDate.of(2026, 5, 25));
+                100L, LocalDate.of(2026, 5, 15), LocalDate.of(2026, 5, 25), LocalDate.of(2026, 2, 14));
          assertThat(overlap3).isEqualTo(0);
          assertThat(overlap3).isEqualTo(0);
     }
@@ -63,7 +75,7 @@ class BookingRepositoryTest {
 
         bookingRepository.saveAll(List.of(pastBooking, futureBooking1, futureBooking2, cancelledFuture));
 
-        List<Booking> result = bookingRepository.findFutureBookings(100L, today);
+        List<Booking> result = bookingRepository.findFutureBookings(100L, today, today.minusMonths(3).minusDays(1));
 
         assertThat(result).hasSize(2);
 
@@ -87,6 +99,45 @@ class BookingRepositoryTest {
         assertThat(result.get(0).getId()).isEqualTo(validPastBooking.getId());
     }
 
+    @Test
+    void archiveBookings_PastStays_ShouldBeMovedToArchive() {
+        LocalDate today = LocalDate.now();
+        Booking oldStay = createBooking(1L, 100L, BookingStatus.CONFIRMED, today.minusYears(2), today.minusYears(2).plusDays(3));
+        Booking futureStay = createBooking(1L, 100L, BookingStatus.CONFIRMED, today.plusDays(5), today.plusDays(10));
+        bookingRepository.saveAll(List.of(oldStay, futureStay));
+        bookingRepository.flush();
+
+        Integer archived = jdbcTemplate.queryForObject("SELECT archive_bookings(?)", Integer.class, today.minusYears(1));
+
+        assertThat(archived).isEqualTo(1);
+        assertThat(bookingRepository.findAll()).extracting(Booking::getId).containsExactly(futureStay.getId());
+        assertThat(bookingRepository.existsArchivedConfirmedBooking(100L, 1L)).isTrue();
+        assertThat(bookingRepository.existsArchivedConfirmedBooking(100L, 2L)).isFalse();
+    }
+
+    @Test
+    void expireStaleHolds_ShouldCancelOnlyStaleOpenBookings() {
+        LocalDate today = LocalDate.now();
+        Booking stalePending = createBooking(1L, 100L, BookingStatus.PENDING, today.plusDays(5), today.plusDays(8));
+        stalePending.setCreatedAt(LocalDateTime.now().minusHours(2));
+        Booking recentPayment = createBooking(2L, 100L, BookingStatus.AWAITING_PAYMENT, today.plusDays(10), today.plusDays(12));
+        recentPayment.setCreatedAt(LocalDateTime.now().minusHours(2));
+        recentPayment.setUpdatedAt(LocalDateTime.now().minusMinutes(5));
+        Booking freshPending = createBooking(3L, 100L, BookingStatus.PENDING, today.plusDays(20), today.plusDays(22));
+        Booking staleConfirmed = createBooking(4L, 100L, BookingStatus.CONFIRMED, today.plusDays(30), today.plusDays(32));
+        staleConfirmed.setCreatedAt(LocalDateTime.now().minusHours(2));
+        bookingRepository.saveAll(List.of(stalePending, recentPayment, freshPending, staleConfirmed));
+        bookingRepository.flush();
+
+        new BookingExpiryScheduler(jdbcTemplate, new ConcurrentMapCacheManager(), Duration.ofMinutes(30), 100,
+                new SimpleMeterRegistry()).expireStaleHolds();
+
+        assertThat(jdbcTemplate.queryForList("SELECT booking_id FROM booking WHERE status = 'CANCELLED'", Long.class))
+                .containsExactly(stalePending.getId());
+        assertThat(bookingHistoryRepository.findByBookingId(stalePending.getId()))
+                .extracting(BookingHistory::getStatus).containsExactly("CANCELLED");
+    }
+
     private Booking createBooking(Long userId, Long propertyId, BookingStatus status, LocalDate checkIn, LocalDate checkOut) {
         Booking booking = new Booking();
         booking.setUserId(userId);
@@ -0,0 +1,75 @@
+package com.example.bookingservice.services;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BookingExpirySchedulerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private ConcurrentMapCacheManager cacheManager;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private BookingExpiryScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager("availableDates", "bookingById");
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new BookingExpiryScheduler(jdbcTemplate, cacheManager, Duration.ofMinutes(30), 2, meterRegistry);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void expireStaleHolds_StaleBookings_CancelsInBatchesAndEvictsCaches() {
+        // Given
+        cacheManager.getCache("availableDates").put(10L, List.of());
+        cacheManager.getCache("availableDates").put(30L, List.of());
+        cacheManager.getCache("bookingById").put(1L, "booking");
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Object[].class)))
+                .thenReturn(List.of(new BookingExpiryScheduler.ExpiredBooking(1L, 10L),
+                                new BookingExpiryScheduler.ExpiredBooking(2L, 10L)),
+                        List.of(new BookingExpiryScheduler.ExpiredBooking(3L, 20L)));
+
+        // When
+        scheduler.expireStaleHolds();
+
+        // Then
+        verify(jdbcTemplate, times(2)).query(anyString(), any(RowMapper.class), any(Object[].class));
+        assertNull(cacheManager.getCache("availableDates").get(10L));
+        assertNotNull(cacheManager.getCache("availableDates").get(30L));
+        assertNull(cacheManager.getCache("bookingById").get(1L));
+        assertEquals(3.0, meterRegistry.get("booking.expired").counter().count());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void expireStaleHolds_DatabaseUnavailable_DoesNotPropagate() {
+        // Given
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Object[].class)))
+                .thenThrow(new QueryTimeoutException("Lock timeout"));
+
+        // When / Then
+        assertDoesNotThrow(() -> scheduler.expireStaleHolds());
+        assertEquals(0.0, meterRegistry.get("booking.expired").counter().count());
+    }
+}
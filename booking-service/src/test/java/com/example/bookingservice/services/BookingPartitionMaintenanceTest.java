@@ -0,0 +1,69 @@
+package com.example.bookingservice.services;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BookingPartitionMaintenanceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private BookingPartitionMaintenance maintenance;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        maintenance = new BookingPartitionMaintenance(jdbcTemplate, 4, 6, 2, meterRegistry);
+    }
+
+    @Test
+    void maintain_CreatesUpcomingPartitionsAndArchivesPastStays() {
+        // Given
+        LocalDate currentMonth = LocalDate.now().withDayOfMonth(1);
+        when(jdbcTemplate.queryForObject(eq("SELECT create_booking_partitions(?, ?)"), eq(Integer.class), any(), any()))
+                .thenReturn(1);
+        when(jdbcTemplate.queryForObject(eq("SELECT archive_bookings(?)"), eq(Integer.class), any()))
+                .thenReturn(3);
+        when(jdbcTemplate.queryForObject(eq("SELECT archive_booking_history(?)"), eq(Integer.class), any()))
+                .thenReturn(2, 2, 1);
+
+        // When
+        maintenance.maintain();
+
+        // Then
+        verify(jdbcTemplate).queryForObject("SELECT create_booking_partitions(?, ?)", Integer.class, currentMonth, 5);
+        verify(jdbcTemplate).queryForObject("SELECT archive_bookings(?)", Integer.class, currentMonth.minusMonths(6));
+        verify(jdbcTemplate, times(3)).queryForObject("SELECT archive_booking_history(?)", Integer.class, 2);
+        assertEquals(3.0, meterRegistry.get("booking.archive.rows").tag("table", "booking").counter().count());
+        assertEquals(5.0, meterRegistry.get("booking.archive.rows").tag("table", "booking_history").counter().count());
+    }
+
+    @Test
+    void maintain_DatabaseUnavailable_DoesNotPropagate() {
+        // Given
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), any(), any()))
+                .thenThrow(new QueryTimeoutException("Lock timeout"));
+
+        // When / Then
+        assertDoesNotThrow(() -> maintenance.maintain());
+        verify(jdbcTemplate, never()).queryForObject(eq("SELECT archive_bookings(?)"), eq(Integer.class), any());
+    }
+}
@@ -19,6 +19,7 @@ import com.example.bookingservice.util.JwtTokenUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
@@ -198,7 +199,8 @@ class BookingServiceImplTest {
         when(propertyClient.propertyExists(1L)).thenReturn(true);
         when(jwtTokenUtils.getUserId(token)).thenReturn(1L);
         when(userClient.userExists(1L)).thenReturn(true);
-        when(bookingRepository.countOverlappingBookings(1L, booking.getCheckInDate(), booking.getCheckOutDate()))
+        when(bookingRepository.countOverlappingBookings(1L, booking.getCheckInDate(), booking.getCheckOutDate(),
+                booking.getCheckInDate().minusMonths(3).minusDays(1)))
                 .thenReturn(0L);
 
         when(bookingRepository.save(any(Booking.class))).thenAnswer(invocation -> {
@@ -258,7 +260,8 @@ class BookingServiceImplTest {
         when(propertyClient.propertyExists(1L)).thenReturn(true);
         when(jwtTokenUtils.getUserId(token)).thenReturn(1L);
         when(userClient.userExists(1L)).thenReturn(true);
-        when(bookingRepository.countOverlappingBookings(1L, booking.getCheckInDate(), booking.getCheckOutDate()))
+        when(bookingRepository.countOverlappingBookings(1L, booking.getCheckInDate(), booking.getCheckOutDate(),
+                booking.getCheckInDate().minusMonths(3).minusDays(1)))
                 .thenReturn(1L);
 
         // When & Then
@@ -274,6 +277,7 @@ class BookingServiceImplTest {
     void updateBookingStatus_ValidData_ReturnsDTO() {
         // Given
         when(bookingRepository.findById(1L)).thenReturn(Optional.of(booking));
+        when(bookingRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(booking));
         when(jwtTokenUtils.getRoles(token)).thenReturn(List.of("ROLE_ADMIN"));
         when(bookingRepository.save(any(Booking.class))).thenReturn(booking);
 
@@ -288,11 +292,52 @@ class BookingServiceImplTest {
         verify(bookingHistoryRepository, times(1)).save(any(BookingHistory.class));
     }
 
+    @Test
+    void updateBookingStatus_ExpiredBooking_ThrowsBookingException() {
+        // Given
+        Booking pending = new Booking();
+        pending.setId(1L);
+        pending.setPropertyId(1L);
+        pending.setStatus(BookingStatus.PENDING);
+        booking.setStatus(BookingStatus.CANCELLED);
+
+        when(bookingRepository.findById(1L)).thenReturn(Optional.of(pending));
+        when(bookingRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(booking));
+        when(jwtTokenUtils.getRoles(token)).thenReturn(List.of("ROLE_ADMIN"));
+
+        // When & Then
+        assertThrows(BookingException.class,
+                () -> bookingService.updateBookingStatus(1L, BookingStatus.CONFIRMED, token));
+        assertEquals(BookingStatus.CANCELLED, booking.getStatus());
+        verify(bookingRepository, never()).save(any(Booking.class));
+        verify(bookingHistoryRepository, never()).save(any(BookingHistory.class));
+    }
+
+    @Test
+    void updateBookingStatus_ConfirmOverlappingDates_ThrowsBookingException() {
+        // Given
+        booking.setStatus(BookingStatus.PENDING);
+
+        when(bookingRepository.findById(1L)).thenReturn(Optional.of(booking));
+        when(bookingRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(booking));
+        when(jwtTokenUtils.getRoles(token)).thenReturn(List.of("ROLE_ADMIN"));
+        when(bookingRepository.countOverlappingBookingsExcluding(1L, booking.getCheckInDate(),
+                booking.getCheckOutDate(), booking.getCheckInDate().minusMonths(3).minusDays(1), 1L)).thenReturn(1L);
+
+        // When & Then
+        assertThrows(BookingException.class,
+                () -> bookingService.updateBookingStatus(1L, BookingStatus.CONFIRMED, token));
+        assertEquals(BookingStatus.PENDING, booking.getStatus());
+        verify(bookingRepository, never()).save(any(Booking.class));
+        verify(producer, never()).sendBookingCreatedEvent(anyString(), any(BookingCreatedEvent.class));
+    }
+
     @Test
     void isAvailable_ValidDates_ReturnsTrue() {
         // Given
+        LocalDate checkIn = LocalDate.now().plusDays(1);
         when(bookingRepository.countOverlappingBookings(1L,
-                LocalDate.now().plusDays(1), LocalDate.now().plusDays(3)))
+                checkIn, LocalDate.now().plusDays(3), checkIn.minusMonths(3).minusDays(1)))
                 .thenReturn(0L);
 
         // When
@@ -339,10 +384,24 @@ class BookingServiceImplTest {
         assertFalse(result);
     }
 
+    @Test
+    void whetherThereWasABooking_OnlyArchivedConfirmedBooking_ReturnsTrue() {
+        // Given
+        when(bookingRepository.findConfirmedBookingByPropertyIdAndUserId(1L, 1L))
+                .thenReturn(Collections.emptyList());
+        when(bookingRepository.existsArchivedConfirmedBooking(1L, 1L)).thenReturn(true);
+
+        // When
+        Boolean result = bookingService.whetherThereWasABooking(1L, 1L);
+
+        // Then
+        assertTrue(result);
+    }
+
     @Test
     void getAvailableDates_NoBookings_ReturnsAllDates() {
         // Given
-        when(bookingRepository.findFutureBookings(eq(1L), any(LocalDate.class)))
+        when(bookingRepository.findFutureBookings(eq(1L), any(LocalDate.class), any(LocalDate.class)))
                 .thenReturn(Collections.emptyList());
 
         LocalDate today = LocalDate.now();
@@ -371,7 +430,7 @@ class BookingServiceImplTest {
         booking2.setCheckInDate(LocalDate.now().plusDays(10));
         booking2.setCheckOutDate(LocalDate.now().plusDays(12));
 
-        when(bookingRepository.findFutureBookings(eq(1L), any(LocalDate.class)))
+        when(bookingRepository.findFutureBookings(eq(1L), any(LocalDate.class), any(LocalDate.class)))
                 .thenReturn(List.of(booking1, booking2));
 
         // When
@@ -391,7 +450,7 @@ class BookingServiceImplTest {
         // Given
         booking.setStatus(BookingStatus.PENDING);
 
-        when(bookingRepository.findById(1L)).thenReturn(Optional.of(booking));
+        when(bookingRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(booking));
         when(jwtTokenUtils.getUserId(token)).thenReturn(1L);
 
         // When & Then
@@ -418,7 +477,7 @@ class BookingServiceImplTest {
             return null;
         }).when(bookingService).executeAfterCommit(any());
 
-        when(bookingRepository.findById(1L)).thenReturn(Optional.of(booking));
+        when(bookingRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(booking));
         when(bookingHistoryRepository.save(any(BookingHistory.class))).thenReturn(new BookingHistory());
         when(bookingRepository.save(any(Booking.class))).thenReturn(booking);
 
@@ -435,6 +494,71 @@ class BookingServiceImplTest {
         verify(producer, times(1)).sendBookingCreatedEvent(anyString(), any(BookingCreatedEvent.class));
     }
 
+    @Test
+    void completePayment_ExpiredHold_ThrowsBookingException() {
+        // Given
+        booking.setStatus(BookingStatus.CANCELLED);
+        when(bookingRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(booking));
+
+        // When & Then
+        BookingException exception = assertThrows(BookingException.class, () -> bookingService.completePayment(1L));
+
+        assertTrue(exception.getMessage().contains("CANCELLED"));
+        assertEquals(BookingStatus.CANCELLED, booking.getStatus());
+        verify(bookingRepository, never()).save(any(Booking.class));
+        verify(producer, never()).sendBookingCreatedEvent(anyString(), any(BookingCreatedEvent.class));
+    }
+
+    @Test
+    void completePayment_AlreadyConfirmed_DoesNothing() {
+        // Given
+        when(bookingRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(booking));
+
+        // When
+        bookingService.completePayment(1L);
+
+        // Then
+        verify(bookingRepository, never()).save(any(Booking.class));
+        verify(producer, never()).sendBookingCreatedEvent(anyString(), any(BookingCreatedEvent.class));
+    }
+
+    @Test
+    void completePayment_PropertyWithOwner_EventCarriesOwner() {
+        // Given
+        booking.setStatus(BookingStatus.AWAITING_PAYMENT);
+
+        GetPropertyDTO propertyDTO = new GetPropertyDTO();
+        propertyDTO.setTitle("Luxury Villa");
+        propertyDTO.setOwnerId(2L);
+
+        UserDTO guest = new UserDTO();
+        guest.setEmail("test@example.com");
+        UserDTO owner = new UserDTO();
+        owner.setEmail("owner@example.com");
+
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(bookingService).executeAfterCommit(any());
+
+        when(bookingRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(booking));
+        when(bookingRepository.save(any(Booking.class))).thenReturn(booking);
+        when(propertyClient.getPropertyById(1L)).thenReturn(propertyDTO);
+        when(userClient.getUserById(1L)).thenReturn(guest);
+        when(userClient.getUserById(2L)).thenReturn(owner);
+
+        // When
+        bookingService.completePayment(1L);
+
+        // Then
+        ArgumentCaptor<BookingCreatedEvent> event = ArgumentCaptor.forClass(BookingCreatedEvent.class);
+        verify(producer).sendBookingCreatedEvent(eq("booking-created"), event.capture());
+        assertEquals("test@example.com", event.getValue().getEmail().toString());
+        assertEquals("owner@example.com", event.getValue().getOwnerEmail().toString());
+        assertEquals(2L, event.getValue().getOwnerId());
+        assertEquals("Luxury Villa", event.getValue().getPropertyName().toString());
+    }
+
     @Test
     @Transactional
     void cancelBooking_OwnerOrAdmin_CancelsBooking() {
@@ -1,15 +1,20 @@
 package com.example.common.config;
 
+import com.example.common.security.InternalIdentitySigner;
 import com.example.common.security.ReactiveAccessDeniedHandler;
 import com.example.common.security.ReactiveAuthenticationEntryPoint;
 import com.example.common.security.ServletAccessDeniedHandler;
 import com.example.common.security.ServletAuthenticationEntryPoint;
 import com.example.common.exception.GlobalExceptionHandler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 
 @AutoConfiguration
+@Slf4j
 public class CommonSecurityAutoConfiguration {
 
     @Bean
@@ -17,6 +22,19 @@ public class CommonSecurityAutoConfiguration {
         return new GlobalExceptionHandler();
     }
 
+    @Bean
+    @ConditionalOnProperty(name = "jwt.secret")
+    public InternalIdentitySigner internalIdentitySigner(
+            @Value("${application.internal-identity.secret:}") String secret,
+            @Value("${jwt.secret}") String jwtSecret) {
+        if (secret.isBlank()) {
+            log.warn("application.internal-identity.secret is not set, falling back to jwt.secret to sign " +
+                    "internal identity headers; configure a separate key outside local development");
+            return new InternalIdentitySigner(jwtSecret);
+        }
+        return new InternalIdentitySigner(secret);
+    }
+
     @Bean
     @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
     public ServletAccessDeniedHandler servletAccessDeniedHandler() {
@@ -0,0 +1,18 @@
+package com.example.common.context;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+
+@AutoConfiguration(before = TaskExecutionAutoConfiguration.class)
+public class ContextPropagationAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean(TaskDecorator.class)
+    public ContextPropagatingTaskDecorator contextPropagatingTaskDecorator() {
+        return new ContextPropagatingTaskDecorator();
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.common.context;
+
+import com.example.common.security.InternalIdentitySigner;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+public record ForwardedHeaders(String authorization, String internalIdentity) {
+
+    private static final boolean SERVLET_PRESENT =
+            ClassUtils.isPresent("jakarta.servlet.http.HttpServletRequest", ForwardedHeaders.class.getClassLoader())
+                    && ClassUtils.isPresent("org.springframework.web.context.request.ServletRequestAttributes",
+                    ForwardedHeaders.class.getClassLoader());
+
+    private static final ThreadLocal<ForwardedHeaders> PROPAGATED = new ThreadLocal<>();
+
+    public static ForwardedHeaders current() {
+        ForwardedHeaders fromRequest = SERVLET_PRESENT ? ServletRequestHeaders.current() : null;
+        return fromRequest != null ? fromRequest : PROPAGATED.get();
+    }
+
+    static void propagate(ForwardedHeaders headers) {
+        PROPAGATED.set(headers);
+    }
+
+    static void clear() {
+        PROPAGATED.remove();
+    }
+
+    private static final class ServletRequestHeaders {
+
+        static ForwardedHeaders current() {
+            if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+                return null;
+            }
+            HttpServletRequest request = attributes.getRequest();
+            String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+            String internalIdentity = request.getHeader(InternalIdentitySigner.HEADER);
+            if (authorization == null && internalIdentity == null) {
+                return null;
+            }
+            return new ForwardedHeaders(authorization, internalIdentity);
+        }
+    }
+}
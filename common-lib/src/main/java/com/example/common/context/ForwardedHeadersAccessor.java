@@ -0,0 +1,28 @@
+package com.example.common.context;
+
+import io.micrometer.context.ThreadLocalAccessor;
+
+public class ForwardedHeadersAccessor implements ThreadLocalAccessor<ForwardedHeaders> {
+
+    public static final String KEY = "forwarded-headers";
+
+    @Override
+    public Object key() {
+        return KEY;
+    }
+
+    @Override
+    public ForwardedHeaders getValue() {
+        return ForwardedHeaders.current();
+    }
+
+    @Override
+    public void setValue(ForwardedHeaders value) {
+        ForwardedHeaders.propagate(value);
+    }
+
+    @Override
+    public void setValue() {
+        ForwardedHeaders.clear();
+    }
+}
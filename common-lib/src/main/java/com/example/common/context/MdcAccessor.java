@@ -0,0 +1,32 @@
+package com.example.common.context;
+
+import io.micrometer.context.ThreadLocalAccessor;
+import org.slf4j.MDC;
+
+import java.util.Map;
+
+public class MdcAccessor implements ThreadLocalAccessor<Map<String, String>> {
+
+    public static final String KEY = "mdc";
+
+    @Override
+    public Object key() {
+        return KEY;
+    }
+
+    @Override
+    public Map<String, String> getValue() {
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        return context == null || context.isEmpty() ? null : context;
+    }
+
+    @Override
+    public void setValue(Map<String, String> value) {
+        MDC.setContextMap(value);
+    }
+
+    @Override
+    public void setValue() {
+        MDC.clear();
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.common.context;
+
+import io.micrometer.context.ThreadLocalAccessor;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+public class SecurityContextAccessor implements ThreadLocalAccessor<SecurityContext> {
+
+    public static final String KEY = "security-context";
+
+    @Override
+    public Object key() {
+        return KEY;
+    }
+
+    @Override
+    public SecurityContext getValue() {
+        SecurityContext context = SecurityContextHolder.getContext();
+        return context.getAuthentication() != null ? context : null;
+    }
+
+    @Override
+    public void setValue(SecurityContext value) {
+        SecurityContextHolder.setContext(value);
+    }
+
+    @Override
+    public void setValue() {
+        SecurityContextHolder.clearContext();
+    }
+}
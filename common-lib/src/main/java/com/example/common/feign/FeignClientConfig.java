@@ -1,11 +1,11 @@
 package com.example.common.feign;
 
+import com.example.common.context.ForwardedHeaders;
+import com.example.common.security.InternalIdentitySigner;
 import feign.RequestInterceptor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.context.request.RequestContextHolder;
-import org.springframework.web.context.request.ServletRequestAttributes;
 
 @Configuration
 @ConditionalOnClass(name = "feign.RequestInterceptor")
@@ -14,11 +14,15 @@ public class FeignClientConfig {
     @Bean
     public RequestInterceptor requestInterceptor() {
         return requestTemplate -> {
-            String authorization = RequestContextHolder.getRequestAttributes() != null ?
-                    ((ServletRequestAttributes) RequestContextHolder.getRequestAttributes())
-                            .getRequest().getHeader("Authorization") : null;
-            if (authorization != null) {
-                requestTemplate.header("Authorization", authorization);
+            ForwardedHeaders headers = ForwardedHeaders.current();
+            if (headers == null) {
+                return;
+            }
+            if (headers.authorization() != null) {
+                requestTemplate.header("Authorization", headers.authorization());
+            }
+            if (headers.internalIdentity() != null) {
+                requestTemplate.header(InternalIdentitySigner.HEADER, headers.internalIdentity());
             }
         };
     }
@@ -0,0 +1,61 @@
+package com.example.common.feign;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.core5.http.io.SocketConfig;
+import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
+import org.apache.hc.core5.pool.PoolReusePolicy;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.cloud.openfeign.clientconfig.HttpClient5FeignConfiguration;
+import org.springframework.cloud.openfeign.support.FeignHttpClientProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+import java.util.Map;
+
+@AutoConfiguration(beforeName = "org.springframework.cloud.openfeign.FeignAutoConfiguration")
+@ConditionalOnClass(name = "feign.hc5.ApacheHttp5Client")
+@ConditionalOnProperty(value = "spring.cloud.openfeign.httpclient.hc5.enabled", matchIfMissing = true)
+public class FeignTransportAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean(HttpClientConnectionManager.class)
+    public MeteredConnectionManager feignConnectionManager(FeignHttpClientProperties properties,
+                                                           MeterRegistry meterRegistry,
+                                                           Environment environment) {
+        FeignHttpClientProperties.Hc5Properties hc5 = properties.getHc5();
+        MeteredConnectionManager connectionManager = new MeteredConnectionManager(meterRegistry,
+                PoolConcurrencyPolicy.valueOf(hc5.getPoolConcurrencyPolicy().name()),
+                PoolReusePolicy.valueOf(hc5.getPoolReusePolicy().name()),
+                TimeValue.of(properties.getTimeToLive(), properties.getTimeToLiveUnit()));
+        connectionManager.setMaxTotal(properties.getMaxConnections());
+        connectionManager.setDefaultMaxPerRoute(properties.getMaxConnectionsPerRoute());
+        connectionManager.setDefaultSocketConfig(SocketConfig.custom()
+                .setSoTimeout(Timeout.of(hc5.getSocketTimeout(), hc5.getSocketTimeoutUnit()))
+                .build());
+
+        Binder.get(environment)
+                .bind("application.feign.pool.max-per-target", Bindable.mapOf(String.class, Integer.class))
+                .orElse(Map.of())
+                .forEach(connectionManager::setMaxPerTarget);
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "feign").bindTo(meterRegistry);
+        return connectionManager;
+    }
+
+    @Bean
+    public HttpClient5FeignConfiguration.HttpClientBuilderCustomizer feignIdleConnectionEviction(
+            @Value("${application.feign.pool.idle-timeout:30s}") Duration idleTimeout) {
+        return builder -> builder.evictIdleConnections(TimeValue.ofMilliseconds(idleTimeout.toMillis()));
+    }
+}
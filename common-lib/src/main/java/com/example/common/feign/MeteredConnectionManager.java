@@ -0,0 +1,114 @@
+package com.example.common.feign;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.client5.http.io.LeaseRequest;
+import org.apache.hc.client5.http.socket.ConnectionSocketFactory;
+import org.apache.hc.client5.http.socket.PlainConnectionSocketFactory;
+import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactory;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.URIScheme;
+import org.apache.hc.core5.http.config.RegistryBuilder;
+import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
+import org.apache.hc.core5.pool.PoolReusePolicy;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.ToIntFunction;
+
+public class MeteredConnectionManager extends PoolingHttpClientConnectionManager {
+
+    private final MeterRegistry meterRegistry;
+    private final Set<HttpRoute> meteredRoutes = ConcurrentHashMap.newKeySet();
+    private final Map<LeaseKey, Timer> leaseTimers = new ConcurrentHashMap<>();
+
+    public MeteredConnectionManager(MeterRegistry meterRegistry, PoolConcurrencyPolicy concurrencyPolicy,
+                                    PoolReusePolicy reusePolicy, TimeValue timeToLive) {
+        super(RegistryBuilder.<ConnectionSocketFactory>create()
+                        .register(URIScheme.HTTP.id, PlainConnectionSocketFactory.getSocketFactory())
+                        .register(URIScheme.HTTPS.id, SSLConnectionSocketFactory.getSocketFactory())
+                        .build(),
+                concurrencyPolicy, reusePolicy, timeToLive);
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void setMaxPerTarget(String url, int max) {
+        URI uri = URI.create(url);
+        int port = uri.getPort() >= 0 ? uri.getPort()
+                : URIScheme.HTTPS.same(uri.getScheme()) ? 443 : 80;
+        setMaxPerRoute(new HttpRoute(new HttpHost(uri.getScheme(), uri.getHost(), port)), max);
+    }
+
+    @Override
+    public LeaseRequest lease(String id, HttpRoute route, Timeout requestTimeout, Object state) {
+        LeaseRequest lease = super.lease(id, route, requestTimeout, state);
+        String target = route.getTargetHost().toURI();
+        registerGauges(route, target);
+
+        return new LeaseRequest() {
+            @Override
+            public ConnectionEndpoint get(Timeout timeout)
+                    throws InterruptedException, ExecutionException, TimeoutException {
+                long start = System.nanoTime();
+                String result = "failed";
+                try {
+                    ConnectionEndpoint endpoint = lease.get(timeout);
+                    result = "acquired";
+                    return endpoint;
+                } catch (TimeoutException e) {
+                    result = "timeout";
+                    throw e;
+                } finally {
+                    leaseTimers.computeIfAbsent(new LeaseKey(target, result), MeteredConnectionManager.this::leaseTimer)
+                            .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+            }
+
+            @Override
+            public boolean cancel() {
+                return lease.cancel();
+            }
+        };
+    }
+
+    private Timer leaseTimer(LeaseKey key) {
+        return Timer.builder("feign.client.pool.lease")
+                .tag("target", key.target())
+                .tag("result", key.result())
+                .register(meterRegistry);
+    }
+
+    private void registerGauges(HttpRoute route, String target) {
+        if (!meteredRoutes.add(route)) {
+            return;
+        }
+        connectionsGauge(route, target, "leased", PoolStats::getLeased);
+        connectionsGauge(route, target, "available", PoolStats::getAvailable);
+        connectionsGauge(route, target, "pending", PoolStats::getPending);
+        Gauge.builder("feign.client.pool.max", this, manager -> manager.getMaxPerRoute(route))
+                .tag("target", target)
+                .register(meterRegistry);
+    }
+
+    private void connectionsGauge(HttpRoute route, String target, String state, ToIntFunction<PoolStats> stat) {
+        Gauge.builder("feign.client.pool.connections", this, manager -> stat.applyAsInt(manager.getStats(route)))
+                .tag("target", target)
+                .tag("state", state)
+                .register(meterRegistry);
+    }
+
+    private record LeaseKey(String target, String result) {
+    }
+}
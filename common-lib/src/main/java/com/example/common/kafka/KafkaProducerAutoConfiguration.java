@@ -0,0 +1,45 @@
+package com.example.common.kafka;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.kafka.DefaultKafkaProducerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@AutoConfiguration(beforeName = "org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration",
+        afterName = "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration")
+@ConditionalOnClass(KafkaTemplate.class)
+public class KafkaProducerAutoConfiguration {
+
+    private static final Map<String, Object> PRODUCER_DEFAULTS = Map.of(
+            ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true,
+            ProducerConfig.ACKS_CONFIG, "all",
+            ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5,
+            ProducerConfig.LINGER_MS_CONFIG, 20,
+            ProducerConfig.BATCH_SIZE_CONFIG, 32768,
+            ProducerConfig.COMPRESSION_TYPE_CONFIG, "lz4");
+
+    @Bean
+    public DefaultKafkaProducerFactoryCustomizer producerDefaultsCustomizer() {
+        return producerFactory -> {
+            Map<String, Object> configured = producerFactory.getConfigurationProperties();
+            Map<String, Object> defaults = new HashMap<>();
+            PRODUCER_DEFAULTS.forEach((name, value) -> {
+                if (!configured.containsKey(name)) {
+                    defaults.put(name, value);
+                }
+            });
+            producerFactory.updateConfigs(defaults);
+        };
+    }
+
+    @Bean
+    public KafkaSendRecorder kafkaSendRecorder(MeterRegistry meterRegistry) {
+        return new KafkaSendRecorder(meterRegistry);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.common.kafka;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+public class KafkaSendRecorder {
+
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public KafkaSendRecorder(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <K, V> CompletableFuture<SendResult<K, V>> send(KafkaTemplate<K, V> kafkaTemplate, String topic, K key, V value) {
+        long startTime = System.nanoTime();
+        CompletableFuture<SendResult<K, V>> future;
+        try {
+            future = kafkaTemplate.send(topic, key, value);
+        } catch (RuntimeException e) {
+            record(topic, false, startTime);
+            throw e;
+        }
+        return future.whenComplete((result, exception) -> {
+            record(topic, exception == null, startTime);
+            if (exception != null) {
+                log.error("Failed to send record with key {} to Kafka topic {}", key, topic, exception);
+            }
+        });
+    }
+
+    private void record(String topic, boolean success, long startTime) {
+        timers.computeIfAbsent(new TimerKey(topic, success ? "success" : "failure"), this::timer)
+                .record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer timer(TimerKey key) {
+        return Timer.builder("kafka.producer.send")
+                .tag("topic", key.topic())
+                .tag("result", key.result())
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private record TimerKey(String topic, String result) {
+    }
+}
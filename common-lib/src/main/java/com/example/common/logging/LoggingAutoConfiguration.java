@@ -1,22 +1,37 @@
 package com.example.common.logging;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-@AutoConfiguration
+import java.time.Duration;
+
+@AutoConfiguration(afterName = "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration")
+@ConditionalOnWebApplication
 public class LoggingAutoConfiguration {
 
+    @Bean
+    public RequestLatencyRecorder requestLatencyRecorder(
+            MeterRegistry meterRegistry,
+            @Value("${application.request-logging.mode:slow}") RequestLatencyRecorder.Mode mode,
+            @Value("${application.request-logging.slow-threshold:1s}") Duration slowThreshold,
+            @Value("${application.request-logging.sample-rate:0.01}") double sampleRate,
+            @Value("${application.request-logging.queue-capacity:1024}") int queueCapacity) {
+        return new RequestLatencyRecorder(meterRegistry, mode, slowThreshold, sampleRate, queueCapacity);
+    }
+
     @Configuration(proxyBeanMethods = false)
     @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
     @ConditionalOnClass(name = "jakarta.servlet.Filter")
     public static class ServletLoggingConfig {
 
         @Bean
-        public ServletLoggingFilter servletLoggingFilter() {
-            return new ServletLoggingFilter();
+        public ServletLoggingFilter servletLoggingFilter(RequestLatencyRecorder requestLatencyRecorder) {
+            return new ServletLoggingFilter(requestLatencyRecorder);
         }
     }
 
@@ -26,8 +41,8 @@ public class LoggingAutoConfiguration {
     public static class ReactiveLoggingConfig {
 
         @Bean
-        public ReactiveLoggingFilter reactiveLoggingFilter() {
-            return new ReactiveLoggingFilter();
+        public ReactiveLoggingFilter reactiveLoggingFilter(RequestLatencyRecorder requestLatencyRecorder) {
+            return new ReactiveLoggingFilter(requestLatencyRecorder);
         }
     }
-}
\ No newline at end of file
+}
@@ -1,15 +1,25 @@
 package com.example.common.logging;
 
-import lombok.extern.slf4j.Slf4j;
+import lombok.RequiredArgsConstructor;
 import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.reactive.HandlerMapping;
 import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.server.WebFilter;
 import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
 
-@Slf4j
+@RequiredArgsConstructor
 public class ReactiveLoggingFilter implements WebFilter, Ordered {
 
+    private static final String GATEWAY_MATCHED_PATH_ATTR =
+            "org.springframework.cloud.gateway.support.ServerWebExchangeUtils.gatewayPredicateMatchedPathAttr";
+
+    private final RequestLatencyRecorder recorder;
+
     @Override
     public int getOrder() {
         return Ordered.HIGHEST_PRECEDENCE + 10;
@@ -17,20 +27,30 @@ public class ReactiveLoggingFilter implements WebFilter, Ordered {
 
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
-        long startTime = System.currentTimeMillis();
-        String method = exchange.getRequest().getMethod().name();
-        String path = exchange.getRequest().getURI().getPath();
+        long startTime = System.nanoTime();
 
         return chain.filter(exchange)
-                .doFirst(() -> log.info("Incoming request: {} {}", method, path))
-                .doOnSuccess(v -> logResponse(exchange, startTime))
-                .doOnError(err -> logResponse(exchange, startTime));
+                .doFinally(signal -> record(exchange, signal, startTime));
+    }
+
+    private void record(ServerWebExchange exchange, SignalType signal, long startTime) {
+        long duration = System.nanoTime() - startTime;
+        HttpStatusCode statusCode = exchange.getResponse().getStatusCode();
+        int status = statusCode != null ? statusCode.value()
+                : signal == SignalType.ON_ERROR ? HttpStatus.INTERNAL_SERVER_ERROR.value() : HttpStatus.OK.value();
+        recorder.record(exchange.getRequest().getMethod().name(), uri(exchange, status),
+                exchange.getRequest().getURI().getPath(), status, duration);
     }
 
-    private void logResponse(ServerWebExchange exchange, long startTime) {
-        long duration = System.currentTimeMillis() - startTime;
-        int statusCode = exchange.getResponse().getStatusCode() != null ?
-                exchange.getResponse().getStatusCode().value() : 200;
-        log.info("Response: status {} (took {} ms)", statusCode, duration);
+    private static String uri(ServerWebExchange exchange, int status) {
+        PathPattern pattern = exchange.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern != null) {
+            return pattern.getPatternString();
+        }
+        String gatewayPath = exchange.getAttribute(GATEWAY_MATCHED_PATH_ATTR);
+        if (gatewayPath != null) {
+            return gatewayPath;
+        }
+        return status == HttpStatus.NOT_FOUND.value() ? RequestLatencyRecorder.NOT_FOUND_URI : RequestLatencyRecorder.UNKNOWN_URI;
     }
-}
\ No newline at end of file
+}
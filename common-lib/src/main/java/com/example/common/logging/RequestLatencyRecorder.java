@@ -0,0 +1,107 @@
+package com.example.common.logging;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+public class RequestLatencyRecorder implements DisposableBean {
+
+    public static final String UNKNOWN_URI = "UNKNOWN";
+    public static final String NOT_FOUND_URI = "NOT_FOUND";
+
+    public enum Mode {
+        OFF, SLOW, SAMPLED, ALL
+    }
+
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final Mode mode;
+    private final long slowThresholdNanos;
+    private final double sampleRate;
+    private final ThreadPoolExecutor executor;
+    private final Counter dropped;
+
+    public RequestLatencyRecorder(MeterRegistry meterRegistry, Mode mode, Duration slowThreshold,
+                                  double sampleRate, int queueCapacity) {
+        this.meterRegistry = meterRegistry;
+        this.mode = mode;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.sampleRate = sampleRate;
+        this.dropped = Counter.builder("http.server.request.log.dropped")
+                .register(meterRegistry);
+        this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "request-logger");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, pool) -> dropped.increment());
+    }
+
+    public void record(String method, String uri, String path, int status, long durationNanos) {
+        timers.computeIfAbsent(new TimerKey(method, uri, status), this::timer)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+
+        boolean slow = durationNanos >= slowThresholdNanos;
+        if (!shouldLog(slow)) {
+            return;
+        }
+
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        executor.execute(() -> {
+            if (context != null) {
+                MDC.setContextMap(context);
+            }
+            try {
+                String took = String.format("%.2f", durationNanos / 1_000_000.0);
+                if (slow) {
+                    log.warn("Slow request: {} {} status {} (took {} ms)", method, path, status, took);
+                } else {
+                    log.info("Request: {} {} status {} (took {} ms)", method, path, status, took);
+                }
+            } finally {
+                MDC.clear();
+            }
+        });
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.SECONDS);
+    }
+
+    private Timer timer(TimerKey key) {
+        return Timer.builder("http.server.request.latency")
+                .tag("method", key.method())
+                .tag("uri", key.uri())
+                .tag("status", String.valueOf(key.status()))
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private boolean shouldLog(boolean slow) {
+        return switch (mode) {
+            case OFF -> false;
+            case SLOW -> slow;
+            case SAMPLED -> slow || ThreadLocalRandom.current().nextDouble() < sampleRate;
+            case ALL -> true;
+        };
+    }
+
+    private record TimerKey(String method, String uri, int status) {
+    }
+}
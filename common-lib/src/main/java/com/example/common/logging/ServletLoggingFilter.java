@@ -4,26 +4,41 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.extern.slf4j.Slf4j;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
 
 import java.io.IOException;
 
-@Slf4j
+@RequiredArgsConstructor
 public class ServletLoggingFilter extends OncePerRequestFilter {
 
+    private final RequestLatencyRecorder recorder;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
-        long startTime = System.currentTimeMillis();
-        log.info("Incoming request: {} {}", request.getMethod(), request.getRequestURI());
+        long startTime = System.nanoTime();
+        boolean failed = true;
 
         try {
             filterChain.doFilter(request, response);
+            failed = false;
         } finally {
-            long duration = System.currentTimeMillis() - startTime;
-            log.info("Response: status {} (took {} ms)", response.getStatus(), duration);
+            int status = failed && response.getStatus() < 400
+                    ? HttpStatus.INTERNAL_SERVER_ERROR.value() : response.getStatus();
+            recorder.record(request.getMethod(), uri(request, status), request.getRequestURI(), status,
+                    System.nanoTime() - startTime);
+        }
+    }
+
+    private static String uri(HttpServletRequest request, int status) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern != null) {
+            return pattern.toString();
         }
+        return status == HttpStatus.NOT_FOUND.value() ? RequestLatencyRecorder.NOT_FOUND_URI : RequestLatencyRecorder.UNKNOWN_URI;
     }
-}
\ No newline at end of file
+}
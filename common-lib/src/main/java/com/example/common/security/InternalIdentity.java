@@ -0,0 +1,34 @@
+package com.example.common.security;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+public record InternalIdentity(Long userId, String username, String email, List<String> roles, long expiresAt) {
+
+    public boolean isExpired() {
+        return Instant.now().getEpochSecond() >= expiresAt;
+    }
+
+    public UsernamePasswordAuthenticationToken toAuthentication(String token) {
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                username, token, roles.stream().map(SimpleGrantedAuthority::new).toList());
+        authentication.setDetails(this);
+        return authentication;
+    }
+
+    public static Optional<InternalIdentity> fromSecurityContext(String token) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (token != null && authentication != null
+                && authentication.getDetails() instanceof InternalIdentity identity
+                && token.equals(authentication.getCredentials())) {
+            return Optional.of(identity);
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.common.security;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Signs the identity the gateway extracted from a verified JWT so downstream services can trust it
+ * without parsing the token again. The signature covers the token as well, so a header cannot be
+ * replayed alongside a different bearer token.
+ */
+public class InternalIdentitySigner {
+    public static final String HEADER = "X-Internal-Identity";
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String FIELD_SEPARATOR = "\n";
+    private static final String ROLE_SEPARATOR = ",";
+
+    private final SecretKeySpec key;
+    private final ThreadLocal<Mac> mac;
+
+    public InternalIdentitySigner(String secret) {
+        byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
+        if (keyBytes.length < 32) {
+            throw new IllegalArgumentException("Internal identity secret must be at least 32 bytes");
+        }
+        this.key = new SecretKeySpec(keyBytes, ALGORITHM);
+        this.mac = ThreadLocal.withInitial(this::newMac);
+    }
+
+    public String sign(InternalIdentity identity, String token) {
+        String payload = String.join(FIELD_SEPARATOR,
+                String.valueOf(identity.userId()),
+                identity.username(),
+                identity.email() != null ? identity.email() : "",
+                String.join(ROLE_SEPARATOR, identity.roles()),
+                String.valueOf(identity.expiresAt()));
+
+        String encodedPayload = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+
+        return encodedPayload + "." + Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(signature(encodedPayload, token));
+    }
+
+    public Optional<InternalIdentity> verify(String header, String token) {
+        if (header == null || token == null) {
+            return Optional.empty();
+        }
+
+        int separator = header.indexOf('.');
+        if (separator <= 0) {
+            return Optional.empty();
+        }
+
+        try {
+            String encodedPayload = header.substring(0, separator);
+            byte[] providedSignature = Base64.getUrlDecoder().decode(header.substring(separator + 1));
+            if (!MessageDigest.isEqual(providedSignature, signature(encodedPayload, token))) {
+                return Optional.empty();
+            }
+
+            String[] fields = new String(Base64.getUrlDecoder().decode(encodedPayload), StandardCharsets.UTF_8)
+                    .split(FIELD_SEPARATOR, -1);
+            if (fields.length != 5) {
+                return Optional.empty();
+            }
+
+            InternalIdentity identity = new InternalIdentity(
+                    Long.valueOf(fields[0]),
+                    fields[1],
+                    fields[2].isEmpty() ? null : fields[2],
+                    fields[3].isEmpty() ? List.of() : Arrays.asList(fields[3].split(ROLE_SEPARATOR)),
+                    Long.parseLong(fields[4]));
+
+            return identity.isExpired() ? Optional.empty() : Optional.of(identity);
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private byte[] signature(String encodedPayload, String token) {
+        Mac instance = mac.get();
+        instance.update(encodedPayload.getBytes(StandardCharsets.UTF_8));
+        instance.update((byte) '.');
+        return instance.doFinal(token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Mac newMac() {
+        try {
+            Mac instance = Mac.getInstance(ALGORITHM);
+            instance.init(key);
+            return instance;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to initialise " + ALGORITHM, e);
+        }
+    }
+}
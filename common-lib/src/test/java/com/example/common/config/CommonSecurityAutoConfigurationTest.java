@@ -0,0 +1,51 @@
+package com.example.common.config;
+
+import com.example.common.security.InternalIdentity;
+import com.example.common.security.InternalIdentitySigner;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(OutputCaptureExtension.class)
+class CommonSecurityAutoConfigurationTest {
+
+    private static final String JWT_SECRET = "jwt-secret-jwt-secret-jwt-secret-jwt-secret";
+    private static final String IDENTITY_SECRET = "identity-secret-identity-secret-identity";
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(CommonSecurityAutoConfiguration.class))
+            .withPropertyValues("jwt.secret=" + JWT_SECRET);
+
+    private final InternalIdentity identity = new InternalIdentity(1L, "guest", "guest@example.com",
+            List.of("ROLE_USER"), System.currentTimeMillis() + 60_000);
+
+    @Test
+    void internalIdentitySigner_SeparateSecret_DoesNotUseJwtSecret(CapturedOutput output) {
+        contextRunner
+                .withPropertyValues("application.internal-identity.secret=" + IDENTITY_SECRET)
+                .run(context -> {
+                    String header = context.getBean(InternalIdentitySigner.class).sign(identity, "token");
+
+                    assertThat(new InternalIdentitySigner(IDENTITY_SECRET).verify(header, "token")).isPresent();
+                    assertThat(new InternalIdentitySigner(JWT_SECRET).verify(header, "token")).isEmpty();
+                    assertThat(output).doesNotContain("falling back to jwt.secret");
+                });
+    }
+
+    @Test
+    void internalIdentitySigner_NoSeparateSecret_FallsBackWithWarning(CapturedOutput output) {
+        contextRunner.run(context -> {
+            String header = context.getBean(InternalIdentitySigner.class).sign(identity, "token");
+
+            assertThat(new InternalIdentitySigner(JWT_SECRET).verify(header, "token")).isPresent();
+            assertThat(output).contains("falling back to jwt.secret");
+        });
+    }
+}
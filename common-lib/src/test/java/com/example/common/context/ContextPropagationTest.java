@@ -0,0 +1,153 @@
+package com.example.common.context;
+
+import com.example.common.security.InternalIdentitySigner;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import reactor.core.publisher.Hooks;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContextPropagationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(ContextPropagationAutoConfiguration.class,
+                    TaskExecutionAutoConfiguration.class))
+            .withUserConfiguration(AsyncConfig.class);
+
+    @BeforeEach
+    void setUp() {
+        MDC.put("traceId", "4bf92f3577b34da6");
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("guest", "token", List.of()));
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer token");
+        request.addHeader(InternalIdentitySigner.HEADER, "signed-identity");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+        SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void decoratedExecutor_TaskOnPoolThread_SeesCallerContextAndCleansUp() throws Exception {
+        // Given
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setTaskDecorator(new ContextPropagationAutoConfiguration().contextPropagatingTaskDecorator());
+        executor.initialize();
+
+        try {
+            // When
+            Captured propagated = executor.submitCompletable(Captured::current).get(5, TimeUnit.SECONDS);
+            tearDown();
+            Captured afterwards = executor.submitCompletable(Captured::current).get(5, TimeUnit.SECONDS);
+
+            // Then
+            assertPropagated(propagated);
+            assertThat(afterwards).isEqualTo(new Captured(null, null, null));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void asyncMethod_UsesAutoConfiguredDecorator_SeesCallerContext() {
+        contextRunner.run(context -> {
+            // When
+            Captured captured = context.getBean(AsyncProbe.class).capture().get(5, TimeUnit.SECONDS);
+
+            // Then
+            assertPropagated(captured);
+        });
+    }
+
+    @Test
+    void asyncMethod_CustomTaskDecorator_IsNotReplaced() {
+        contextRunner.withBean("customTaskDecorator", TaskDecorator.class,
+                        () -> runnable -> runnable)
+                .run(context -> assertThat(context)
+                        .doesNotHaveBean(ContextPropagatingTaskDecorator.class));
+    }
+
+    @Test
+    void publishOn_WithAutomaticPropagation_SeesCapturedContext() {
+        // Given
+        Hooks.enableAutomaticContextPropagation();
+
+        try {
+            // When
+            Captured captured = Mono.just("page")
+                    .publishOn(Schedulers.boundedElastic())
+                    .map(ignored -> Captured.current())
+                    .contextCapture()
+                    .block();
+
+            // Then
+            assertPropagated(captured);
+        } finally {
+            Hooks.disableAutomaticContextPropagation();
+        }
+    }
+
+    private static void assertPropagated(Captured captured) {
+        assertThat(captured.traceId()).isEqualTo("4bf92f3577b34da6");
+        assertThat(captured.username()).isEqualTo("guest");
+        assertThat(captured.headers()).isEqualTo(new ForwardedHeaders("Bearer token", "signed-identity"));
+    }
+
+    record Captured(String traceId, String username, ForwardedHeaders headers) {
+
+        static Captured current() {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            return new Captured(MDC.get("traceId"), authentication != null ? authentication.getName() : null,
+                    ForwardedHeaders.current());
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @EnableAsync
+    static class AsyncConfig {
+
+        @Bean
+        AsyncProbe asyncProbe() {
+            return new AsyncProbe();
+        }
+    }
+
+    static class AsyncProbe {
+
+        @Async
+        public CompletableFuture<Captured> capture() {
+            return CompletableFuture.completedFuture(Captured.current());
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.common.feign;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.cloud.openfeign.support.FeignHttpClientProperties;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FeignTransportAutoConfigurationTest {
+
+    private static final HttpRoute PROPERTY_SERVICE = new HttpRoute(new HttpHost("http", "property-service", 8080));
+    private static final HttpRoute USER_SERVICE = new HttpRoute(new HttpHost("http", "user-service", 8080));
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withInitializer(context -> context.getBeanFactory()
+                    .setConversionService(ApplicationConversionService.getSharedInstance()))
+            .withConfiguration(AutoConfigurations.of(FeignTransportAutoConfiguration.class))
+            .withUserConfiguration(TransportConfig.class);
+
+    @Test
+    void feignConnectionManager_PoolProperties_AppliesLimits() {
+        contextRunner
+                .withPropertyValues("spring.cloud.openfeign.httpclient.max-connections=200",
+                        "spring.cloud.openfeign.httpclient.max-connections-per-route=50")
+                .run(context -> {
+                    MeteredConnectionManager connectionManager = context.getBean(MeteredConnectionManager.class);
+
+                    assertThat(connectionManager.getMaxTotal()).isEqualTo(200);
+                    assertThat(connectionManager.getDefaultMaxPerRoute()).isEqualTo(50);
+                    assertThat(connectionManager.getMaxPerRoute(USER_SERVICE)).isEqualTo(50);
+                });
+    }
+
+    @Test
+    void feignConnectionManager_MaxPerTarget_OverridesRouteLimit() {
+        contextRunner
+                .withPropertyValues("spring.cloud.openfeign.httpclient.max-connections-per-route=50")
+                .withInitializer(maxPerTarget(Map.of("http://property-service:8080", 100,
+                        "https://payments.example.com", 10)))
+                .run(context -> {
+                    MeteredConnectionManager connectionManager = context.getBean(MeteredConnectionManager.class);
+
+                    assertThat(connectionManager.getMaxPerRoute(PROPERTY_SERVICE)).isEqualTo(100);
+                    assertThat(connectionManager.getMaxPerRoute(USER_SERVICE)).isEqualTo(50);
+                    assertThat(connectionManager.getMaxPerRoute(
+                            new HttpRoute(new HttpHost("https", "payments.example.com", 443)))).isEqualTo(10);
+                });
+    }
+
+    @Test
+    void feignConnectionManager_BoundToRegistry_ExposesPoolMetrics() {
+        contextRunner
+                .withPropertyValues("spring.cloud.openfeign.httpclient.max-connections=200")
+                .run(context -> {
+                    MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+
+                    assertThat(meterRegistry.get("httpcomponents.httpclient.pool.total.max")
+                            .tag("httpclient", "feign").gauge().value()).isEqualTo(200.0);
+                });
+    }
+
+    @Test
+    void lease_RouteLeased_RegistersPerTargetGaugesAndLeaseTimer() {
+        contextRunner
+                .withInitializer(maxPerTarget(Map.of("http://property-service:8080", 100)))
+                .run(context -> {
+                    MeteredConnectionManager connectionManager = context.getBean(MeteredConnectionManager.class);
+                    MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+                    String target = "http://property-service:8080";
+
+                    // When
+                    ConnectionEndpoint endpoint = connectionManager.lease("lease-1", PROPERTY_SERVICE, Timeout.ofSeconds(1), null)
+                            .get(Timeout.ofSeconds(1));
+
+                    // Then
+                    assertThat(gauge(meterRegistry, target, "leased")).isEqualTo(1.0);
+                    assertThat(gauge(meterRegistry, target, "available")).isZero();
+                    assertThat(gauge(meterRegistry, target, "pending")).isZero();
+                    assertThat(meterRegistry.get("feign.client.pool.max").tag("target", target).gauge().value())
+                            .isEqualTo(100.0);
+                    assertThat(meterRegistry.get("feign.client.pool.lease")
+                            .tag("target", target).tag("result", "acquired").timer().count()).isEqualTo(1);
+
+                    connectionManager.release(endpoint, null, TimeValue.ZERO_MILLISECONDS);
+                    assertThat(gauge(meterRegistry, target, "leased")).isZero();
+                    assertThat(meterRegistry.get("feign.client.pool.max").gauges()).hasSize(1);
+                    connectionManager.close(CloseMode.IMMEDIATE);
+                });
+    }
+
+    @Test
+    void lease_RepeatedLeases_RecordIntoOneTimer() {
+        contextRunner.run(context -> {
+            MeteredConnectionManager connectionManager = context.getBean(MeteredConnectionManager.class);
+            MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+
+            // When
+            for (int i = 0; i < 2; i++) {
+                ConnectionEndpoint endpoint = connectionManager.lease("lease-" + i, PROPERTY_SERVICE, Timeout.ofSeconds(1), null)
+                        .get(Timeout.ofSeconds(1));
+                connectionManager.release(endpoint, null, TimeValue.ZERO_MILLISECONDS);
+            }
+
+            // Then
+            assertThat(meterRegistry.get("feign.client.pool.lease").timers()).hasSize(1);
+            assertThat(meterRegistry.get("feign.client.pool.lease").tag("result", "acquired").timer().count())
+                    .isEqualTo(2);
+            connectionManager.close(CloseMode.IMMEDIATE);
+        });
+    }
+
+    @Test
+    void lease_PoolExhausted_RecordsTimeout() {
+        contextRunner
+                .withInitializer(maxPerTarget(Map.of("http://property-service:8080", 1)))
+                .run(context -> {
+                    MeteredConnectionManager connectionManager = context.getBean(MeteredConnectionManager.class);
+                    MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+                    connectionManager.lease("lease-1", PROPERTY_SERVICE, Timeout.ofSeconds(1), null)
+                            .get(Timeout.ofSeconds(1));
+
+                    // When
+                    boolean timedOut = false;
+                    try {
+                        connectionManager.lease("lease-2", PROPERTY_SERVICE, Timeout.ofMilliseconds(50), null)
+                                .get(Timeout.ofMilliseconds(50));
+                    } catch (TimeoutException e) {
+                        timedOut = true;
+                    }
+
+                    // Then
+                    assertThat(timedOut).isTrue();
+                    assertThat(meterRegistry.get("feign.client.pool.lease")
+                            .tag("target", "http://property-service:8080").tag("result", "timeout").timer()
+                            .totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(40.0);
+                    connectionManager.close(CloseMode.IMMEDIATE);
+                });
+    }
+
+    // Map keys contain ':' which withPropertyValues would treat as a separator, so they go in a property source
+    private static ApplicationContextInitializer<ConfigurableApplicationContext> maxPerTarget(Map<String, Integer> limits) {
+        Map<String, Object> properties = new HashMap<>();
+        limits.forEach((url, max) -> properties.put("application.feign.pool.max-per-target.[" + url + "]", max));
+        return context -> context.getEnvironment().getPropertySources()
+                .addFirst(new MapPropertySource("maxPerTarget", properties));
+    }
+
+    private static double gauge(MeterRegistry meterRegistry, String target, String state) {
+        return meterRegistry.get("feign.client.pool.connections").tag("target", target).tag("state", state)
+                .gauge().value();
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @EnableConfigurationProperties(FeignHttpClientProperties.class)
+    static class TransportConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.common.kafka;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.ProducerFactory;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KafkaProducerAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(KafkaProducerAutoConfiguration.class, KafkaAutoConfiguration.class))
+            .withUserConfiguration(MeterRegistryConfig.class);
+
+    @Test
+    void producerDefaultsCustomizer_NothingConfigured_AppliesDefaults() {
+        contextRunner.run(context -> {
+            Map<String, Object> configs = context.getBean(ProducerFactory.class).getConfigurationProperties();
+
+            assertThat(configs)
+                    .containsEntry(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true)
+                    .containsEntry(ProducerConfig.ACKS_CONFIG, "all")
+                    .containsEntry(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5)
+                    .containsEntry(ProducerConfig.LINGER_MS_CONFIG, 20)
+                    .containsEntry(ProducerConfig.BATCH_SIZE_CONFIG, 32768)
+                    .containsEntry(ProducerConfig.COMPRESSION_TYPE_CONFIG, "lz4");
+        });
+    }
+
+    @Test
+    void producerDefaultsCustomizer_ExplicitProperties_KeepsThem() {
+        contextRunner
+                .withPropertyValues("spring.kafka.producer.acks=1",
+                        "spring.kafka.producer.compression-type=zstd",
+                        "spring.kafka.producer.batch-size=16KB",
+                        "spring.kafka.producer.properties.linger.ms=5",
+                        "spring.kafka.producer.properties.enable.idempotence=false")
+                .run(context -> {
+                    Map<String, Object> configs = context.getBean(ProducerFactory.class).getConfigurationProperties();
+
+                    assertThat(configs)
+                            .containsEntry(ProducerConfig.ACKS_CONFIG, "1")
+                            .containsEntry(ProducerConfig.COMPRESSION_TYPE_CONFIG, "zstd")
+                            .containsEntry(ProducerConfig.BATCH_SIZE_CONFIG, 16384)
+                            .containsEntry(ProducerConfig.LINGER_MS_CONFIG, "5")
+                            .containsEntry(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, "false")
+                            .containsEntry(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
+                });
+    }
+
+    @Test
+    void kafkaSendRecorder_MeterRegistryPresent_IsRegistered() {
+        contextRunner.run(context -> assertThat(context).hasSingleBean(KafkaSendRecorder.class));
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class MeterRegistryConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
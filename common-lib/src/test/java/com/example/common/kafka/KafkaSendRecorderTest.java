@@ -0,0 +1,99 @@
+package com.example.common.kafka;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class KafkaSendRecorderTest {
+
+    @Mock
+    private KafkaTemplate<String, String> kafkaTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private KafkaSendRecorder sendRecorder;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sendRecorder = new KafkaSendRecorder(meterRegistry);
+    }
+
+    @Test
+    void send_Acknowledged_CountsSuccess() {
+        // Given
+        CompletableFuture<SendResult<String, String>> ack = new CompletableFuture<>();
+        when(kafkaTemplate.send("booking-created", "1", "event")).thenReturn(ack);
+
+        // When
+        CompletableFuture<SendResult<String, String>> result = sendRecorder.send(kafkaTemplate, "booking-created", "1", "event");
+        long recordedBeforeAck = count("success");
+        ack.complete(null);
+
+        // Then
+        assertThat(result).isCompleted();
+        assertThat(recordedBeforeAck).isZero();
+        assertThat(count("success")).isEqualTo(1);
+        assertThat(count("failure")).isZero();
+    }
+
+    @Test
+    void send_BrokerFailure_CountsFailure() {
+        // Given
+        when(kafkaTemplate.send("booking-created", "1", "event"))
+                .thenReturn(CompletableFuture.failedFuture(new KafkaException("Send failed", new TimeoutException("Expired"))));
+
+        // When
+        CompletableFuture<SendResult<String, String>> result = sendRecorder.send(kafkaTemplate, "booking-created", "1", "event");
+
+        // Then
+        assertThat(result).isCompletedExceptionally();
+        assertThat(count("failure")).isEqualTo(1);
+        assertThat(count("success")).isZero();
+    }
+
+    @Test
+    void send_TemplateThrows_CountsFailureAndRethrows() {
+        // Given
+        when(kafkaTemplate.send("booking-created", "1", "event")).thenThrow(new KafkaException("Metadata unavailable"));
+
+        // When & Then
+        assertThatThrownBy(() -> sendRecorder.send(kafkaTemplate, "booking-created", "1", "event"))
+                .isInstanceOf(KafkaException.class);
+        assertThat(count("failure")).isEqualTo(1);
+    }
+
+    @Test
+    void send_RepeatedSends_RecordIntoOneTimer() {
+        // Given
+        when(kafkaTemplate.send("booking-created", "1", "event")).thenReturn(CompletableFuture.completedFuture(null));
+
+        // When
+        sendRecorder.send(kafkaTemplate, "booking-created", "1", "event");
+        sendRecorder.send(kafkaTemplate, "booking-created", "1", "event");
+
+        // Then
+        assertThat(meterRegistry.find("kafka.producer.send").timers()).hasSize(1);
+        assertThat(count("success")).isEqualTo(2);
+    }
+
+    private long count(String result) {
+        return meterRegistry.find("kafka.producer.send").tag("topic", "booking-created").tag("result", result)
+                .timers().stream().mapToLong(Timer::count).sum();
+    }
+}
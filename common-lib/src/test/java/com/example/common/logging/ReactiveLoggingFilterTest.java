@@ -0,0 +1,80 @@
+package com.example.common.logging;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveLoggingFilterTest {
+
+    private static final String GATEWAY_MATCHED_PATH_ATTR =
+            "org.springframework.cloud.gateway.support.ServerWebExchangeUtils.gatewayPredicateMatchedPathAttr";
+
+    @Mock
+    private RequestLatencyRecorder recorder;
+
+    @InjectMocks
+    private ReactiveLoggingFilter filter;
+
+    @Test
+    void filter_MatchedHandler_RecordsRoutePattern() {
+        // Given
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/pages/properties/7"));
+
+        // When
+        filter.filter(exchange, ex -> {
+            ex.getAttributes().put(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE,
+                    PathPatternParser.defaultInstance.parse("/api/v1/pages/properties/{id}"));
+            ex.getResponse().setStatusCode(HttpStatus.OK);
+            return Mono.empty();
+        }).block();
+
+        // Then
+        verify(recorder).record(eq("GET"), eq("/api/v1/pages/properties/{id}"), eq("/api/v1/pages/properties/7"),
+                eq(200), anyLong());
+    }
+
+    @Test
+    void filter_GatewayRoute_RecordsMatchedRoutePath() {
+        // Given
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/reviews/property/7"));
+
+        // When
+        filter.filter(exchange, ex -> {
+            ex.getAttributes().put(GATEWAY_MATCHED_PATH_ATTR, "/api/v1/reviews/**");
+            ex.getResponse().setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+            return Mono.empty();
+        }).block();
+
+        // Then
+        verify(recorder).record(eq("GET"), eq("/api/v1/reviews/**"), eq("/api/v1/reviews/property/7"),
+                eq(503), anyLong());
+    }
+
+    @Test
+    void filter_ChainErrorsWithoutStatus_RecordsServerError() {
+        // Given
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/api/v1/bookings"));
+
+        // When
+        assertThrows(IllegalStateException.class, () ->
+                filter.filter(exchange, ex -> Mono.error(new IllegalStateException("Handler failed"))).block());
+
+        // Then
+        verify(recorder).record(eq("POST"), eq(RequestLatencyRecorder.UNKNOWN_URI), eq("/api/v1/bookings"),
+                eq(500), anyLong());
+    }
+}
@@ -0,0 +1,181 @@
+package com.example.common.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestLatencyRecorderTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final long SLOW = TimeUnit.SECONDS.toNanos(2);
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(RequestLatencyRecorder.class);
+
+    private SimpleMeterRegistry meterRegistry;
+    private ListAppender<ILoggingEvent> appender;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+        MDC.clear();
+    }
+
+    @Test
+    void record_SameSeries_RecordsIntoOneTimer() throws InterruptedException {
+        // Given
+        RequestLatencyRecorder recorder = recorder(RequestLatencyRecorder.Mode.OFF, 0.0, 16);
+
+        // When
+        recorder.record("GET", "/api/v1/properties/{id}", "/api/v1/properties/1", 200, FAST);
+        recorder.record("GET", "/api/v1/properties/{id}", "/api/v1/properties/2", 200, FAST);
+        recorder.record("GET", "/api/v1/properties/{id}", "/api/v1/properties/3", 404, FAST);
+        recorder.destroy();
+
+        // Then
+        Timer ok = meterRegistry.get("http.server.request.latency").tag("status", "200").timer();
+        Timer notFound = meterRegistry.get("http.server.request.latency").tag("status", "404").timer();
+        assertThat(ok.count()).isEqualTo(2);
+        assertThat(notFound.count()).isEqualTo(1);
+        assertThat(meterRegistry.find("http.server.request.latency").timers()).hasSize(2);
+    }
+
+    @Test
+    void record_ModeOff_LogsNothing() throws InterruptedException {
+        // Given
+        RequestLatencyRecorder recorder = recorder(RequestLatencyRecorder.Mode.OFF, 1.0, 16);
+
+        // When
+        recorder.record("GET", "/api/v1/bookings", "/api/v1/bookings", 200, SLOW);
+        recorder.destroy();
+
+        // Then
+        assertThat(appender.list).isEmpty();
+    }
+
+    @Test
+    void record_ModeSlow_LogsOnlySlowRequestsAsWarnings() throws InterruptedException {
+        // Given
+        RequestLatencyRecorder recorder = recorder(RequestLatencyRecorder.Mode.SLOW, 1.0, 16);
+
+        // When
+        recorder.record("GET", "/api/v1/bookings", "/api/v1/bookings", 200, FAST);
+        recorder.record("POST", "/api/v1/bookings", "/api/v1/bookings", 201, SLOW);
+        recorder.destroy();
+
+        // Then
+        assertThat(appender.list).singleElement().satisfies(event -> {
+            assertThat(event.getLevel()).isEqualTo(Level.WARN);
+            assertThat(event.getFormattedMessage()).startsWith("Slow request: POST /api/v1/bookings status 201");
+        });
+    }
+
+    @Test
+    void record_ModeSampledAtZero_LogsOnlySlowRequests() throws InterruptedException {
+        // Given
+        RequestLatencyRecorder recorder = recorder(RequestLatencyRecorder.Mode.SAMPLED, 0.0, 16);
+
+        // When
+        recorder.record("GET", "/api/v1/bookings", "/api/v1/bookings", 200, FAST);
+        recorder.record("GET", "/api/v1/bookings", "/api/v1/bookings", 200, SLOW);
+        recorder.destroy();
+
+        // Then
+        assertThat(appender.list).extracting(ILoggingEvent::getLevel).containsExactly(Level.WARN);
+    }
+
+    @Test
+    void record_ModeSampledAtOne_LogsFastRequests() throws InterruptedException {
+        // Given
+        RequestLatencyRecorder recorder = recorder(RequestLatencyRecorder.Mode.SAMPLED, 1.0, 16);
+
+        // When
+        recorder.record("GET", "/api/v1/bookings", "/api/v1/bookings", 200, FAST);
+        recorder.destroy();
+
+        // Then
+        assertThat(appender.list).extracting(ILoggingEvent::getLevel).containsExactly(Level.INFO);
+    }
+
+    @Test
+    void record_ModeAll_LogsEveryRequestWithCallerMdc() throws InterruptedException {
+        // Given
+        RequestLatencyRecorder recorder = recorder(RequestLatencyRecorder.Mode.ALL, 0.0, 16);
+        MDC.put("traceId", "abc123");
+
+        // When
+        recorder.record("GET", "/api/v1/bookings", "/api/v1/bookings", 200, FAST);
+        recorder.record("GET", "/api/v1/bookings", "/api/v1/bookings", 200, SLOW);
+        recorder.destroy();
+
+        // Then
+        assertThat(appender.list).extracting(ILoggingEvent::getLevel).containsExactly(Level.INFO, Level.WARN);
+        assertThat(appender.list).allSatisfy(event ->
+                assertThat(event.getMDCPropertyMap()).containsEntry("traceId", "abc123"));
+    }
+
+    @Test
+    void record_QueueFull_DropsLogLinesButKeepsMetrics() throws InterruptedException {
+        // Given
+        CountDownLatch loggerBlocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ListAppender<ILoggingEvent> blocking = new ListAppender<>() {
+            @Override
+            protected void append(ILoggingEvent event) {
+                loggerBlocked.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.append(event);
+            }
+        };
+        blocking.start();
+        logger.addAppender(blocking);
+        RequestLatencyRecorder recorder = recorder(RequestLatencyRecorder.Mode.ALL, 0.0, 1);
+
+        try {
+            // When
+            recorder.record("GET", "/api/v1/bookings", "/api/v1/bookings", 200, FAST);
+            assertThat(loggerBlocked.await(5, TimeUnit.SECONDS)).isTrue();
+            recorder.record("GET", "/api/v1/bookings", "/api/v1/bookings", 200, FAST);
+            recorder.record("GET", "/api/v1/bookings", "/api/v1/bookings", 200, FAST);
+            recorder.record("GET", "/api/v1/bookings", "/api/v1/bookings", 200, FAST);
+            release.countDown();
+            recorder.destroy();
+
+            // Then
+            assertThat(meterRegistry.get("http.server.request.log.dropped").counter().count()).isEqualTo(2.0);
+            assertThat(blocking.list).hasSize(2);
+            assertThat(meterRegistry.get("http.server.request.latency").timer().count()).isEqualTo(4);
+        } finally {
+            logger.detachAppender(blocking);
+        }
+    }
+
+    private RequestLatencyRecorder recorder(RequestLatencyRecorder.Mode mode, double sampleRate, int queueCapacity) {
+        return new RequestLatencyRecorder(meterRegistry, mode, Duration.ofSeconds(1), sampleRate, queueCapacity);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.common.logging;
+
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ServletLoggingFilterTest {
+
+    @Mock
+    private RequestLatencyRecorder recorder;
+
+    @InjectMocks
+    private ServletLoggingFilter filter;
+
+    @Test
+    void doFilter_MatchedHandler_RecordsRoutePattern() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/bookings/7");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request, response, (req, res) ->
+                req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/bookings/{id}"));
+
+        // Then
+        verify(recorder).record(eq("GET"), eq("/api/v1/bookings/{id}"), eq("/api/v1/bookings/7"), eq(200), anyLong());
+    }
+
+    @Test
+    void doFilter_NoHandler_RecordsNotFoundUri() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/unknown/123");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request, response, (req, res) -> response.setStatus(404));
+
+        // Then
+        verify(recorder).record(eq("GET"), eq(RequestLatencyRecorder.NOT_FOUND_URI), eq("/api/v1/unknown/123"),
+                eq(404), anyLong());
+    }
+
+    @Test
+    void doFilter_ChainThrows_RecordsServerErrorAndRethrows() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/bookings");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        assertThrows(ServletException.class, () -> filter.doFilter(request, response, (req, res) -> {
+            throw new ServletException("Handler failed");
+        }));
+
+        // Then
+        verify(recorder).record(eq("POST"), eq(RequestLatencyRecorder.UNKNOWN_URI), eq("/api/v1/bookings"),
+                eq(500), anyLong());
+    }
+}
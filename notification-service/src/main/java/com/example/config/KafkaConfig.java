@@ -0,0 +1,20 @@
+package com.example.config;
+
+import com.example.mail.PermanentMailException;
+import com.example.services.NotificationService;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+
+@Configuration
+public class KafkaConfig {
+
+    @Bean
+    public DeadLetterPublishingRecoverer retryRecoverer(KafkaTemplate<?, ?> kafkaTemplate) {
+        return new DeadLetterPublishingRecoverer(kafkaTemplate,
+                (record, exception) -> new TopicPartition(exception instanceof PermanentMailException
+                        ? NotificationService.DLT_TOPIC : NotificationService.RETRY_TOPIC, -1));
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.config;
+
+import com.example.mail.MailTemplateRegistry;
+import com.example.mail.SmtpConnectionPool;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class MailConfig {
+
+    @Bean
+    public SmtpConnectionPool smtpConnectionPool(JavaMailSender mailSender,
+                                                 @Value("${application.notification.smtp.pool-size}") int poolSize,
+                                                 @Value("${application.notification.smtp.send-timeout}") Duration sendTimeout,
+                                                 MeterRegistry meterRegistry) {
+        ExecutorService executor = Executors.newFixedThreadPool(poolSize, new CustomizableThreadFactory("smtp-sender-"));
+        new ExecutorServiceMetrics(executor, "smtp.sender", List.of()).bindTo(meterRegistry);
+        return new SmtpConnectionPool(mailSender, executor, poolSize, sendTimeout);
+    }
+
+    @Bean
+    public MailTemplateRegistry mailTemplateRegistry(
+            @Value("${application.notification.templates.location}") String location,
+            @Value("${application.notification.templates.default-locale}") Locale defaultLocale) throws IOException {
+        return new MailTemplateRegistry(new PathMatchingResourcePatternResolver(), location, defaultLocale);
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.mail;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class MailTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+    private static final char SECTION_START = '#';
+    private static final char SECTION_END = '/';
+
+    private final String[] literals;
+    private final String[] variables;
+    private final MailTemplate[] sections;
+    private final boolean escapeHtml;
+    private final int sizeHint;
+    private final Map<Class<?>, Method[]> accessors = new ConcurrentHashMap<>();
+
+    private MailTemplate(String[] literals, String[] variables, MailTemplate[] sections, boolean escapeHtml) {
+        this.literals = literals;
+        this.variables = variables;
+        this.sections = sections;
+        this.escapeHtml = escapeHtml;
+        int literalLength = 0;
+        for (String literal : literals) {
+            literalLength += literal.length();
+        }
+        this.sizeHint = literalLength + variables.length * 32;
+    }
+
+    public static MailTemplate compile(String source, boolean escapeHtml) {
+        List<String> literals = new ArrayList<>();
+        List<String> variables = new ArrayList<>();
+        List<MailTemplate> sections = new ArrayList<>();
+        int position = 0;
+        int open;
+        while ((open = source.indexOf(OPEN, position)) >= 0) {
+            int close = source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                throw new IllegalArgumentException(String.format("Unclosed variable at offset %d", open));
+            }
+            String variable = source.substring(open + OPEN.length(), close).strip();
+            if (variable.isEmpty()) {
+                throw new IllegalArgumentException(String.format("Empty variable at offset %d", open));
+            }
+            if (variable.charAt(0) == SECTION_END) {
+                throw new IllegalArgumentException(String.format("Unexpected section end at offset %d", open));
+            }
+            literals.add(source.substring(position, open));
+            position = close + CLOSE.length();
+            if (variable.charAt(0) == SECTION_START) {
+                variable = variable.substring(1).strip();
+                String end = OPEN + SECTION_END + variable + CLOSE;
+                int sectionEnd = source.indexOf(end, position);
+                if (variable.isEmpty() || sectionEnd < 0) {
+                    throw new IllegalArgumentException(String.format("Unclosed section at offset %d", open));
+                }
+                sections.add(compile(source.substring(position, sectionEnd), escapeHtml));
+                position = sectionEnd + end.length();
+            } else {
+                sections.add(null);
+            }
+            variables.add(variable);
+        }
+        literals.add(source.substring(position));
+        return new MailTemplate(literals.toArray(String[]::new), variables.toArray(String[]::new),
+                sections.toArray(MailTemplate[]::new), escapeHtml);
+    }
+
+    public String render(Object context) {
+        StringBuilder out = new StringBuilder(sizeHint);
+        render(context, out);
+        return out.toString();
+    }
+
+    public void render(Object context, StringBuilder out) {
+        Method[] getters = accessors.computeIfAbsent(context.getClass(), this::bind);
+        out.append(literals[0]);
+        for (int i = 0; i < variables.length; i++) {
+            if (sections[i] != null) {
+                renderSection(sections[i], variables[i], invoke(getters[i], context), out);
+            } else {
+                append(out, invoke(getters[i], context));
+            }
+            out.append(literals[i + 1]);
+        }
+    }
+
+    private static void renderSection(MailTemplate section, String name, Object value, StringBuilder out) {
+        if (value instanceof Iterable<?> items) {
+            for (Object item : items) {
+                section.render(item, out);
+            }
+        } else if (value != null) {
+            throw new IllegalStateException(String.format("Template section %s is not iterable", name));
+        }
+    }
+
+    private void append(StringBuilder out, Object value) {
+        if (value instanceof Long number) {
+            out.append(number.longValue());
+        } else if (value instanceof Integer number) {
+            out.append(number.intValue());
+        } else if (value == null) {
+            return;
+        } else if (!escapeHtml) {
+            out.append(value instanceof CharSequence text ? text : value.toString());
+        } else {
+            CharSequence text = value instanceof CharSequence chars ? chars : value.toString();
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                switch (c) {
+                    case '&' -> out.append("&amp;");
+                    case '<' -> out.append("&lt;");
+                    case '>' -> out.append("&gt;");
+                    case '"' -> out.append("&quot;");
+                    case '\'' -> out.append("&#39;");
+                    default -> out.append(c);
+                }
+            }
+        }
+    }
+
+    private Method[] bind(Class<?> type) {
+        Method[] getters = new Method[variables.length];
+        for (int i = 0; i < variables.length; i++) {
+            getters[i] = getter(type, variables[i]);
+        }
+        return getters;
+    }
+
+    private static Method getter(Class<?> type, String property) {
+        String capitalized = Character.toUpperCase(property.charAt(0)) + property.substring(1);
+        for (String name : List.of("get" + capitalized, "is" + capitalized, property)) {
+            try {
+                return type.getMethod(name);
+            } catch (NoSuchMethodException e) {
+                // try the next naming convention
+            }
+        }
+        throw new IllegalArgumentException(String.format("Template variable %s is not a property of %s",
+                property, type.getName()));
+    }
+
+    private static Object invoke(Method getter, Object context) {
+        try {
+            return getter.invoke(context);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException(String.format("Failed to read template variable via %s", getter), e);
+        }
+    }
+}
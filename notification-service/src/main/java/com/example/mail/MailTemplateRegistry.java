@@ -0,0 +1,103 @@
+package com.example.mail;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourcePatternResolver;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+public class MailTemplateRegistry {
+
+    private static final String SUBJECT = "subject";
+    private static final String TEXT = "txt";
+    private static final String HTML = "html";
+
+    private final Map<String, LocalizedTemplate> templates = new HashMap<>();
+    private final Set<String> names = new HashSet<>();
+    private final Set<Locale> locales = new HashSet<>();
+    private final Map<String, Map<Locale, LocalizedTemplate>> resolved = new ConcurrentHashMap<>();
+    private final Locale defaultLocale;
+
+    public record RenderedMail(String subject, String text, String html) {
+    }
+
+    private record LocalizedTemplate(MailTemplate subject, MailTemplate text, MailTemplate html) {
+    }
+
+    public MailTemplateRegistry(ResourcePatternResolver resourcePatternResolver, String location, Locale defaultLocale)
+            throws IOException {
+        this.defaultLocale = defaultLocale;
+
+        Map<String, Map<String, MailTemplate>> parts = new HashMap<>();
+
+        for (Resource resource : resourcePatternResolver.getResources(location + "/*/*.*")) {
+            String path = resource.getURI().toString();
+            String filename = path.substring(path.lastIndexOf('/') + 1);
+            String directory = path.substring(0, path.lastIndexOf('/'));
+            Locale locale = Locale.forLanguageTag(directory.substring(directory.lastIndexOf('/') + 1));
+            String name = filename.substring(0, filename.lastIndexOf('.'));
+            String extension = filename.substring(filename.lastIndexOf('.') + 1);
+
+            String source = resource.getContentAsString(StandardCharsets.UTF_8);
+            if (SUBJECT.equals(extension)) {
+                source = source.strip();
+            }
+            parts.computeIfAbsent(key(name, locale), k -> new HashMap<>())
+                    .put(extension, MailTemplate.compile(source, HTML.equals(extension)));
+            names.add(name);
+            locales.add(locale);
+        }
+
+        parts.forEach((key, compiled) -> {
+            if (!compiled.containsKey(SUBJECT) || !compiled.containsKey(TEXT) || !compiled.containsKey(HTML)) {
+                throw new IllegalStateException(String.format("Mail template %s must define subject, txt and html parts", key));
+            }
+            templates.put(key, new LocalizedTemplate(compiled.get(SUBJECT), compiled.get(TEXT), compiled.get(HTML)));
+        });
+        for (String name : names) {
+            if (!templates.containsKey(key(name, defaultLocale))) {
+                throw new IllegalStateException(String.format("Mail template %s has no %s variant", name, defaultLocale));
+            }
+        }
+        log.info("Compiled {} mail templates from {}", templates.size(), location);
+    }
+
+    public RenderedMail render(String name, Locale locale, Object context) {
+        if (!names.contains(name)) {
+            throw new IllegalArgumentException(String.format("Unknown mail template %s", name));
+        }
+        // The locale comes from the client's Accept-Language, so only supported locales are used as cache keys
+        LocalizedTemplate template = resolved.computeIfAbsent(name, k -> new ConcurrentHashMap<>())
+                .computeIfAbsent(supportedLocale(locale), l -> resolve(name, l));
+        return new RenderedMail(template.subject().render(context),
+                template.text().render(context), template.html().render(context));
+    }
+
+    Locale supportedLocale(Locale locale) {
+        if (locale == null) {
+            return defaultLocale;
+        }
+        if (locales.contains(locale)) {
+            return locale;
+        }
+        Locale language = Locale.forLanguageTag(locale.getLanguage());
+        return locales.contains(language) ? language : defaultLocale;
+    }
+
+    private LocalizedTemplate resolve(String name, Locale locale) {
+        LocalizedTemplate template = templates.get(key(name, locale));
+        return template != null ? template : templates.get(key(name, defaultLocale));
+    }
+
+    private static String key(String name, Locale locale) {
+        return name + "_" + locale.toLanguageTag();
+    }
+}
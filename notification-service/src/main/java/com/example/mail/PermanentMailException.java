@@ -0,0 +1,37 @@
+package com.example.mail;
+
+import jakarta.mail.SendFailedException;
+import org.eclipse.angus.mail.smtp.SMTPAddressFailedException;
+import org.eclipse.angus.mail.smtp.SMTPSendFailedException;
+import org.springframework.mail.MailSendException;
+
+import java.util.Arrays;
+
+/**
+ * A send the SMTP server rejected for good (5xx reply or an undeliverable address). Retrying it cannot succeed,
+ * so it skips the retry tiers.
+ */
+public class PermanentMailException extends MailSendException {
+
+    public PermanentMailException(String msg, Throwable cause) {
+        super(msg, cause);
+    }
+
+    public static boolean isPermanent(Throwable failure) {
+        if (failure instanceof MailSendException mailSendException && mailSendException.getCause() == null) {
+            return Arrays.stream(mailSendException.getMessageExceptions()).anyMatch(PermanentMailException::isPermanent);
+        }
+
+        boolean sendFailed = false;
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SMTPSendFailedException smtpFailure) {
+                return smtpFailure.getReturnCode() / 100 == 5;
+            }
+            if (cause instanceof SMTPAddressFailedException addressFailure) {
+                return addressFailure.getReturnCode() / 100 == 5;
+            }
+            sendFailed |= cause instanceof SendFailedException;
+        }
+        return sendFailed;
+    }
+}
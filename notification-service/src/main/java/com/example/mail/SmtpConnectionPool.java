@@ -0,0 +1,168 @@
+package com.example.mail;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Slf4j
+public class SmtpConnectionPool implements DisposableBean {
+
+    private final JavaMailSender mailSender;
+    private final ExecutorService executor;
+    private final BlockingQueue<Transport> idle;
+    private final int size;
+    private final Duration sendTimeout;
+
+    /**
+     * @param sendTimeout upper bound for one {@link #sendAll} call; keep it well below the listener's
+     *                    {@code max.poll.interval.ms} so a stuck SMTP connection cannot trigger a rebalance
+     */
+    public SmtpConnectionPool(JavaMailSender mailSender, ExecutorService executor, int size, Duration sendTimeout) {
+        this.mailSender = mailSender;
+        this.executor = executor;
+        this.size = size;
+        this.sendTimeout = sendTimeout;
+        this.idle = new ArrayBlockingQueue<>(size);
+    }
+
+    /**
+     * Messages a worker had not finished when {@code sendTimeout} ran out are reported as failed, so they go through
+     * the retry tiers. One of them may still have reached the server before the worker was interrupted.
+     */
+    public Map<Integer, Exception> sendAll(List<MimeMessage> messages) throws InterruptedException {
+        Map<Integer, Exception> failures = new ConcurrentSkipListMap<>();
+        Set<Integer> attempted = ConcurrentHashMap.newKeySet();
+        int workers = Math.min(size, messages.size());
+        List<Future<?>> futures = new ArrayList<>(workers);
+        for (int worker = 0; worker < workers; worker++) {
+            int first = worker;
+            futures.add(executor.submit(() -> sendStripe(messages, first, workers, failures, attempted)));
+        }
+
+        long deadline = System.nanoTime() + sendTimeout.toNanos();
+        for (int worker = 0; worker < workers; worker++) {
+            Future<?> future = futures.get(worker);
+            try {
+                future.get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+            } catch (ExecutionException e) {
+                log.error("SMTP worker failed unexpectedly", e.getCause());
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                failUnattempted(messages, worker, workers, failures, attempted);
+            }
+        }
+        return failures;
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+        Transport transport;
+        while ((transport = idle.poll()) != null) {
+            close(transport);
+        }
+    }
+
+    private void failUnattempted(List<MimeMessage> messages, int first, int step,
+                                 Map<Integer, Exception> failures, Set<Integer> attempted) {
+        int unattempted = 0;
+        for (int i = first; i < messages.size(); i += step) {
+            if (messages.get(i) != null && !attempted.contains(i)) {
+                failures.putIfAbsent(i, new MailSendException("SMTP send did not finish within " + sendTimeout));
+                unattempted++;
+            }
+        }
+        log.warn("SMTP worker {} did not finish within {}, failing its {} remaining messages",
+                first, sendTimeout, unattempted);
+    }
+
+    private void sendStripe(List<MimeMessage> messages, int first, int step,
+                            Map<Integer, Exception> failures, Set<Integer> attempted) {
+        if (!(mailSender instanceof JavaMailSenderImpl sender)) {
+            for (int i = first; i < messages.size() && !Thread.currentThread().isInterrupted(); i += step) {
+                if (messages.get(i) == null) {
+                    continue;
+                }
+                try {
+                    mailSender.send(messages.get(i));
+                } catch (MailException e) {
+                    failures.put(i, e);
+                }
+                attempted.add(i);
+            }
+            return;
+        }
+
+        Transport transport = null;
+        try {
+            for (int i = first; i < messages.size() && !Thread.currentThread().isInterrupted(); i += step) {
+                MimeMessage message = messages.get(i);
+                if (message == null) {
+                    continue;
+                }
+                try {
+                    if (transport == null) {
+                        transport = borrow(sender);
+                    }
+                    message.saveChanges();
+                    transport.sendMessage(message, message.getAllRecipients());
+                } catch (MessagingException | RuntimeException e) {
+                    failures.put(i, e);
+                    if (transport != null && !transport.isConnected()) {
+                        close(transport);
+                        transport = null;
+                    }
+                }
+                attempted.add(i);
+            }
+        } finally {
+            // A connection interrupted mid-command is in an unknown state, so it is not handed to the next batch
+            if (transport != null && (Thread.currentThread().isInterrupted() || !idle.offer(transport))) {
+                close(transport);
+            }
+        }
+    }
+
+    private Transport borrow(JavaMailSenderImpl sender) throws MessagingException {
+        Transport transport = idle.poll();
+        if (transport != null && transport.isConnected()) {
+            return transport;
+        }
+        if (transport != null) {
+            close(transport);
+        }
+        transport = sender.getSession().getTransport(sender.getProtocol() != null ? sender.getProtocol() : "smtp");
+        transport.connect(sender.getHost(), sender.getPort(), sender.getUsername(), sender.getPassword());
+        return transport;
+    }
+
+    private void close(Transport transport) {
+        try {
+            transport.close();
+        } catch (MessagingException e) {
+            log.debug("Failed to close SMTP connection", e);
+        }
+    }
+}
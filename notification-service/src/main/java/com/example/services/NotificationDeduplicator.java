@@ -0,0 +1,121 @@
+package com.example.services;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+@Component
+@Slf4j
+public class NotificationDeduplicator {
+
+    private static final String KEY_PREFIX = "notification-service:dedup:";
+    private static final String PENDING = "pending";
+    private static final String SENT = "sent";
+
+    public enum Claim {
+        CLAIMED, SENT, IN_FLIGHT
+    }
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration lease;
+    private final Duration ttl;
+    private final Counter errors;
+
+    public NotificationDeduplicator(StringRedisTemplate redisTemplate,
+                                    @Value("${application.notification.dedup.lease}") Duration lease,
+                                    @Value("${application.notification.dedup.ttl}") Duration ttl,
+                                    MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.lease = lease;
+        this.ttl = ttl;
+        this.errors = Counter.builder("notification.dedup.errors").register(meterRegistry);
+    }
+
+    public List<Claim> claim(String eventType, List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        try {
+            List<Object> claimed = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Long id : ids) {
+                    ((StringRedisConnection) connection).set(key(eventType, id), PENDING, Expiration.from(lease),
+                            RedisStringCommands.SetOption.ifAbsent());
+                }
+                return null;
+            });
+
+            List<String> existingKeys = new ArrayList<>();
+            for (int i = 0; i < ids.size(); i++) {
+                if (!Boolean.TRUE.equals(claimed.get(i))) {
+                    existingKeys.add(key(eventType, ids.get(i)));
+                }
+            }
+            List<String> existing = existingKeys.isEmpty() ? List.of() : redisTemplate.opsForValue().multiGet(existingKeys);
+
+            List<Claim> claims = new ArrayList<>(ids.size());
+            int next = 0;
+            for (int i = 0; i < ids.size(); i++) {
+                if (Boolean.TRUE.equals(claimed.get(i))) {
+                    claims.add(Claim.CLAIMED);
+                } else {
+                    String state = existing.get(next++);
+                    claims.add(SENT.equals(state) ? Claim.SENT : state == null ? Claim.CLAIMED : Claim.IN_FLIGHT);
+                }
+            }
+            return claims;
+        } catch (DataAccessException e) {
+            errors.increment();
+            log.warn("Deduplication store is unavailable, sending {} {} notifications unchecked", ids.size(), eventType, e);
+            return Collections.nCopies(ids.size(), Claim.CLAIMED);
+        }
+    }
+
+    public void markSent(String eventType, Collection<Long> ids) {
+        execute(eventType, ids, (connection, key) -> connection.set(key, SENT, Expiration.from(ttl),
+                RedisStringCommands.SetOption.upsert()));
+    }
+
+    public void release(String eventType, Collection<Long> ids) {
+        execute(eventType, ids, StringRedisConnection::del);
+    }
+
+    private void execute(String eventType, Collection<Long> ids, KeyCommand command) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Long id : ids) {
+                    command.apply((StringRedisConnection) connection, key(eventType, id));
+                }
+                return null;
+            });
+        } catch (DataAccessException e) {
+            errors.increment();
+            log.warn("Failed to update deduplication state of {} {} notifications", ids.size(), eventType, e);
+        }
+    }
+
+    private static String key(String eventType, Long id) {
+        return KEY_PREFIX + eventType + ":" + id;
+    }
+
+    @FunctionalInterface
+    private interface KeyCommand {
+        void apply(StringRedisConnection connection, String key);
+    }
+}
@@ -1,58 +1,232 @@
 package com.example.services;
 
 import com.example.bookingservice.event.BookingCreatedEvent;
-import lombok.RequiredArgsConstructor;
+import com.example.mail.MailTemplateRegistry;
+import com.example.mail.PermanentMailException;
+import com.example.mail.SmtpConnectionPool;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.DltHandler;
 import org.springframework.kafka.annotation.KafkaListener;
-import org.springframework.mail.MailException;
+import org.springframework.kafka.annotation.RetryableTopic;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.listener.ConsumerRecordRecoverer;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.mail.javamail.MimeMessagePreparator;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class NotificationService {
 
+    public static final String RETRY_TOPIC = "booking-email";
+    public static final String DLT_TOPIC = RETRY_TOPIC + "-dlt";
+    private static final String EVENT_TYPE = "booking-created";
+    private static final String BOOKING_CREATED_TEMPLATE = "booking-created";
+
     private final JavaMailSender mailSender;
+    private final SmtpConnectionPool connectionPool;
+    private final MailTemplateRegistry templates;
+    private final ConsumerRecordRecoverer retryRecoverer;
+    private final NotificationDeduplicator deduplicator;
+    private final MeterRegistry meterRegistry;
+    private final Counter sent;
+    private final Counter failed;
+    private final Counter duplicates;
+    private final Counter deferred;
+    private final Counter deadLettered;
+    private final DistributionSummary batchSize;
+    private final Timer batchDuration;
+
+    public NotificationService(JavaMailSender mailSender, SmtpConnectionPool connectionPool,
+                               MailTemplateRegistry templates, ConsumerRecordRecoverer retryRecoverer,
+                               NotificationDeduplicator deduplicator, MeterRegistry meterRegistry) {
+        this.mailSender = mailSender;
+        this.connectionPool = connectionPool;
+        this.templates = templates;
+        this.retryRecoverer = retryRecoverer;
+        this.deduplicator = deduplicator;
+        this.meterRegistry = meterRegistry;
+        this.sent = Counter.builder("notification.emails").tag("result", "sent").register(meterRegistry);
+        this.failed = Counter.builder("notification.emails").tag("result", "failed").register(meterRegistry);
+        this.duplicates = Counter.builder("notification.emails").tag("result", "duplicate").register(meterRegistry);
+        this.deferred = Counter.builder("notification.emails").tag("result", "deferred").register(meterRegistry);
+        this.deadLettered = Counter.builder("notification.dlt.records").register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("notification.batch.size").register(meterRegistry);
+        this.batchDuration = Timer.builder("notification.batch.duration").register(meterRegistry);
+    }
+
+    @KafkaListener(topics = "booking-created", batch = "true",
+            concurrency = "${application.notification.listener.concurrency}")
+    public void listen(List<ConsumerRecord<String, BookingCreatedEvent>> records) {
+        log.info("Received {} events from booking-created topic", records.size());
+        batchSize.record(records.size());
+
+        List<NotificationDeduplicator.Claim> claims = deduplicator.claim(EVENT_TYPE,
+                records.stream().map(record -> record.value().getBookingId()).toList());
+        List<Integer> claimed = new ArrayList<>(records.size());
+        Map<Integer, Exception> forwards = new TreeMap<>();
+        for (int i = 0; i < records.size(); i++) {
+            switch (claims.get(i)) {
+                case CLAIMED -> claimed.add(i);
+                case SENT -> duplicates.increment();
+                case IN_FLIGHT -> forwards.put(i, inFlight(records.get(i).value()));
+            }
+        }
+
+        List<BookingCreatedEvent> bookingCreatedEvents = claimed.stream().map(i -> records.get(i).value()).toList();
+        Map<Integer, Exception> failures = batchDuration.record(() -> send(bookingCreatedEvents));
+
+        List<Long> sentIds = new ArrayList<>(claimed.size());
+        List<Long> failedIds = new ArrayList<>(failures.size());
+        for (int i = 0; i < claimed.size(); i++) {
+            Long bookingId = bookingCreatedEvents.get(i).getBookingId();
+            Exception failure = failures.get(i);
+            if (failure == null) {
+                sentIds.add(bookingId);
+            } else {
+                failedIds.add(bookingId);
+                forwards.put(claimed.get(i), PermanentMailException.isPermanent(failure)
+                        ? rejected(bookingCreatedEvents.get(i), failure) : failure);
+            }
+        }
+        deduplicator.markSent(EVENT_TYPE, sentIds);
+        deduplicator.release(EVENT_TYPE, failedIds);
+
+        sent.increment(sentIds.size());
+        if (forwards.isEmpty()) {
+            log.info("{} booking email notifications have been sent.", sentIds.size());
+            return;
+        }
+
+        failed.increment(failedIds.size());
+        deferred.increment(forwards.size() - failedIds.size());
+        log.warn("Forwarding {} of {} mails to {} ({} failed, {} already in flight)", forwards.size(), records.size(),
+                RETRY_TOPIC, failedIds.size(), forwards.size() - failedIds.size());
+        for (Map.Entry<Integer, Exception> forward : forwards.entrySet()) {
+            ConsumerRecord<String, BookingCreatedEvent> record = records.get(forward.getKey());
+            try {
+                retryRecoverer.accept(record, forward.getValue());
+            } catch (RuntimeException e) {
+                throw new BatchListenerFailedException(String.format("Exception occurred while forwarding mail to %s",
+                        record.value().getEmail()), e, forward.getKey());
+            }
+        }
+    }
 
-    @KafkaListener(topics = "booking-created")
-    public void listen(BookingCreatedEvent bookingCreatedEvent) {
-        log.info("Received from booking-created topic: {}", bookingCreatedEvent);
-        MimeMessagePreparator messagePreparator = mimeMessage -> {
-            MimeMessageHelper messageHelper = new MimeMessageHelper(mimeMessage);
-            messageHelper.setFrom("springbooking@email.com");
-            messageHelper.setTo(bookingCreatedEvent.getEmail().toString());
-            messageHelper.setSubject(String.format("Booking №%s successfully created", bookingCreatedEvent.getBookingId()));
-            messageHelper.setText(String.format("""
-                    Hello!
-                                        
-                    Your booking has been successfully created. Here are the details:
-                                        
-                    📌   Booking ID: %d
-                    🏠   Property name: %s
-                    📅   Stay period: from %s to %s 
-                                        
-                    If you have any questions, feel free to contact our support team.
-                                        
-                    Have a great day!
-                    """,
-                    bookingCreatedEvent.getBookingId(),
-                    bookingCreatedEvent.getPropertyName(),
-                    bookingCreatedEvent.getCheckInDate(),
-                    bookingCreatedEvent.getCheckOutDate()
-            ));
-        };
+    @RetryableTopic(attempts = "${application.notification.retry.attempts}",
+            backoff = @Backoff(delayExpression = "${application.notification.retry.delay}",
+                    multiplierExpression = "${application.notification.retry.multiplier}",
+                    maxDelayExpression = "${application.notification.retry.max-delay}"),
+            exclude = {MessagingException.class, PermanentMailException.class})
+    @KafkaListener(topics = RETRY_TOPIC, groupId = "notificationServiceRetry")
+    public void retry(BookingCreatedEvent bookingCreatedEvent, @Header(KafkaHeaders.RECEIVED_TOPIC) String topic)
+            throws MessagingException, InterruptedException {
+        Counter.builder("notification.retries").tag("topic", topic).register(meterRegistry).increment();
+        log.info("Retrying booking email {} from {}", bookingCreatedEvent.getBookingId(), topic);
 
+        List<Long> bookingId = List.of(bookingCreatedEvent.getBookingId());
+        switch (deduplicator.claim(EVENT_TYPE, bookingId).get(0)) {
+            case SENT -> {
+                duplicates.increment();
+                log.info("Booking email {} has already been sent", bookingCreatedEvent.getBookingId());
+                return;
+            }
+            case IN_FLIGHT -> throw inFlight(bookingCreatedEvent);
+            case CLAIMED -> {
+            }
+        }
+
+        boolean delivered = false;
         try {
-            mailSender.send(messagePreparator);
-            log.info("Booking Email Notification has been sent.");
-        } catch (MailException e) {
-            log.error("Exception occurred while sending mail.", e);
-            throw new RuntimeException(String.format("Exception occurred while sending mail to %s", bookingCreatedEvent.getEmail()), e);
+            Exception failure = connectionPool.sendAll(List.of(createMessage(bookingCreatedEvent))).get(0);
+            if (failure != null && PermanentMailException.isPermanent(failure)) {
+                throw rejected(bookingCreatedEvent, failure);
+            }
+            if (failure != null) {
+                throw new MailSendException(String.format("Exception occurred while sending mail to %s",
+                        bookingCreatedEvent.getEmail()), failure);
+            }
+            delivered = true;
+        } finally {
+            if (delivered) {
+                deduplicator.markSent(EVENT_TYPE, bookingId);
+            } else {
+                deduplicator.release(EVENT_TYPE, bookingId);
+            }
+        }
+        sent.increment();
+    }
+
+    @DltHandler
+    public void deadLetter(BookingCreatedEvent bookingCreatedEvent, @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
+                           @Header(value = KafkaHeaders.EXCEPTION_MESSAGE, required = false) String exceptionMessage) {
+        deadLettered.increment();
+        log.error("Booking email {} to {} moved to {}: {}", bookingCreatedEvent.getBookingId(),
+                bookingCreatedEvent.getEmail(), topic, exceptionMessage);
+    }
+
+    private Map<Integer, Exception> send(List<BookingCreatedEvent> bookingCreatedEvents) {
+        List<MimeMessage> messages = new ArrayList<>(bookingCreatedEvents.size());
+        Map<Integer, Exception> invalid = new HashMap<>();
+        for (int i = 0; i < bookingCreatedEvents.size(); i++) {
+            try {
+                messages.add(createMessage(bookingCreatedEvents.get(i)));
+            } catch (MessagingException e) {
+                messages.add(null);
+                invalid.put(i, e);
+            }
         }
 
+        try {
+            Map<Integer, Exception> failures = new TreeMap<>(connectionPool.sendAll(messages));
+            failures.putAll(invalid);
+            return failures;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while sending booking emails", e);
+        }
+    }
+
+    private static PermanentMailException rejected(BookingCreatedEvent bookingCreatedEvent, Exception failure) {
+        return new PermanentMailException(String.format("Mail to %s was rejected by the SMTP server",
+                bookingCreatedEvent.getEmail()), failure);
+    }
+
+    private static IllegalStateException inFlight(BookingCreatedEvent bookingCreatedEvent) {
+        return new IllegalStateException(String.format("Booking email %d is already being sent",
+                bookingCreatedEvent.getBookingId()));
+    }
+
+    private MimeMessage createMessage(BookingCreatedEvent bookingCreatedEvent) throws MessagingException {
+        Locale locale = bookingCreatedEvent.getLocale() != null
+                ? Locale.forLanguageTag(bookingCreatedEvent.getLocale().toString()) : null;
+        MailTemplateRegistry.RenderedMail mail = templates.render(BOOKING_CREATED_TEMPLATE, locale, bookingCreatedEvent);
 
+        MimeMessage mimeMessage = mailSender.createMimeMessage();
+        MimeMessageHelper messageHelper = new MimeMessageHelper(mimeMessage, true, StandardCharsets.UTF_8.name());
+        messageHelper.setFrom("springbooking@email.com");
+        messageHelper.setTo(bookingCreatedEvent.getEmail().toString());
+        messageHelper.setSubject(mail.subject());
+        messageHelper.setText(mail.text(), mail.html());
+        return mimeMessage;
     }
 }
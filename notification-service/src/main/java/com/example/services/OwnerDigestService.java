@@ -0,0 +1,181 @@
+package com.example.services;
+
+import com.example.bookingservice.event.BookingCreatedEvent;
+import com.example.mail.MailTemplateRegistry;
+import com.example.mail.SmtpConnectionPool;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@Slf4j
+public class OwnerDigestService {
+
+    private static final String OWNER_DIGEST_TEMPLATE = "owner-digest";
+
+    public record Entry(long bookingId, String propertyName, String checkInDate, String checkOutDate) {
+    }
+
+    public record Digest(String email, int count, List<Entry> bookings) {
+    }
+
+    private final OwnerDigestStore store;
+    private final JavaMailSender mailSender;
+    private final SmtpConnectionPool connectionPool;
+    private final MailTemplateRegistry templates;
+    private final ObjectMapper objectMapper;
+    private final Duration window;
+    private final Duration lease;
+    private final int batchSize;
+    private final Counter buffered;
+    private final Counter sent;
+    private final Counter failed;
+    private final DistributionSummary digestSize;
+
+    public OwnerDigestService(OwnerDigestStore store, JavaMailSender mailSender, SmtpConnectionPool connectionPool,
+                              MailTemplateRegistry templates, ObjectMapper objectMapper,
+                              @Value("${application.notification.digest.window}") Duration window,
+                              @Value("${application.notification.digest.lease}") Duration lease,
+                              @Value("${application.notification.digest.batch-size}") int batchSize,
+                              MeterRegistry meterRegistry) {
+        this.store = store;
+        this.mailSender = mailSender;
+        this.connectionPool = connectionPool;
+        this.templates = templates;
+        this.objectMapper = objectMapper;
+        this.window = window;
+        this.lease = lease;
+        this.batchSize = batchSize;
+        this.buffered = Counter.builder("notification.digest.entries").register(meterRegistry);
+        this.sent = Counter.builder("notification.digest.emails").tag("result", "sent").register(meterRegistry);
+        this.failed = Counter.builder("notification.digest.emails").tag("result", "failed").register(meterRegistry);
+        this.digestSize = DistributionSummary.builder("notification.digest.size").register(meterRegistry);
+    }
+
+    @KafkaListener(topics = "booking-created", groupId = "notificationServiceDigest", batch = "true",
+            concurrency = "${application.notification.listener.concurrency}")
+    public void buffer(List<BookingCreatedEvent> bookingCreatedEvents) throws JsonProcessingException {
+        Map<Long, Map<String, String>> entriesByOwner = new HashMap<>();
+        Map<Long, String> recipients = new HashMap<>();
+        int count = 0;
+        for (BookingCreatedEvent event : bookingCreatedEvents) {
+            if (event.getOwnerId() == null || event.getOwnerEmail() == null) {
+                continue;
+            }
+            Entry entry = new Entry(event.getBookingId(), event.getPropertyName().toString(),
+                    event.getCheckInDate().toString(), event.getCheckOutDate().toString());
+            entriesByOwner.computeIfAbsent(event.getOwnerId(), owner -> new HashMap<>())
+                    .put(String.valueOf(entry.bookingId()), objectMapper.writeValueAsString(entry));
+            recipients.put(event.getOwnerId(), event.getOwnerEmail().toString());
+            count++;
+        }
+
+        store.append(entriesByOwner, recipients, Instant.now().plus(window));
+        buffered.increment(count);
+    }
+
+    @Scheduled(fixedDelayString = "${application.notification.digest.poll-interval}",
+            initialDelayString = "${application.notification.digest.poll-interval}")
+    public void flush() {
+        try {
+            int claimed;
+            do {
+                claimed = flushDue();
+            } while (claimed == batchSize);
+        } catch (DataAccessException e) {
+            log.warn("Digest store is unavailable, owner digests will be sent on the next run", e);
+        }
+    }
+
+    private int flushDue() {
+        List<Long> owners = store.claimDue(Instant.now(), lease, batchSize);
+        if (owners.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, Map<String, String>> pending = new LinkedHashMap<>();
+        List<MimeMessage> messages = new ArrayList<>(owners.size());
+        for (Long owner : owners) {
+            Map<String, String> entries = store.entries(owner);
+            String recipient = store.recipient(owner);
+            if (entries.isEmpty() || recipient == null) {
+                store.complete(owner, entries.keySet(), Instant.now().plus(window));
+                continue;
+            }
+            try {
+                messages.add(createMessage(digest(recipient, entries)));
+                pending.put(owner, entries);
+            } catch (MessagingException | JsonProcessingException e) {
+                failed.increment();
+                log.error("Dropping owner digest of {} bookings for owner {}", entries.size(), owner, e);
+                store.complete(owner, entries.keySet(), Instant.now().plus(window));
+            }
+        }
+
+        Map<Integer, Exception> failures;
+        try {
+            failures = connectionPool.sendAll(messages);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while sending owner digests", e);
+        }
+
+        int index = 0;
+        for (Map.Entry<Long, Map<String, String>> digest : pending.entrySet()) {
+            Exception failure = failures.get(index++);
+            if (failure != null) {
+                failed.increment();
+                log.warn("Failed to send owner digest to owner {}, retrying in {}", digest.getKey(), lease, failure);
+                continue;
+            }
+            store.complete(digest.getKey(), digest.getValue().keySet(), Instant.now().plus(window));
+            sent.increment();
+            digestSize.record(digest.getValue().size());
+        }
+        log.info("{} owner digests have been sent", pending.size() - failures.size());
+        return owners.size();
+    }
+
+    private Digest digest(String recipient, Map<String, String> entries) throws JsonProcessingException {
+        List<Entry> bookings = new ArrayList<>(entries.size());
+        for (String entry : entries.values()) {
+            bookings.add(objectMapper.readValue(entry, Entry.class));
+        }
+        bookings.sort(Comparator.comparing(Entry::checkInDate).thenComparingLong(Entry::bookingId));
+        return new Digest(recipient, bookings.size(), bookings);
+    }
+
+    private MimeMessage createMessage(Digest digest) throws MessagingException {
+        MailTemplateRegistry.RenderedMail mail = templates.render(OWNER_DIGEST_TEMPLATE, null, digest);
+
+        MimeMessage mimeMessage = mailSender.createMimeMessage();
+        MimeMessageHelper messageHelper = new MimeMessageHelper(mimeMessage, true, StandardCharsets.UTF_8.name());
+        messageHelper.setFrom("springbooking@email.com");
+        messageHelper.setTo(digest.email());
+        messageHelper.setSubject(mail.subject());
+        messageHelper.setText(mail.text(), mail.html());
+        return mimeMessage;
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.services;
+
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class OwnerDigestStore {
+
+    private static final String DUE_KEY = "notification-service:digest:due";
+    private static final String RECIPIENTS_KEY = "notification-service:digest:recipients";
+    private static final String ENTRIES_KEY_PREFIX = "notification-service:digest:entries:";
+    private static final int DELETE_CHUNK = 1000;
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM_SCRIPT = RedisScript.of("""
+            local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[3]))
+            for _, owner in ipairs(due) do
+                redis.call('ZADD', KEYS[1], ARGV[2], owner)
+            end
+            return due
+            """, List.class);
+
+    // HDEL runs in chunks because unpack() of a whole large digest would overflow the Lua stack
+    private static final RedisScript<Long> COMPLETE_SCRIPT = RedisScript.of("""
+            local chunk = tonumber(ARGV[3])
+            for i = 4, #ARGV, chunk do
+                redis.call('HDEL', KEYS[2], unpack(ARGV, i, math.min(i + chunk - 1, #ARGV)))
+            end
+            local remaining = redis.call('HLEN', KEYS[2])
+            if remaining == 0 then
+                redis.call('ZREM', KEYS[1], ARGV[1])
+                redis.call('HDEL', KEYS[3], ARGV[1])
+            else
+                redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])
+            end
+            return remaining
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public OwnerDigestStore(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    public void append(Map<Long, Map<String, String>> entriesByOwner, Map<Long, String> recipients, Instant windowEnd) {
+        if (entriesByOwner.isEmpty()) {
+            return;
+        }
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            entriesByOwner.forEach((ownerId, entries) -> {
+                String owner = String.valueOf(ownerId);
+                redis.hMSet(entriesKey(ownerId), entries);
+                redis.hSet(RECIPIENTS_KEY, owner, recipients.get(ownerId));
+                redis.zAdd(DUE_KEY, windowEnd.toEpochMilli(), owner, RedisZSetCommands.ZAddArgs.ifNotExists());
+            });
+            return null;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<Long> claimDue(Instant now, Duration lease, int limit) {
+        List<String> due = redisTemplate.execute(CLAIM_SCRIPT, List.of(DUE_KEY),
+                String.valueOf(now.toEpochMilli()), String.valueOf(now.plus(lease).toEpochMilli()),
+                String.valueOf(limit));
+        return due != null ? due.stream().map(Long::valueOf).toList() : List.of();
+    }
+
+    public String recipient(long ownerId) {
+        return redisTemplate.<String, String>opsForHash().get(RECIPIENTS_KEY, String.valueOf(ownerId));
+    }
+
+    public Map<String, String> entries(long ownerId) {
+        return redisTemplate.<String, String>opsForHash().entries(entriesKey(ownerId));
+    }
+
+    public void complete(long ownerId, Collection<String> bookingIds, Instant nextWindowEnd) {
+        List<String> args = new ArrayList<>(bookingIds.size() + 3);
+        args.add(String.valueOf(ownerId));
+        args.add(String.valueOf(nextWindowEnd.toEpochMilli()));
+        args.add(String.valueOf(DELETE_CHUNK));
+        args.addAll(bookingIds);
+        redisTemplate.execute(COMPLETE_SCRIPT, List.of(DUE_KEY, entriesKey(ownerId), RECIPIENTS_KEY), args.toArray());
+    }
+
+    private static String entriesKey(long ownerId) {
+        return ENTRIES_KEY_PREFIX + ownerId;
+    }
+}
@@ -1,6 +1,8 @@
 package com.example;
 
 import com.example.bookingservice.event.BookingCreatedEvent;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,8 +16,8 @@ import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
 import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessagePreparator;
 import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.containers.GenericContainer;
 import org.testcontainers.containers.KafkaContainer;
 import org.testcontainers.utility.DockerImageName;
 
@@ -26,12 +28,14 @@ import java.util.concurrent.TimeUnit;
 import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @SpringBootTest(properties = {
         "spring.kafka.consumer.auto-offset-reset=earliest",
         "spring.kafka.consumer.group-id=notification-test-group-${random.uuid}",
         "spring.kafka.properties.schema.registry.url=mock://test-registry",
         "spring.kafka.consumer.properties.schema.registry.url=mock://test-registry",
+        "spring.kafka.producer.properties.schema.registry.url=mock://test-registry",
         "spring.kafka.consumer.properties.specific.avro.reader=true",
         "management.health.mail.enabled=false"
 })
@@ -54,10 +58,12 @@ class NotificationServiceIT {
         event.setCheckInDate("2026-05-01");
         event.setCheckOutDate("2026-05-10");
 
+        when(javaMailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage((Session) null));
+
         kafkaTemplate.send("booking-created", String.valueOf(event.getBookingId()), event);
 
         await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
-            verify(javaMailSender).send(any(MimeMessagePreparator.class));
+            verify(javaMailSender).send(any(MimeMessage.class));
         });
     }
 
@@ -69,6 +75,13 @@ class NotificationServiceIT {
             return new KafkaContainer(DockerImageName.parse("confluentinc/cp-kafka:7.4.0"));
         }
 
+        @Bean
+        @ServiceConnection(name = "redis")
+        GenericContainer<?> redisContainer() {
+            return new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+                    .withExposedPorts(6379);
+        }
+
         @Bean
         public ProducerFactory<String, BookingCreatedEvent> producerFactory(KafkaContainer kafkaContainer) {
             Map<String, Object> configProps = new HashMap<>();
@@ -0,0 +1,78 @@
+package com.example.benchmark;
+
+import com.example.bookingservice.event.BookingCreatedEvent;
+import com.example.mail.MailTemplate;
+import com.example.mail.MailTemplateRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the precompiled mail templates against the previous {@code String.format} text body;
+ * {@code multipartTemplate} renders subject, plain text and HTML together.
+ * Run with {@code mvn -pl notification-service -am -Pbenchmark verify -DskipTests}, adding {@code -prof gc}
+ * to the JMH arguments to see allocation per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MailTemplateBenchmark {
+
+    private static final String FORMAT = """
+            Hello!
+                                
+            Your booking has been successfully created. Here are the details:
+                                
+            📌   Booking ID: %d
+            🏠   Property name: %s
+            📅   Stay period: from %s to %s 
+                                
+            If you have any questions, feel free to contact our support team.
+                                
+            Have a great day!
+            """;
+
+    private MailTemplateRegistry registry;
+    private MailTemplate textTemplate;
+    private BookingCreatedEvent event;
+
+    @Setup
+    public void setUp() throws IOException {
+        registry = new MailTemplateRegistry(new PathMatchingResourcePatternResolver(),
+                "classpath*:mail-templates", Locale.ENGLISH);
+
+        textTemplate = MailTemplate.compile(new ClassPathResource("mail-templates/en/booking-created.txt")
+                .getContentAsString(StandardCharsets.UTF_8), false);
+
+        event = new BookingCreatedEvent();
+        event.setBookingId(100L);
+        event.setEmail("guest@example.com");
+        event.setPropertyName("Ocean View Apartment");
+        event.setCheckInDate("2026-05-01");
+        event.setCheckOutDate("2026-05-10");
+    }
+
+    @Benchmark
+    public String stringFormat() {
+        return String.format(FORMAT, event.getBookingId(), event.getPropertyName(),
+                event.getCheckInDate(), event.getCheckOutDate());
+    }
+
+    @Benchmark
+    public String textTemplate() {
+        return textTemplate.render(event);
+    }
+
+    @Benchmark
+    public MailTemplateRegistry.RenderedMail multipartTemplate() {
+        return registry.render("booking-created", Locale.ENGLISH, event);
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.mail;
+
+import com.example.bookingservice.event.BookingCreatedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.IOException;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MailTemplateRegistryTest {
+
+    private MailTemplateRegistry registry;
+    private BookingCreatedEvent event;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        registry = new MailTemplateRegistry(new PathMatchingResourcePatternResolver(),
+                "classpath*:mail-templates", Locale.ENGLISH);
+
+        event = new BookingCreatedEvent();
+        event.setBookingId(42L);
+        event.setEmail("guest@example.com");
+        event.setPropertyName("Villa <Sea & Sun>");
+        event.setCheckInDate("2026-05-01");
+        event.setCheckOutDate("2026-05-10");
+    }
+
+    @Test
+    void render_DefaultLocale_RendersAllParts() {
+        // When
+        MailTemplateRegistry.RenderedMail mail = registry.render("booking-created", null, event);
+
+        // Then
+        assertEquals("Booking №42 successfully created", mail.subject());
+        assertTrue(mail.text().contains("Property name: Villa <Sea & Sun>"));
+        assertTrue(mail.text().contains("from 2026-05-01 to 2026-05-10"));
+        assertTrue(mail.html().contains("Villa &lt;Sea &amp; Sun&gt;"));
+    }
+
+    @Test
+    void render_RegionalLocale_FallsBackToLanguage() {
+        // When
+        MailTemplateRegistry.RenderedMail mail = registry.render("booking-created", Locale.forLanguageTag("ru-RU"), event);
+
+        // Then
+        assertEquals("Бронирование №42 успешно создано", mail.subject());
+        assertTrue(mail.text().contains("Период проживания: с 2026-05-01 по 2026-05-10"));
+    }
+
+    @Test
+    void render_UnsupportedLocale_FallsBackToDefault() {
+        // When
+        MailTemplateRegistry.RenderedMail mail = registry.render("booking-created", Locale.JAPANESE, event);
+
+        // Then
+        assertEquals("Booking №42 successfully created", mail.subject());
+    }
+
+    @Test
+    void supportedLocale_ArbitraryTags_ResolvesToBundleLocales() {
+        // When & Then
+        assertEquals(Locale.forLanguageTag("ru"), registry.supportedLocale(Locale.forLanguageTag("ru-RU-x-lvariant-POSIX")));
+        assertEquals(Locale.ENGLISH, registry.supportedLocale(Locale.forLanguageTag("en-GB")));
+        assertEquals(Locale.ENGLISH, registry.supportedLocale(Locale.forLanguageTag("zz-Qaaa-XY")));
+        assertEquals(Locale.ENGLISH, registry.supportedLocale(null));
+    }
+
+    @Test
+    void render_UnknownTemplate_ThrowsIllegalArgumentException() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> registry.render("unknown", Locale.ENGLISH, event));
+    }
+}
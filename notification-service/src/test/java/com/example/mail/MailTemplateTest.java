@@ -0,0 +1,75 @@
+package com.example.mail;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MailTemplateTest {
+
+    record Booking(Long bookingId, String propertyName) {
+    }
+
+    record Digest(String email, List<Booking> bookings) {
+    }
+
+    @Test
+    void render_RecordContext_ReplacesVariables() {
+        // Given
+        MailTemplate template = MailTemplate.compile("Booking {{ bookingId }} at {{propertyName}}.", false);
+
+        // When
+        String rendered = template.render(new Booking(7L, "Loft & Co"));
+
+        // Then
+        assertEquals("Booking 7 at Loft & Co.", rendered);
+    }
+
+    @Test
+    void render_HtmlTemplate_EscapesValues() {
+        // Given
+        MailTemplate template = MailTemplate.compile("<b>{{propertyName}}</b>", true);
+
+        // When
+        String rendered = template.render(new Booking(7L, "<script>\"x\"</script>"));
+
+        // Then
+        assertEquals("<b>&lt;script&gt;&quot;x&quot;&lt;/script&gt;</b>", rendered);
+    }
+
+    @Test
+    void render_UnknownVariable_ThrowsIllegalArgumentException() {
+        // Given
+        MailTemplate template = MailTemplate.compile("{{guestName}}", false);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> template.render(new Booking(7L, "Loft")));
+    }
+
+    @Test
+    void compile_UnclosedVariable_ThrowsIllegalArgumentException() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> MailTemplate.compile("Booking {{bookingId", false));
+    }
+
+    @Test
+    void render_Section_RendersBodyForEachItem() {
+        // Given
+        MailTemplate template = MailTemplate.compile("{{email}}:{{#bookings}} [{{bookingId}} {{propertyName}}]{{/bookings}}", true);
+
+        // When
+        String rendered = template.render(new Digest("owner@example.com",
+                List.of(new Booking(1L, "Loft"), new Booking(2L, "A & B"))));
+
+        // Then
+        assertEquals("owner@example.com: [1 Loft] [2 A &amp; B]", rendered);
+    }
+
+    @Test
+    void compile_UnclosedSection_ThrowsIllegalArgumentException() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> MailTemplate.compile("{{#bookings}}{{bookingId}}", false));
+        assertThrows(IllegalArgumentException.class, () -> MailTemplate.compile("{{bookingId}}{{/bookings}}", false));
+    }
+}
@@ -0,0 +1,201 @@
+package com.example.mail;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.Address;
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Provider;
+import jakarta.mail.Session;
+import jakarta.mail.URLName;
+import jakarta.mail.internet.MimeMessage;
+import org.eclipse.angus.mail.smtp.SMTPTransport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SmtpConnectionPoolTest {
+
+    private static final int MESSAGES = 500;
+    private static final int POOL_SIZE = 4;
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private JavaMailSenderImpl mailSender;
+    private SmtpConnectionPool connectionPool;
+
+    @BeforeEach
+    void setUp() {
+        mailSender = new JavaMailSenderImpl();
+        mailSender.setHost(ServerSetupTest.SMTP.getBindAddress());
+        mailSender.setPort(ServerSetupTest.SMTP.getPort());
+        Properties properties = new Properties();
+        properties.setProperty("mail.smtp.class", CountingTransport.class.getName());
+        mailSender.setJavaMailProperties(properties);
+        mailSender.getSession().addProvider(new Provider(Provider.Type.TRANSPORT, "smtp",
+                CountingTransport.class.getName(), "test", null));
+        CountingTransport.connects.set(0);
+        CountingTransport.closes.set(0);
+        CountingTransport.stalledRecipient = null;
+        connectionPool = new SmtpConnectionPool(mailSender, Executors.newFixedThreadPool(POOL_SIZE), POOL_SIZE,
+                Duration.ofSeconds(10));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        connectionPool.destroy();
+    }
+
+    @Test
+    void sendAll_Batch_DeliversEveryMessageOverPooledConnections() throws Exception {
+        // Given
+        List<MimeMessage> messages = createMessages(MESSAGES);
+
+        // When
+        Map<Integer, Exception> failures = connectionPool.sendAll(messages);
+
+        // Then
+        assertTrue(failures.isEmpty());
+        assertTrue(greenMail.waitForIncomingEmail(10_000, MESSAGES));
+        assertEquals(MESSAGES, greenMail.getReceivedMessages().length);
+        assertTrue(CountingTransport.connects.get() >= 1 && CountingTransport.connects.get() <= POOL_SIZE);
+        assertEquals(0, CountingTransport.closes.get());
+    }
+
+    @Test
+    void sendAll_ReusedAcrossBatches_KeepsConnectionsOpen() throws Exception {
+        // Given
+        assertTrue(connectionPool.sendAll(createMessages(10)).isEmpty());
+        int connects = CountingTransport.connects.get();
+
+        // When
+        Map<Integer, Exception> second = connectionPool.sendAll(createMessages(10));
+
+        // Then
+        assertTrue(second.isEmpty());
+        assertTrue(greenMail.waitForIncomingEmail(5_000, 20));
+        assertEquals(connects, CountingTransport.connects.get());
+        assertEquals(0, CountingTransport.closes.get());
+    }
+
+    @Test
+    void destroy_IdleConnections_ClosesEveryOpenedConnection() throws Exception {
+        // Given
+        assertTrue(connectionPool.sendAll(createMessages(10)).isEmpty());
+
+        // When
+        connectionPool.destroy();
+
+        // Then
+        assertTrue(CountingTransport.connects.get() >= 1);
+        assertEquals(CountingTransport.connects.get(), CountingTransport.closes.get());
+    }
+
+    @Test
+    void sendAll_NullMessage_SkipsIt() throws Exception {
+        // Given
+        List<MimeMessage> messages = createMessages(3);
+        messages.set(1, null);
+
+        // When
+        Map<Integer, Exception> failures = connectionPool.sendAll(messages);
+
+        // Then
+        assertTrue(failures.isEmpty());
+        assertTrue(greenMail.waitForIncomingEmail(5_000, 2));
+        assertEquals(2, greenMail.getReceivedMessages().length);
+    }
+
+    @Test
+    void sendAll_StalledConnection_FailsItsStripeWithinTimeout() throws Exception {
+        // Given
+        connectionPool.destroy();
+        connectionPool = new SmtpConnectionPool(mailSender, Executors.newFixedThreadPool(POOL_SIZE), POOL_SIZE,
+                Duration.ofMillis(500));
+        CountingTransport.stalledRecipient = "guest0@example.com";
+        List<MimeMessage> messages = createMessages(8);
+
+        // When
+        long start = System.nanoTime();
+        Map<Integer, Exception> failures = connectionPool.sendAll(messages);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        // Then
+        assertTrue(elapsed.compareTo(Duration.ofSeconds(5)) < 0);
+        assertEquals(Set.of(0, 4), failures.keySet());
+        assertTrue(greenMail.waitForIncomingEmail(5_000, 6));
+        assertEquals(6, greenMail.getReceivedMessages().length);
+    }
+
+    private List<MimeMessage> createMessages(int count) throws MessagingException {
+        List<MimeMessage> messages = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            MimeMessage message = mailSender.createMimeMessage();
+            MimeMessageHelper helper = new MimeMessageHelper(message);
+            helper.setFrom("springbooking@email.com");
+            helper.setTo("guest" + i + "@example.com");
+            helper.setSubject("Booking №" + i + " successfully created");
+            helper.setText("Your booking has been successfully created.");
+            messages.add(message);
+        }
+        return messages;
+    }
+
+    public static class CountingTransport extends SMTPTransport {
+
+        static final AtomicInteger connects = new AtomicInteger();
+        static final AtomicInteger closes = new AtomicInteger();
+        static volatile String stalledRecipient;
+
+        public CountingTransport(Session session, URLName urlName) {
+            super(session, urlName);
+        }
+
+        @Override
+        protected synchronized boolean protocolConnect(String host, int port, String user, String password)
+                throws MessagingException {
+            boolean connected = super.protocolConnect(host, port, user, password);
+            if (connected) {
+                connects.incrementAndGet();
+            }
+            return connected;
+        }
+
+        @Override
+        public synchronized void sendMessage(Message message, Address[] addresses) throws MessagingException {
+            if (addresses[0].toString().equals(stalledRecipient)) {
+                try {
+                    new CountDownLatch(1).await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new MessagingException("Interrupted while stalled", e);
+                }
+            }
+            super.sendMessage(message, addresses);
+        }
+
+        @Override
+        public synchronized void close() throws MessagingException {
+            if (isConnected()) {
+                closes.incrementAndGet();
+            }
+            super.close();
+        }
+    }
+}
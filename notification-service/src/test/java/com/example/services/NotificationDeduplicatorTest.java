@@ -0,0 +1,81 @@
+package com.example.services;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationDeduplicatorTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private NotificationDeduplicator deduplicator;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        deduplicator = new NotificationDeduplicator(redisTemplate, Duration.ofMinutes(2), Duration.ofDays(7),
+                meterRegistry);
+    }
+
+    @Test
+    void claim_MixedStates_ResolvesEachEvent() {
+        // Given
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.of(true, false, false, false));
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(List.of("notification-service:dedup:booking-created:2",
+                "notification-service:dedup:booking-created:3", "notification-service:dedup:booking-created:4")))
+                .thenReturn(Arrays.asList("sent", "pending", null));
+
+        // When
+        List<NotificationDeduplicator.Claim> claims = deduplicator.claim("booking-created", List.of(1L, 2L, 3L, 4L));
+
+        // Then
+        assertEquals(List.of(NotificationDeduplicator.Claim.CLAIMED, NotificationDeduplicator.Claim.SENT,
+                NotificationDeduplicator.Claim.IN_FLIGHT, NotificationDeduplicator.Claim.CLAIMED), claims);
+    }
+
+    @Test
+    void claim_RedisUnavailable_ClaimsEverything() {
+        // Given
+        when(redisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenThrow(new RedisConnectionFailureException("Connection refused"));
+
+        // When
+        List<NotificationDeduplicator.Claim> claims = deduplicator.claim("booking-created", List.of(1L, 2L));
+
+        // Then
+        assertEquals(List.of(NotificationDeduplicator.Claim.CLAIMED, NotificationDeduplicator.Claim.CLAIMED), claims);
+        assertEquals(1.0, meterRegistry.get("notification.dedup.errors").counter().count());
+    }
+
+    @Test
+    void markSent_NoEvents_DoesNotTouchRedis() {
+        // When
+        deduplicator.markSent("booking-created", List.of());
+
+        // Then
+        verifyNoInteractions(redisTemplate);
+    }
+}
@@ -1,17 +1,40 @@
 package com.example.services;
 
 import com.example.bookingservice.event.BookingCreatedEvent;
+import com.example.mail.MailTemplateRegistry;
+import com.example.mail.PermanentMailException;
+import com.example.mail.SmtpConnectionPool;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Session;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.eclipse.angus.mail.smtp.SMTPAddressFailedException;
+import org.eclipse.angus.mail.smtp.SMTPSendFailedException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.annotation.RetryableTopic;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.listener.ConsumerRecordRecoverer;
 import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessagePreparator;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -20,43 +43,287 @@ class NotificationServiceTest {
     @Mock
     private JavaMailSender mailSender;
 
-    @InjectMocks
+    @Mock
+    private SmtpConnectionPool connectionPool;
+
+    @Mock
+    private ConsumerRecordRecoverer retryRecoverer;
+
+    @Mock
+    private NotificationDeduplicator deduplicator;
+
+    private SimpleMeterRegistry meterRegistry;
+
     private NotificationService notificationService;
 
+    @BeforeEach
+    void setUp() throws IOException {
+        meterRegistry = new SimpleMeterRegistry();
+        MailTemplateRegistry templates = new MailTemplateRegistry(new PathMatchingResourcePatternResolver(),
+                "classpath*:mail-templates", Locale.ENGLISH);
+        notificationService = new NotificationService(mailSender, connectionPool, templates, retryRecoverer,
+                deduplicator, meterRegistry);
+        lenient().when(deduplicator.claim(eq("booking-created"), anyList())).thenAnswer(invocation ->
+                Collections.nCopies(invocation.<List<Long>>getArgument(1).size(), NotificationDeduplicator.Claim.CLAIMED));
+    }
+
     @Test
-    void listen_ValidEvent_SendsEmail() {
+    void listen_ValidEvents_SendsEmailsInOneBatch() throws InterruptedException {
         // Given
-        BookingCreatedEvent event = new BookingCreatedEvent();
-        event.setBookingId(1L);
-        event.setEmail("test@example.com");
-        event.setPropertyName("Luxury Villa");
-        event.setCheckInDate("2023-01-01");
-        event.setCheckOutDate("2023-01-05");
+        List<ConsumerRecord<String, BookingCreatedEvent>> records = List.of(createRecord(1L, "first@example.com"),
+                createRecord(2L, "second@example.com"));
 
-        doNothing().when(mailSender).send(any(MimeMessagePreparator.class));
+        when(mailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage((Session) null));
+        when(connectionPool.sendAll(anyList())).thenReturn(Map.of());
 
         // When
-        notificationService.listen(event);
+        notificationService.listen(records);
 
         // Then
-        verify(mailSender, times(1)).send(any(MimeMessagePreparator.class));
+        verify(connectionPool, times(1)).sendAll(argThat(messages -> messages.size() == 2));
+        verifyNoInteractions(retryRecoverer);
+        assertEquals(2.0, meterRegistry.get("notification.emails").tag("result", "sent").counter().count());
+        assertEquals(1L, meterRegistry.get("notification.batch.size").summary().count());
     }
 
     @Test
-    void listen_MailException_ThrowsRuntimeException() {
+    void listen_MailException_ForwardsFailedRecordsToRetryTopic() throws InterruptedException {
         // Given
-        BookingCreatedEvent event = new BookingCreatedEvent();
-        event.setBookingId(1L);
-        event.setEmail("test@example.com");
+        List<ConsumerRecord<String, BookingCreatedEvent>> records = List.of(createRecord(1L, "first@example.com"),
+                createRecord(2L, "second@example.com"), createRecord(3L, "third@example.com"));
+        MailSendException exception = new MailSendException("Mail server error");
+
+        when(mailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage((Session) null));
+        when(connectionPool.sendAll(anyList())).thenReturn(Map.of(1, exception));
+
+        // When
+        notificationService.listen(records);
+
+        // Then
+        verify(retryRecoverer, times(1)).accept(records.get(1), exception);
+        verifyNoMoreInteractions(retryRecoverer);
+        assertEquals(2.0, meterRegistry.get("notification.emails").tag("result", "sent").counter().count());
+        assertEquals(1.0, meterRegistry.get("notification.emails").tag("result", "failed").counter().count());
+    }
+
+    @Test
+    void listen_RetryPublishFails_ThrowsBatchListenerFailedExceptionAtFailedRecord() throws InterruptedException {
+        // Given
+        List<ConsumerRecord<String, BookingCreatedEvent>> records = List.of(createRecord(1L, "first@example.com"),
+                createRecord(2L, "second@example.com"));
+
+        when(mailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage((Session) null));
+        when(connectionPool.sendAll(anyList())).thenReturn(Map.of(1, new MailSendException("Mail server error")));
+        doThrow(new KafkaException("Broker unavailable")).when(retryRecoverer).accept(eq(records.get(1)), any());
+
+        // When & Then
+        BatchListenerFailedException exception = assertThrows(BatchListenerFailedException.class,
+                () -> notificationService.listen(records));
+
+        assertEquals(1, exception.getIndex());
+        assertTrue(exception.getMessage().contains("Exception occurred while forwarding mail"));
+    }
+
+    @Test
+    void listen_RetryPublishFails_MarksDeliveredRecordsSentBeforeFailing() throws InterruptedException {
+        // Given
+        List<ConsumerRecord<String, BookingCreatedEvent>> records = List.of(createRecord(1L, "first@example.com"),
+                createRecord(2L, "second@example.com"), createRecord(3L, "third@example.com"));
+
+        when(mailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage((Session) null));
+        when(connectionPool.sendAll(anyList())).thenReturn(Map.of(0, new MailSendException("Mail server error")));
+        doThrow(new KafkaException("Broker unavailable")).when(retryRecoverer).accept(eq(records.get(0)), any());
+
+        // When
+        BatchListenerFailedException exception = assertThrows(BatchListenerFailedException.class,
+                () -> notificationService.listen(records));
+
+        // Then
+        assertEquals(0, exception.getIndex());
+        verify(deduplicator).markSent("booking-created", List.of(2L, 3L));
+        verify(deduplicator).release("booking-created", List.of(1L));
+    }
+
+    @Test
+    void retry_MailException_ThrowsMailSendException() throws Exception {
+        // Given
+        BookingCreatedEvent event = createRecord(1L, "first@example.com").value();
 
-        doThrow(new MailSendException("Mail server error"))
-                .when(mailSender).send(any(MimeMessagePreparator.class));
+        when(mailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage((Session) null));
+        when(connectionPool.sendAll(anyList())).thenReturn(Map.of(0, new MailSendException("Mail server error")));
 
         // When & Then
-        RuntimeException exception = assertThrows(RuntimeException.class,
-                () -> notificationService.listen(event));
+        MailSendException exception = assertThrows(MailSendException.class,
+                () -> notificationService.retry(event, "booking-email-retry-5000"));
 
         assertTrue(exception.getMessage().contains("Exception occurred while sending mail"));
-        verify(mailSender, times(1)).send(any(MimeMessagePreparator.class));
+        verify(deduplicator).release("booking-created", List.of(1L));
+        assertEquals(1.0, meterRegistry.get("notification.retries")
+                .tag("topic", "booking-email-retry-5000").counter().count());
+    }
+
+    @Test
+    void retry_RecipientRejected_ThrowsNonRetryablePermanentMailException() throws Exception {
+        // Given
+        BookingCreatedEvent event = createRecord(1L, "unknown@example.com").value();
+        SendFailedException rejection = new SendFailedException("Invalid Addresses",
+                new SMTPAddressFailedException(new InternetAddress("unknown@example.com"), "RCPT TO", 550,
+                        "5.1.1 User unknown"));
+
+        when(mailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage((Session) null));
+        when(connectionPool.sendAll(anyList())).thenReturn(Map.of(0, rejection));
+
+        // When & Then
+        PermanentMailException exception = assertThrows(PermanentMailException.class,
+                () -> notificationService.retry(event, "booking-email"));
+
+        assertSame(rejection, exception.getCause());
+        verify(deduplicator).release("booking-created", List.of(1L));
+        RetryableTopic retryableTopic = NotificationService.class
+                .getMethod("retry", BookingCreatedEvent.class, String.class).getAnnotation(RetryableTopic.class);
+        assertTrue(List.of(retryableTopic.exclude()).contains(PermanentMailException.class));
+    }
+
+    @Test
+    void retry_TemporaryRejection_ThrowsRetryableMailSendException() throws Exception {
+        // Given
+        BookingCreatedEvent event = createRecord(1L, "first@example.com").value();
+        MailSendException rejection = new MailSendException("Mail server error",
+                new SMTPSendFailedException("DATA", 451, "4.3.0 Try again later", null, null, null, null));
+
+        when(mailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage((Session) null));
+        when(connectionPool.sendAll(anyList())).thenReturn(Map.of(0, rejection));
+
+        // When & Then
+        MailSendException exception = assertThrows(MailSendException.class,
+                () -> notificationService.retry(event, "booking-email-retry-5000"));
+
+        assertFalse(exception instanceof PermanentMailException);
+    }
+
+    @Test
+    void listen_RecipientRejected_ForwardsPermanentMailException() throws Exception {
+        // Given
+        List<ConsumerRecord<String, BookingCreatedEvent>> records = List.of(createRecord(1L, "unknown@example.com"),
+                createRecord(2L, "second@example.com"));
+        MailSendException rejection = new MailSendException(Map.of(new MimeMessage((Session) null),
+                new SMTPSendFailedException("DATA", 554, "5.7.1 Message rejected", null, null, null, null)));
+
+        when(mailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage((Session) null));
+        when(connectionPool.sendAll(anyList())).thenReturn(Map.of(0, rejection));
+
+        // When
+        notificationService.listen(records);
+
+        // Then
+        verify(retryRecoverer).accept(eq(records.get(0)),
+                argThat(exception -> exception instanceof PermanentMailException && exception.getCause() == rejection));
+        verifyNoMoreInteractions(retryRecoverer);
+    }
+
+    @Test
+    void retry_ValidEvent_SendsEmail() throws Exception {
+        // Given
+        BookingCreatedEvent event = createRecord(1L, "first@example.com").value();
+
+        when(mailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage((Session) null));
+        when(connectionPool.sendAll(anyList())).thenReturn(Map.of());
+
+        // When
+        notificationService.retry(event, "booking-email");
+
+        // Then
+        assertEquals(1.0, meterRegistry.get("notification.emails").tag("result", "sent").counter().count());
+    }
+
+    @Test
+    void deadLetter_Event_IncrementsDltCounter() {
+        // Given
+        BookingCreatedEvent event = createRecord(1L, "first@example.com").value();
+
+        // When
+        notificationService.deadLetter(event, "booking-email-dlt", "Mail server error");
+
+        // Then
+        assertEquals(1.0, meterRegistry.get("notification.dlt.records").counter().count());
+    }
+
+    @Test
+    void listen_AlreadySentAndInFlightEvents_SendsOnlyClaimedOnes() throws InterruptedException {
+        // Given
+        List<ConsumerRecord<String, BookingCreatedEvent>> records = List.of(createRecord(1L, "first@example.com"),
+                createRecord(2L, "second@example.com"), createRecord(3L, "third@example.com"));
+
+        when(deduplicator.claim("booking-created", List.of(1L, 2L, 3L))).thenReturn(List.of(
+                NotificationDeduplicator.Claim.SENT, NotificationDeduplicator.Claim.CLAIMED,
+                NotificationDeduplicator.Claim.IN_FLIGHT));
+        when(mailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage((Session) null));
+        when(connectionPool.sendAll(anyList())).thenReturn(Map.of());
+
+        // When
+        notificationService.listen(records);
+
+        // Then
+        verify(connectionPool, times(1)).sendAll(argThat(messages -> messages.size() == 1));
+        verify(deduplicator).markSent("booking-created", List.of(2L));
+        verify(retryRecoverer).accept(eq(records.get(2)), any(IllegalStateException.class));
+        assertEquals(1.0, meterRegistry.get("notification.emails").tag("result", "duplicate").counter().count());
+        assertEquals(1.0, meterRegistry.get("notification.emails").tag("result", "deferred").counter().count());
+    }
+
+    @Test
+    void listen_MailException_ReleasesFailedClaims() throws InterruptedException {
+        // Given
+        List<ConsumerRecord<String, BookingCreatedEvent>> records = List.of(createRecord(1L, "first@example.com"),
+                createRecord(2L, "second@example.com"));
+
+        when(mailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage((Session) null));
+        when(connectionPool.sendAll(anyList())).thenReturn(Map.of(0, new MailSendException("Mail server error")));
+
+        // When
+        notificationService.listen(records);
+
+        // Then
+        verify(deduplicator).markSent("booking-created", List.of(2L));
+        verify(deduplicator).release("booking-created", List.of(1L));
+    }
+
+    @Test
+    void retry_AlreadySent_SkipsEmail() throws Exception {
+        // Given
+        BookingCreatedEvent event = createRecord(1L, "first@example.com").value();
+
+        when(deduplicator.claim("booking-created", List.of(1L)))
+                .thenReturn(List.of(NotificationDeduplicator.Claim.SENT));
+
+        // When
+        notificationService.retry(event, "booking-email");
+
+        // Then
+        verifyNoInteractions(connectionPool);
+        assertEquals(1.0, meterRegistry.get("notification.emails").tag("result", "duplicate").counter().count());
+    }
+
+    @Test
+    void retry_InFlight_ThrowsIllegalStateException() {
+        // Given
+        BookingCreatedEvent event = createRecord(1L, "first@example.com").value();
+
+        when(deduplicator.claim("booking-created", List.of(1L)))
+                .thenReturn(List.of(NotificationDeduplicator.Claim.IN_FLIGHT));
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> notificationService.retry(event, "booking-email-retry-5000"));
+        verifyNoInteractions(connectionPool);
+    }
+
+    private static ConsumerRecord<String, BookingCreatedEvent> createRecord(Long bookingId, String email) {
+        BookingCreatedEvent event = new BookingCreatedEvent();
+        event.setBookingId(bookingId);
+        event.setEmail(email);
+        event.setPropertyName("Luxury Villa");
+        event.setCheckInDate("2023-01-01");
+        event.setCheckOutDate("2023-01-05");
+        return new ConsumerRecord<>("booking-created", 0, bookingId, String.valueOf(bookingId), event);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,155 @@
+package com.example.services;
+
+import com.example.bookingservice.event.BookingCreatedEvent;
+import com.example.mail.MailTemplateRegistry;
+import com.example.mail.SmtpConnectionPool;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OwnerDigestServiceTest {
+
+    private static final Duration LEASE = Duration.ofMinutes(5);
+
+    @Mock
+    private OwnerDigestStore store;
+
+    @Mock
+    private JavaMailSender mailSender;
+
+    @Mock
+    private SmtpConnectionPool connectionPool;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private OwnerDigestService ownerDigestService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        meterRegistry = new SimpleMeterRegistry();
+        MailTemplateRegistry templates = new MailTemplateRegistry(new PathMatchingResourcePatternResolver(),
+                "classpath*:mail-templates", Locale.ENGLISH);
+        ownerDigestService = new OwnerDigestService(store, mailSender, connectionPool, templates, objectMapper,
+                Duration.ofHours(1), LEASE, 100, meterRegistry);
+    }
+
+    @Test
+    void buffer_EventsWithOwner_AppendsEntriesPerOwner() throws Exception {
+        // Given
+        List<BookingCreatedEvent> events = List.of(createEvent(1L, 10L, "host@example.com"),
+                createEvent(2L, 10L, "host@example.com"), createEvent(3L, null, null),
+                createEvent(4L, 20L, "other@example.com"));
+
+        // When
+        ownerDigestService.buffer(events);
+
+        // Then
+        ArgumentCaptor<Map<Long, Map<String, String>>> entries = ArgumentCaptor.forClass(Map.class);
+        verify(store).append(entries.capture(), eq(Map.of(10L, "host@example.com", 20L, "other@example.com")),
+                any(Instant.class));
+        assertEquals(Set.of("1", "2"), entries.getValue().get(10L).keySet());
+        assertEquals(Set.of("4"), entries.getValue().get(20L).keySet());
+        assertEquals(3.0, meterRegistry.get("notification.digest.entries").counter().count());
+    }
+
+    @Test
+    void flush_DueOwners_SendsOneDigestPerOwner() throws Exception {
+        // Given
+        when(store.claimDue(any(Instant.class), eq(LEASE), eq(100))).thenReturn(List.of(10L, 20L));
+        when(store.entries(10L)).thenReturn(Map.of("1", entry(1L, "2026-02-01"), "2", entry(2L, "2026-01-01")));
+        when(store.entries(20L)).thenReturn(Map.of("4", entry(4L, "2026-03-01")));
+        when(store.recipient(10L)).thenReturn("host@example.com");
+        when(store.recipient(20L)).thenReturn("other@example.com");
+        when(mailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage((Session) null));
+        when(connectionPool.sendAll(anyList())).thenReturn(Map.of());
+
+        // When
+        ownerDigestService.flush();
+
+        // Then
+        ArgumentCaptor<List<MimeMessage>> messages = ArgumentCaptor.forClass(List.class);
+        verify(connectionPool).sendAll(messages.capture());
+        assertEquals(2, messages.getValue().size());
+        assertEquals("Bookings confirmed for your properties: 2", messages.getValue().get(0).getSubject());
+        assertEquals("host@example.com", messages.getValue().get(0).getAllRecipients()[0].toString());
+
+        verify(store).complete(eq(10L), eq(Set.of("1", "2")), any(Instant.class));
+        verify(store).complete(eq(20L), eq(Set.of("4")), any(Instant.class));
+        assertEquals(2.0, meterRegistry.get("notification.digest.emails").tag("result", "sent").counter().count());
+        assertEquals(3.0, meterRegistry.get("notification.digest.size").summary().totalAmount());
+    }
+
+    @Test
+    void flush_SendFails_KeepsEntriesForNextRun() throws Exception {
+        // Given
+        when(store.claimDue(any(Instant.class), eq(LEASE), eq(100))).thenReturn(List.of(10L));
+        when(store.entries(10L)).thenReturn(Map.of("1", entry(1L, "2026-02-01")));
+        when(store.recipient(10L)).thenReturn("host@example.com");
+        when(mailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage((Session) null));
+        when(connectionPool.sendAll(anyList())).thenReturn(Map.of(0, new MailSendException("Mail server error")));
+
+        // When
+        ownerDigestService.flush();
+
+        // Then
+        verify(store, never()).complete(anyLong(), any(), any());
+        assertEquals(1.0, meterRegistry.get("notification.digest.emails").tag("result", "failed").counter().count());
+    }
+
+    @Test
+    void flush_NothingDue_SendsNothing() {
+        // Given
+        when(store.claimDue(any(Instant.class), eq(LEASE), eq(100))).thenReturn(List.of());
+
+        // When
+        ownerDigestService.flush();
+
+        // Then
+        verifyNoInteractions(connectionPool, mailSender);
+    }
+
+    private String entry(long bookingId, String checkInDate) throws Exception {
+        return objectMapper.writeValueAsString(new OwnerDigestService.Entry(bookingId, "Loft " + bookingId,
+                checkInDate, "2026-04-01"));
+    }
+
+    private static BookingCreatedEvent createEvent(long bookingId, Long ownerId, String ownerEmail) {
+        BookingCreatedEvent event = new BookingCreatedEvent();
+        event.setBookingId(bookingId);
+        event.setEmail("guest@example.com");
+        event.setOwnerId(ownerId);
+        event.setOwnerEmail(ownerEmail);
+        event.setPropertyName("Loft " + bookingId);
+        event.setCheckInDate("2026-01-01");
+        event.setCheckOutDate("2026-01-05");
+        return event;
+    }
+}
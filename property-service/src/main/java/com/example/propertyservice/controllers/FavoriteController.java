@@ -27,6 +27,15 @@ public class FavoriteController {
         return ResponseEntity.ok().build();
     }
 
+    @GetMapping("/{propertyId}")
+    public ResponseEntity<Boolean> isFavorite(
+            @PathVariable Long propertyId,
+            @Parameter(hidden = true) @RequestHeader("Authorization") String authorizationHeader) {
+
+        String token = authorizationHeader.replace("Bearer ", "");
+        return ResponseEntity.ok(propertyService.isFavorite(propertyId, token));
+    }
+
     @GetMapping
     public ResponseEntity<Page<GetPropertyDTO>> getFavorites(
             @Parameter(hidden = true) @RequestHeader("Authorization") String authorizationHeader,
@@ -3,12 +3,15 @@ package com.example.propertyservice.controllers;
 import com.example.propertyservice.dto.PropertyFeatureDTO;
 import com.example.propertyservice.mapper.PropertyMapper;
 import com.example.propertyservice.repositories.PropertyFeatureRepository;
+import com.example.propertyservice.services.PropertyChangePublisher;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Duration;
 import java.util.List;
 
 @RestController
@@ -16,6 +19,9 @@ import java.util.List;
 @RequiredArgsConstructor
 public class FeatureController {
 
+    private static final CacheControl CATALOG_CACHE_CONTROL = CacheControl.noCache();
+    private static final String GATEWAY_CACHE_TTL = String.valueOf(Duration.ofMinutes(5).toSeconds());
+
     private final PropertyFeatureRepository featureRepository;
     private final PropertyMapper propertyMapper;
 
@@ -24,6 +30,9 @@ public class FeatureController {
         List<PropertyFeatureDTO> features = featureRepository.findAll().stream()
                 .map(propertyMapper::toPropertyFeatureDTO)
                 .toList();
-        return ResponseEntity.ok(features);
+        return ResponseEntity.ok()
+                .cacheControl(CATALOG_CACHE_CONTROL)
+                .header(PropertyChangePublisher.GATEWAY_CACHE_TTL_HEADER, GATEWAY_CACHE_TTL)
+                .body(features);
     }
 }
@@ -5,6 +5,7 @@ import com.example.propertyservice.dto.GetPropertyDTO;
 import com.example.propertyservice.dto.PropertyDTO;
 import com.example.propertyservice.mapper.PropertyMapper;
 import com.example.propertyservice.models.Property;
+import com.example.propertyservice.services.PropertyChangePublisher;
 import com.example.propertyservice.services.PropertyService;
 import com.example.propertyservice.util.ErrorsUtil;
 import com.example.propertyservice.util.PropertyErrorResponse;
@@ -15,6 +16,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -22,6 +24,7 @@ import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
 
 @RestController
@@ -29,6 +32,9 @@ import java.time.LocalDate;
 @RequiredArgsConstructor
 public class PropertyController {
 
+    private static final CacheControl CATALOG_CACHE_CONTROL = CacheControl.noCache();
+    private static final String GATEWAY_CACHE_TTL = String.valueOf(Duration.ofMinutes(5).toSeconds());
+
     private final PropertyService propertyService;
     private final PropertyMapper propertyMapper;
 
@@ -77,6 +83,8 @@ public class PropertyController {
     public ResponseEntity<Page<GetPropertyDTO>> getAllProperties(@PageableDefault(size = 10) Pageable pageable) {
         return ResponseEntity.ok()
                 .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CATALOG_CACHE_CONTROL)
+                .header(PropertyChangePublisher.GATEWAY_CACHE_TTL_HEADER, GATEWAY_CACHE_TTL)
                 .body(propertyService.findAll(pageable));
     }
 
@@ -95,6 +103,8 @@ public class PropertyController {
     public ResponseEntity<GetPropertyDTO> getPropertyById(@PathVariable("id") Long id) {
         return ResponseEntity.ok()
                 .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CATALOG_CACHE_CONTROL)
+                .header(PropertyChangePublisher.GATEWAY_CACHE_TTL_HEADER, GATEWAY_CACHE_TTL)
                 .body(propertyService.getPropertyById(id));
     }
 
@@ -107,6 +117,8 @@ public class PropertyController {
 
         return ResponseEntity.ok()
                 .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CATALOG_CACHE_CONTROL)
+                .header(PropertyChangePublisher.GATEWAY_CACHE_TTL_HEADER, GATEWAY_CACHE_TTL)
                 .body(propertyService.search(location, minPrice, maxPrice, pageable));
     }
 
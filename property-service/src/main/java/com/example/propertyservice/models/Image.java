@@ -15,7 +15,8 @@ import lombok.Setter;
 public class Image {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "image_id_generator")
+    @SequenceGenerator(name = "image_id_generator", sequenceName = "images_image_id_seq", allocationSize = 50)
     @Column(name = "image_id")
     private Long id;
 
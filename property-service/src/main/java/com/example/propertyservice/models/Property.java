@@ -19,7 +19,8 @@ import java.util.Set;
 public class Property {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "property_id_generator")
+    @SequenceGenerator(name = "property_id_generator", sequenceName = "properties_property_id_seq", allocationSize = 50)
     @Column(name = "property_id")
     private Long id;
 
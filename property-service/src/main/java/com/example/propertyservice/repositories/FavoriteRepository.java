@@ -12,4 +12,5 @@ import java.util.Optional;
 public interface FavoriteRepository extends JpaRepository<Favorite, Long> {
     Page<Favorite> findAllByUserId(Long userId, Pageable pageable);
     Optional<Favorite> findByUserIdAndPropertyId(Long userId, Long propertyId);
+    boolean existsByUserIdAndPropertyId(Long userId, Long propertyId);
 }
\ No newline at end of file
@@ -30,6 +30,7 @@ public class ImageServiceImpl implements ImageService {
     private final PropertyRepository propertyRepository;
     private final ImageRepository imageRepository;
     private final JwtTokenUtils jwtTokenUtils;
+    private final PropertyChangePublisher propertyChangePublisher;
 
     static {
         try {
@@ -77,6 +78,8 @@ public class ImageServiceImpl implements ImageService {
                 throw new PropertyException("Failed to store file: " + file.getOriginalFilename());
             }
         }
+
+        propertyChangePublisher.publish(propertyId);
         return savedImages;
     }
 }
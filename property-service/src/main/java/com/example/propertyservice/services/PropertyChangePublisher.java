@@ -0,0 +1,53 @@
+package com.example.propertyservice.services;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PropertyChangePublisher {
+
+    public static final String PROPERTY_CHANGED_CHANNEL = "property-service:property-changed";
+    public static final String FEATURES_CHANGED_MESSAGE = "features";
+    /**
+     * Lets the gateway keep catalog responses longer than clients may. The gateway is the only cache that hears
+     * these change messages, so everyone else is told {@code no-cache} and revalidates with the ETag.
+     */
+    public static final String GATEWAY_CACHE_TTL_HEADER = "X-Gateway-Cache-TTL";
+
+    private final StringRedisTemplate redisTemplate;
+
+    public void publish(Long propertyId) {
+        publishAfterCommit(String.valueOf(propertyId));
+    }
+
+    public void publishFeaturesChanged() {
+        publishAfterCommit(FEATURES_CHANGED_MESSAGE);
+    }
+
+    private void publishAfterCommit(String message) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    send(message);
+                }
+            });
+        } else {
+            send(message);
+        }
+    }
+
+    private void send(String message) {
+        try {
+            redisTemplate.convertAndSend(PROPERTY_CHANGED_CHANNEL, message);
+        } catch (Exception e) {
+            log.warn("Failed to publish property change {}: {}", message, e.getMessage());
+        }
+    }
+}
@@ -19,6 +19,7 @@ public interface PropertyService {
     List<LocalDate> getAvailableDates(Long propertyId);
     void toggleFavorite(Long propertyId, String token);
     Page<GetPropertyDTO> getUserFavorites(String token, Pageable pageable);
+    boolean isFavorite(Long propertyId, String token);
     Page<GetPropertyDTO> search(String location, BigDecimal minPrice, BigDecimal maxPrice, Pageable pageable);
     GetPropertyDTO updateAverageRating(Long propertyId, Double averageRating, Long totalReviews);
     Boolean existsById(Long id);
@@ -44,6 +44,7 @@ public class PropertyServiceImpl implements PropertyService {
     private final JwtTokenUtils jwtTokenUtils;
     private final PropertyMapper propertyMapper;
     private final TransactionTemplate transactionTemplate;
+    private final PropertyChangePublisher propertyChangePublisher;
 
     public PropertyServiceImpl(PropertyRepository propertyRepository,
                                PropertyFeatureRepository propertyFeatureRepository,
@@ -52,7 +53,8 @@ public class PropertyServiceImpl implements PropertyService {
                                UserClient userClient,
                                JwtTokenUtils jwtTokenUtils,
                                PropertyMapper propertyMapper,
-                               PlatformTransactionManager transactionManager) {
+                               PlatformTransactionManager transactionManager,
+                               PropertyChangePublisher propertyChangePublisher) {
         this.propertyRepository = propertyRepository;
         this.propertyFeatureRepository = propertyFeatureRepository;
         this.favoriteRepository = favoriteRepository;
@@ -61,6 +63,7 @@ public class PropertyServiceImpl implements PropertyService {
         this.jwtTokenUtils = jwtTokenUtils;
         this.propertyMapper = propertyMapper;
         this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.propertyChangePublisher = propertyChangePublisher;
     }
 
     @Override
@@ -97,12 +100,14 @@ public class PropertyServiceImpl implements PropertyService {
                     + " not found.");
         }
 
-        return transactionTemplate.execute(status -> {
+        GetPropertyDTO savedProperty = transactionTemplate.execute(status -> {
             enrichPropertyForSave(property);
             property.setId(null);
-            Property savedProperty = propertyRepository.save(property);
-            return convertToGetPropertyDTO(savedProperty);
+            return convertToGetPropertyDTO(propertyRepository.save(property));
         });
+
+        propertyChangePublisher.publish(savedProperty.getId());
+        return savedProperty;
     }
 
     private void enrichPropertyForSave(Property property) {
@@ -134,6 +139,7 @@ public class PropertyServiceImpl implements PropertyService {
         enrichPropertyForUpdate(existingProperty, updatedProperty);
 
         Property savedProperty = propertyRepository.save(existingProperty);
+        propertyChangePublisher.publish(id);
         return convertToGetPropertyDTO(savedProperty);
     }
 
@@ -197,6 +203,12 @@ public class PropertyServiceImpl implements PropertyService {
                 .map(favorite -> convertToGetPropertyDTO(favorite.getProperty()));
     }
 
+    @Override
+    public boolean isFavorite(Long propertyId, String token) {
+        Long userId = jwtTokenUtils.getUserId(token);
+        return favoriteRepository.existsByUserIdAndPropertyId(userId, propertyId);
+    }
+
     @Override
     public Page<GetPropertyDTO> search(String location, BigDecimal minPrice, BigDecimal maxPrice, Pageable pageable) {
         if (location != null && !location.isBlank()) {
@@ -214,7 +226,10 @@ public class PropertyServiceImpl implements PropertyService {
         }
         return property.getFeatures().stream()
                 .map(feature -> propertyFeatureRepository.findByName(feature.getName())
-                        .orElseGet(() -> propertyFeatureRepository.save(feature)))
+                        .orElseGet(() -> {
+                            propertyChangePublisher.publishFeaturesChanged();
+                            return propertyFeatureRepository.save(feature);
+                        }))
                 .collect(Collectors.toSet());
     }
 
@@ -230,6 +245,7 @@ public class PropertyServiceImpl implements PropertyService {
         propertyRepository.updateRating(propertyId, newRating);
 
         property.setAverageRating(newRating);
+        propertyChangePublisher.publish(propertyId);
 
         return convertToGetPropertyDTO(property);
     }
@@ -254,6 +270,7 @@ public class PropertyServiceImpl implements PropertyService {
         }
 
         propertyRepository.delete(property);
+        propertyChangePublisher.publish(id);
     }
 
     private GetPropertyDTO convertToGetPropertyDTO(Property property) {
@@ -0,0 +1,12 @@
+--liquibase formatted sql
+
+--changeset 9jer:use-pooled-property-id-sequences
+ALTER TABLE Properties ALTER COLUMN property_id DROP IDENTITY;
+CREATE SEQUENCE properties_property_id_seq INCREMENT BY 50 OWNED BY Properties.property_id;
+SELECT setval('properties_property_id_seq', COALESCE((SELECT max(property_id) FROM Properties), 0) + 1, false);
+ALTER TABLE Properties ALTER COLUMN property_id SET DEFAULT nextval('properties_property_id_seq');
+
+ALTER TABLE Images ALTER COLUMN image_id DROP IDENTITY;
+CREATE SEQUENCE images_image_id_seq INCREMENT BY 50 OWNED BY Images.image_id;
+SELECT setval('images_image_id_seq', COALESCE((SELECT max(image_id) FROM Images), 0) + 1, false);
+ALTER TABLE Images ALTER COLUMN image_id SET DEFAULT nextval('images_image_id_seq');
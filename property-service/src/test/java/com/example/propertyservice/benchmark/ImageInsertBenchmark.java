@@ -0,0 +1,134 @@
+package com.example.propertyservice.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the inserts Hibernate issues for one image upload with identity keys (one round trip per row)
+ * against pooled-lo sequence keys with JDBC batching and {@code reWriteBatchedInserts}.
+ * Starts a PostgreSQL container unless {@code -Dbenchmark.jdbc-url} points to an existing database.
+ * Run with {@code mvn -pl property-service -am -Pbenchmark verify -DskipTests}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ImageInsertBenchmark {
+
+    private static final int ALLOCATION_SIZE = 50;
+
+    @Param({"10", "100"})
+    private int images;
+
+    private PostgreSQLContainer<?> postgres;
+    private Connection identityConnection;
+    private Connection batchConnection;
+    private long nextId;
+    private long lastId;
+
+    @Setup
+    public void setUp() throws SQLException {
+        String url = System.getProperty("benchmark.jdbc-url");
+        Properties properties = new Properties();
+        if (url == null) {
+            postgres = new PostgreSQLContainer<>("postgres:16");
+            postgres.start();
+            url = postgres.getJdbcUrl();
+            properties.setProperty("user", postgres.getUsername());
+            properties.setProperty("password", postgres.getPassword());
+        } else {
+            properties.setProperty("user", System.getProperty("benchmark.jdbc-user", "postgres"));
+            properties.setProperty("password", System.getProperty("benchmark.jdbc-password", "postgres"));
+        }
+
+        identityConnection = DriverManager.getConnection(url, properties);
+        try (Statement statement = identityConnection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS images_identity, images_pooled");
+            statement.execute("DROP SEQUENCE IF EXISTS images_pooled_seq");
+            statement.execute("CREATE TABLE images_identity (image_id BIGINT PRIMARY KEY GENERATED ALWAYS AS IDENTITY, " +
+                    "property_id BIGINT NOT NULL, url VARCHAR(255) NOT NULL)");
+            statement.execute("CREATE SEQUENCE images_pooled_seq INCREMENT BY " + ALLOCATION_SIZE);
+            statement.execute("CREATE TABLE images_pooled (image_id BIGINT PRIMARY KEY, " +
+                    "property_id BIGINT NOT NULL, url VARCHAR(255) NOT NULL)");
+        }
+        identityConnection.setAutoCommit(false);
+
+        Properties batchProperties = new Properties();
+        batchProperties.putAll(properties);
+        batchProperties.setProperty("reWriteBatchedInserts", "true");
+        batchConnection = DriverManager.getConnection(url, batchProperties);
+        batchConnection.setAutoCommit(false);
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        identityConnection.close();
+        batchConnection.close();
+        if (postgres != null) {
+            postgres.stop();
+        }
+    }
+
+    @Benchmark
+    public long identityInserts() throws SQLException {
+        long id = 0;
+        try (PreparedStatement insert = identityConnection.prepareStatement(
+                "INSERT INTO images_identity (property_id, url) VALUES (?, ?)", Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < images; i++) {
+                insert.setLong(1, 1L);
+                insert.setString(2, "/api/v1/images/" + i);
+                insert.executeUpdate();
+                try (ResultSet keys = insert.getGeneratedKeys()) {
+                    keys.next();
+                    id = keys.getLong(1);
+                }
+            }
+        }
+        identityConnection.commit();
+        return id;
+    }
+
+    @Benchmark
+    public long pooledBatchInserts() throws SQLException {
+        long id = 0;
+        try (PreparedStatement insert = batchConnection.prepareStatement(
+                "INSERT INTO images_pooled (image_id, property_id, url) VALUES (?, ?, ?)")) {
+            for (int i = 0; i < images; i++) {
+                id = nextPooledId();
+                insert.setLong(1, id);
+                insert.setLong(2, 1L);
+                insert.setString(3, "/api/v1/images/" + i);
+                insert.addBatch();
+                if ((i + 1) % ALLOCATION_SIZE == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        batchConnection.commit();
+        return id;
+    }
+
+    private long nextPooledId() throws SQLException {
+        if (nextId == lastId) {
+            try (Statement statement = batchConnection.createStatement();
+                 ResultSet resultSet = statement.executeQuery("SELECT nextval('images_pooled_seq')")) {
+                resultSet.next();
+                nextId = resultSet.getLong(1);
+                lastId = nextId + ALLOCATION_SIZE;
+            }
+        }
+        return nextId++;
+    }
+}
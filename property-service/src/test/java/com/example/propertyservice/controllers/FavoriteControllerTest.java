@@ -1,5 +1,6 @@
 package com.example.propertyservice.controllers;
 
+import com.example.common.security.InternalIdentitySigner;
 import com.example.propertyservice.dto.GetPropertyDTO;
 import com.example.propertyservice.services.PropertyService;
 import com.example.propertyservice.util.JwtTokenUtils;
@@ -37,6 +38,9 @@ class FavoriteControllerTest {
     @MockBean
     private JwtTokenUtils jwtTokenUtils;
 
+    @MockBean
+    private InternalIdentitySigner internalIdentitySigner;
+
     private String validToken = "valid.token.here";
     private GetPropertyDTO propertyDTO;
 
@@ -62,6 +66,21 @@ class FavoriteControllerTest {
         verify(propertyService, times(1)).toggleFavorite(eq(propertyId), anyString());
     }
 
+    @Test
+    void isFavorite_ReturnsFavoriteStatus() throws Exception {
+        // Given
+        Long propertyId = 1L;
+        when(propertyService.isFavorite(eq(propertyId), anyString())).thenReturn(true);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/favorites/{propertyId}", propertyId)
+                        .header("Authorization", "Bearer " + validToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").value(true));
+
+        verify(propertyService, times(1)).isFavorite(eq(propertyId), eq(validToken));
+    }
+
     @Test
     void getFavorites_ReturnsListOfProperties() throws Exception {
         // Given
@@ -3,6 +3,7 @@ package com.example.propertyservice.controllers;
 import com.example.propertyservice.dto.*;
 import com.example.propertyservice.mapper.PropertyMapper;
 import com.example.propertyservice.models.Property;
+import com.example.propertyservice.services.PropertyChangePublisher;
 import com.example.propertyservice.services.PropertyService;
 import com.example.propertyservice.util.PropertyException;
 import org.junit.jupiter.api.BeforeEach;
@@ -172,6 +173,8 @@ class PropertyControllerTest {
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
         assertEquals(getPropertyDTO, response.getBody());
+        assertEquals("no-cache", response.getHeaders().getCacheControl());
+        assertEquals("300", response.getHeaders().getFirst(PropertyChangePublisher.GATEWAY_CACHE_TTL_HEADER));
 
         verify(propertyService, times(1)).getPropertyById(1L);
     }
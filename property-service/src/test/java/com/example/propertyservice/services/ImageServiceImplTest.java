@@ -33,6 +33,9 @@ class ImageServiceImplTest {
     @Mock
     private JwtTokenUtils jwtTokenUtils;
 
+    @Mock
+    private PropertyChangePublisher propertyChangePublisher;
+
     @InjectMocks
     private ImageServiceImpl imageService;
 
@@ -61,6 +64,7 @@ class ImageServiceImplTest {
         assertNotNull(result);
         assertEquals(1, result.size());
         verify(imageRepository, times(1)).save(any());
+        verify(propertyChangePublisher).publish(propertyId);
     }
 
     @Test
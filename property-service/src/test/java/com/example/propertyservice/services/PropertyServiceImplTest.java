@@ -63,6 +63,9 @@ class PropertyServiceImplTest {
     @Mock
     private PlatformTransactionManager transactionManager;
 
+    @Mock
+    private PropertyChangePublisher propertyChangePublisher;
+
     @InjectMocks
     private PropertyServiceImpl propertyService;
 
@@ -159,6 +162,31 @@ class PropertyServiceImplTest {
         assertNotNull(result);
         assertEquals(1L, result.getId());
         verify(propertyRepository, times(1)).save(property);
+        verify(propertyChangePublisher).publish(1L);
+    }
+
+    @Test
+    @Transactional
+    void save_NewFeature_PublishesFeaturesChanged() {
+        // Given
+        String token = "valid-token";
+        property.setId(null);
+        property.setFeatures(new HashSet<>(Set.of(feature)));
+
+        when(jwtTokenUtils.getUserId(token)).thenReturn(1L);
+        when(userClient.userExists(1L)).thenReturn(true);
+        when(propertyRepository.save(any(Property.class))).thenReturn(property);
+        when(propertyFeatureRepository.findByName(anyString())).thenReturn(Optional.empty());
+        when(propertyFeatureRepository.save(feature)).thenReturn(feature);
+        when(propertyMapper.toGetPropertyDTO(property)).thenReturn(getPropertyDTO);
+
+        // When
+        propertyService.save(property, token);
+
+        // Then
+        verify(propertyFeatureRepository).save(feature);
+        verify(propertyChangePublisher).publishFeaturesChanged();
+        verify(propertyChangePublisher).publish(1L);
     }
 
     @Test
@@ -191,6 +219,7 @@ class PropertyServiceImplTest {
         assertNotNull(result);
         assertEquals(1L, result.getId());
         verify(propertyRepository, times(1)).save(existingProperty);
+        verify(propertyChangePublisher).publish(1L);
     }
 
     @Test
@@ -241,6 +270,7 @@ class PropertyServiceImplTest {
         // Then
         assertNotNull(result);
         verify(propertyRepository, times(1)).updateRating(eq(1L), eq(BigDecimal.valueOf(4.5)));
+        verify(propertyChangePublisher).publish(1L);
     }
 
     @Test
@@ -270,6 +300,7 @@ class PropertyServiceImplTest {
 
         // Then
         verify(propertyRepository, times(1)).delete(property);
+        verify(propertyChangePublisher).publish(1L);
     }
 
     @Test
@@ -303,6 +334,19 @@ class PropertyServiceImplTest {
         verify(favoriteRepository).delete(favorite);
     }
 
+    @Test
+    void isFavorite_WhenExists_ReturnsTrue() {
+        // Given
+        when(jwtTokenUtils.getUserId("token")).thenReturn(1L);
+        when(favoriteRepository.existsByUserIdAndPropertyId(1L, 1L)).thenReturn(true);
+
+        // When
+        boolean result = propertyService.isFavorite(1L, "token");
+
+        // Then
+        assertTrue(result);
+    }
+
     @Test
     void getMyProperties_ReturnsPageOfDTOs() {
         // Given
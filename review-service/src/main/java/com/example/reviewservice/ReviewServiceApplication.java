@@ -2,10 +2,12 @@ package com.example.reviewservice;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 
 @SpringBootApplication
 @EnableFeignClients
+@EnableCaching
 public class ReviewServiceApplication {
     public static void main(String[] args) {
         SpringApplication.run(ReviewServiceApplication.class, args);
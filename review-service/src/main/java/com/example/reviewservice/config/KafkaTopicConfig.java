@@ -0,0 +1,23 @@
+package com.example.reviewservice.config;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.common.config.TopicConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+
+@Configuration
+public class KafkaTopicConfig {
+
+    @Bean
+    public NewTopic ratingUpdatedTopic(@Value("${application.kafka.topic.rating-updated.partitions}") int partitions,
+                                       @Value("${application.kafka.topic.rating-updated.replicas}") int replicas) {
+        return TopicBuilder.name("rating-updated")
+                .partitions(partitions)
+                .replicas(replicas)
+                .compact()
+                .config(TopicConfig.MIN_COMPACTION_LAG_MS_CONFIG, "60000")
+                .build();
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.reviewservice.controllers;
 
 import com.example.reviewservice.dto.GetReviewDTO;
+import com.example.reviewservice.dto.RatingSummaryDTO;
 import com.example.reviewservice.dto.ReviewDTO;
 import com.example.reviewservice.mapper.ReviewMapper;
 import com.example.reviewservice.models.Review;
@@ -35,6 +36,13 @@ public class ReviewController {
                 .body(reviewService.getReviewsByPropertyId(id, pageable));
     }
 
+    @GetMapping(path = "${application.endpoint.rating-summary-by-property-id}")
+    public ResponseEntity<RatingSummaryDTO> getRatingSummaryByPropertyId(@PathVariable Long id) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(reviewService.getRatingSummary(id));
+    }
+
     @PostMapping
     public ResponseEntity<GetReviewDTO> createReview(@Parameter(hidden = true) @RequestHeader("Authorization") String authorizationHeader,
                                                      @RequestBody @Valid ReviewDTO reviewDTO, BindingResult bindingResult) {
@@ -0,0 +1,24 @@
+package com.example.reviewservice.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Map;
+
+@Getter
+@Setter
+public class RatingSummaryDTO implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private Long propertyId;
+
+    private Double averageRating;
+
+    private Long totalReviews;
+
+    private Map<Integer, Long> ratingDistribution;
+}
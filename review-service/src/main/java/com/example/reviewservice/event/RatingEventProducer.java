@@ -1,37 +1,37 @@
 package com.example.reviewservice.event;
 
-import com.example.reviewservice.repositories.ReviewRepository;
+import com.example.common.kafka.KafkaSendRecorder;
+import com.example.reviewservice.models.RatingSummary;
+import com.example.reviewservice.repositories.RatingSummaryRepository;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
-
 @Service
 @RequiredArgsConstructor
-@Slf4j
 public class RatingEventProducer {
 
     private final KafkaTemplate<String, RatingUpdatedEvent> kafkaTemplate;
-    private final ReviewRepository reviewRepository;
+    private final RatingSummaryRepository ratingSummaryRepository;
+    private final KafkaSendRecorder sendRecorder;
 
+    @CacheEvict(value = "ratingSummary", key = "#propertyId", beforeInvocation = true)
     public void sendRatingUpdatedEvent(Long propertyId) {
-        Double averageRating = reviewRepository.getAverageRating(propertyId);
-        Long totalReviews = reviewRepository.countReviews(propertyId);
-
-        BigDecimal roundedRating = BigDecimal.valueOf(averageRating)
-                .setScale(2, RoundingMode.HALF_UP);
+        RatingSummary ratingSummary = ratingSummaryRepository.findById(propertyId)
+                .orElseGet(() -> new RatingSummary(propertyId));
 
         RatingUpdatedEvent event = RatingUpdatedEvent.newBuilder()
                 .setPropertyId(propertyId)
-                .setNewAverageRating(roundedRating.doubleValue())
-                .setTotalReviews(totalReviews)
+                .setNewAverageRating(ratingSummary.getAverageRating())
+                .setTotalReviews(ratingSummary.getTotalReviews())
+                .setOneStarCount(ratingSummary.getOneStarCount())
+                .setTwoStarCount(ratingSummary.getTwoStarCount())
+                .setThreeStarCount(ratingSummary.getThreeStarCount())
+                .setFourStarCount(ratingSummary.getFourStarCount())
+                .setFiveStarCount(ratingSummary.getFiveStarCount())
                 .build();
 
-        log.info("Start - Sending RatingUpdatedEvent {} to Kafka topic rating-updated", event);
-        kafkaTemplate.send("rating-updated", event);
-        log.info("End - Sending RatingUpdatedEvent {} to Kafka topic rating-updated", event);
+        sendRecorder.send(kafkaTemplate, "rating-updated", String.valueOf(propertyId), event);
     }
 }
@@ -1,12 +1,17 @@
 package com.example.reviewservice.mapper;
 
 import com.example.reviewservice.dto.GetReviewDTO;
+import com.example.reviewservice.dto.RatingSummaryDTO;
 import com.example.reviewservice.dto.ReviewDTO;
+import com.example.reviewservice.models.RatingSummary;
 import com.example.reviewservice.models.Review;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.NullValuePropertyMappingStrategy;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 @Mapper(componentModel = "spring", nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
 public interface ReviewMapper {
 
@@ -17,4 +22,17 @@ public interface ReviewMapper {
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     Review toReview(ReviewDTO reviewDTO);
-}
\ No newline at end of file
+
+    @Mapping(target = "ratingDistribution", expression = "java(toRatingDistribution(ratingSummary))")
+    RatingSummaryDTO toRatingSummaryDTO(RatingSummary ratingSummary);
+
+    default Map<Integer, Long> toRatingDistribution(RatingSummary ratingSummary) {
+        Map<Integer, Long> distribution = new LinkedHashMap<>();
+        distribution.put(5, ratingSummary.getFiveStarCount());
+        distribution.put(4, ratingSummary.getFourStarCount());
+        distribution.put(3, ratingSummary.getThreeStarCount());
+        distribution.put(2, ratingSummary.getTwoStarCount());
+        distribution.put(1, ratingSummary.getOneStarCount());
+        return distribution;
+    }
+}
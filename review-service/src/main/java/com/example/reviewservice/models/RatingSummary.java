@@ -0,0 +1,59 @@
+package com.example.reviewservice.models;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "Property_Rating_Summary")
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@ToString
+public class RatingSummary {
+
+    @Id
+    @Column(name = "property_id")
+    private Long propertyId;
+
+    @Column(name = "one_star_count")
+    private long oneStarCount;
+
+    @Column(name = "two_star_count")
+    private long twoStarCount;
+
+    @Column(name = "three_star_count")
+    private long threeStarCount;
+
+    @Column(name = "four_star_count")
+    private long fourStarCount;
+
+    @Column(name = "five_star_count")
+    private long fiveStarCount;
+
+    @Column(name = "total_reviews")
+    private long totalReviews;
+
+    @Column(name = "rating_sum")
+    private long ratingSum;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public RatingSummary(Long propertyId) {
+        this.propertyId = propertyId;
+    }
+
+    public double getAverageRating() {
+        if (totalReviews == 0) {
+            return 0.0;
+        }
+        return BigDecimal.valueOf(ratingSum)
+                .divide(BigDecimal.valueOf(totalReviews), 2, RoundingMode.HALF_UP)
+                .doubleValue();
+    }
+}
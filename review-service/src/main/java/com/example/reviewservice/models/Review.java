@@ -19,7 +19,8 @@ import java.time.LocalDateTime;
 public class Review {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "review_id_generator")
+    @SequenceGenerator(name = "review_id_generator", sequenceName = "reviews_review_id_seq", allocationSize = 50)
     @Column(name = "review_id")
     private Long id;
 
@@ -0,0 +1,36 @@
+package com.example.reviewservice.repositories;
+
+import com.example.reviewservice.models.RatingSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RatingSummaryRepository extends JpaRepository<RatingSummary, Long> {
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO Property_Rating_Summary AS s (property_id, one_star_count, two_star_count, three_star_count,
+                                                      four_star_count, five_star_count, total_reviews, rating_sum, updated_at)
+            VALUES (:propertyId,
+                    CASE WHEN :rating = 1 THEN :delta ELSE 0 END,
+                    CASE WHEN :rating = 2 THEN :delta ELSE 0 END,
+                    CASE WHEN :rating = 3 THEN :delta ELSE 0 END,
+                    CASE WHEN :rating = 4 THEN :delta ELSE 0 END,
+                    CASE WHEN :rating = 5 THEN :delta ELSE 0 END,
+                    :delta,
+                    :rating * :delta,
+                    CURRENT_TIMESTAMP)
+            ON CONFLICT (property_id) DO UPDATE SET
+                one_star_count = s.one_star_count + EXCLUDED.one_star_count,
+                two_star_count = s.two_star_count + EXCLUDED.two_star_count,
+                three_star_count = s.three_star_count + EXCLUDED.three_star_count,
+                four_star_count = s.four_star_count + EXCLUDED.four_star_count,
+                five_star_count = s.five_star_count + EXCLUDED.five_star_count,
+                total_reviews = s.total_reviews + EXCLUDED.total_reviews,
+                rating_sum = s.rating_sum + EXCLUDED.rating_sum,
+                updated_at = EXCLUDED.updated_at
+            """, nativeQuery = true)
+    void applyRatingDelta(Long propertyId, Integer rating, int delta);
+}
@@ -4,14 +4,18 @@ import com.example.reviewservice.client.BookingClient;
 import com.example.reviewservice.client.PropertyClient;
 import com.example.reviewservice.client.UserClient;
 import com.example.reviewservice.dto.GetReviewDTO;
+import com.example.reviewservice.dto.RatingSummaryDTO;
 import com.example.reviewservice.dto.UserResponseDTO;
 import com.example.reviewservice.event.RatingEventProducer;
 import com.example.reviewservice.mapper.ReviewMapper;
+import com.example.reviewservice.models.RatingSummary;
 import com.example.reviewservice.models.Review;
+import com.example.reviewservice.repositories.RatingSummaryRepository;
 import com.example.reviewservice.repositories.ReviewRepository;
 import com.example.reviewservice.util.JwtTokenUtils;
 import com.example.reviewservice.util.ReviewException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -24,12 +28,14 @@ import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
 
 @Service
 @Transactional(readOnly = true)
 @Slf4j
 public class ReviewServiceImpl implements ReviewService {
     private final ReviewRepository reviewRepository;
+    private final RatingSummaryRepository ratingSummaryRepository;
     private final PropertyClient propertyClient;
     private final UserClient userClient;
     private final BookingClient bookingClient;
@@ -39,6 +45,7 @@ public class ReviewServiceImpl implements ReviewService {
     private final TransactionTemplate transactionTemplate;
 
     public ReviewServiceImpl(ReviewRepository reviewRepository,
+                             RatingSummaryRepository ratingSummaryRepository,
                              PropertyClient propertyClient,
                              UserClient userClient,
                              BookingClient bookingClient,
@@ -47,6 +54,7 @@ public class ReviewServiceImpl implements ReviewService {
                              ReviewMapper reviewMapper,
                              PlatformTransactionManager transactionManager) {
         this.reviewRepository = reviewRepository;
+        this.ratingSummaryRepository = ratingSummaryRepository;
         this.propertyClient = propertyClient;
         this.userClient = userClient;
         this.bookingClient = bookingClient;
@@ -62,6 +70,14 @@ public class ReviewServiceImpl implements ReviewService {
                 .map(this::convertToGetReviewDTO);
     }
 
+    @Override
+    @Cacheable(value = "ratingSummary", key = "#propertyId")
+    public RatingSummaryDTO getRatingSummary(Long propertyId) {
+        RatingSummary ratingSummary = ratingSummaryRepository.findById(propertyId)
+                .orElseGet(() -> new RatingSummary(propertyId));
+        return reviewMapper.toRatingSummaryDTO(ratingSummary);
+    }
+
     @Override
     @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public GetReviewDTO saveReview(Review review, String token) {
@@ -87,6 +103,7 @@ public class ReviewServiceImpl implements ReviewService {
         return transactionTemplate.execute(status -> {
             enrichReview(review);
             Review savedReview = reviewRepository.save(review);
+            ratingSummaryRepository.applyRatingDelta(savedReview.getPropertyId(), savedReview.getRating(), 1);
 
             executeAfterCommit(() -> {
                 try {
@@ -118,6 +135,7 @@ public class ReviewServiceImpl implements ReviewService {
             throw new ReviewException("Changing the property of a review is not allowed.");
         }
 
+        Integer previousRating = existingReview.getRating();
         existingReview.setRating(review.getRating());
         existingReview.setComment(review.getComment());
 
@@ -126,6 +144,10 @@ public class ReviewServiceImpl implements ReviewService {
         Review updatedReview = reviewRepository.save(existingReview);
 
         Long propertyId = existingReview.getPropertyId();
+        if (!Objects.equals(previousRating, updatedReview.getRating())) {
+            ratingSummaryRepository.applyRatingDelta(propertyId, previousRating, -1);
+            ratingSummaryRepository.applyRatingDelta(propertyId, updatedReview.getRating(), 1);
+        }
         executeAfterCommit(() -> {
             try {
                 ratingEventProducer.sendRatingUpdatedEvent(propertyId);
@@ -152,6 +174,7 @@ public class ReviewServiceImpl implements ReviewService {
 
         Long propertyId = existingReview.getPropertyId();
         reviewRepository.delete(existingReview);
+        ratingSummaryRepository.applyRatingDelta(propertyId, existingReview.getRating(), -1);
 
         executeAfterCommit(() -> {
             try {
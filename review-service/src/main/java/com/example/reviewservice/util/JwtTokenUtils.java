@@ -1,5 +1,6 @@
 package com.example.reviewservice.util;
 
+import com.example.common.security.InternalIdentity;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
@@ -32,15 +33,31 @@ public class JwtTokenUtils {
     }
 
     public String getUsername(String token) {
-        return getClaimsFromToken(token).getSubject();
+        return InternalIdentity.fromSecurityContext(token)
+                .map(InternalIdentity::username)
+                .orElseGet(() -> getClaimsFromToken(token).getSubject());
     }
 
     public Long getUserId(String token) {
-        return getClaimsFromToken(token).get("id", Long.class);
+        return InternalIdentity.fromSecurityContext(token)
+                .map(InternalIdentity::userId)
+                .orElseGet(() -> getClaimsFromToken(token).get("id", Long.class));
     }
 
     public List<String> getRoles(String token) {
-        return getClaimsFromToken(token).get("roles", List.class);
+        return InternalIdentity.fromSecurityContext(token)
+                .map(InternalIdentity::roles)
+                .orElseGet(() -> getClaimsFromToken(token).get("roles", List.class));
+    }
+
+    public InternalIdentity getIdentity(String token) {
+        Claims claims = getClaimsFromToken(token);
+        return new InternalIdentity(
+                claims.get("id", Long.class),
+                claims.getSubject(),
+                claims.get("email", String.class),
+                claims.get("roles", List.class),
+                claims.getExpiration().toInstant().getEpochSecond());
     }
 
     private Claims getClaimsFromToken(String token) {
@@ -0,0 +1,28 @@
+--liquibase formatted sql
+
+--changeset 9jer:create-property-rating-summary-table
+CREATE TABLE Property_Rating_Summary (
+                         property_id BIGINT PRIMARY KEY,
+                         one_star_count BIGINT NOT NULL DEFAULT 0,
+                         two_star_count BIGINT NOT NULL DEFAULT 0,
+                         three_star_count BIGINT NOT NULL DEFAULT 0,
+                         four_star_count BIGINT NOT NULL DEFAULT 0,
+                         five_star_count BIGINT NOT NULL DEFAULT 0,
+                         total_reviews BIGINT NOT NULL DEFAULT 0,
+                         rating_sum BIGINT NOT NULL DEFAULT 0,
+                         updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+--changeset 9jer:backfill-property-rating-summary
+INSERT INTO Property_Rating_Summary (property_id, one_star_count, two_star_count, three_star_count,
+                                     four_star_count, five_star_count, total_reviews, rating_sum)
+SELECT property_id,
+       COUNT(*) FILTER (WHERE rating = 1),
+       COUNT(*) FILTER (WHERE rating = 2),
+       COUNT(*) FILTER (WHERE rating = 3),
+       COUNT(*) FILTER (WHERE rating = 4),
+       COUNT(*) FILTER (WHERE rating = 5),
+       COUNT(*),
+       SUM(rating)
+FROM Reviews
+GROUP BY property_id;
@@ -0,0 +1,7 @@
+--liquibase formatted sql
+
+--changeset 9jer:use-pooled-review-id-sequence
+ALTER TABLE Reviews ALTER COLUMN review_id DROP IDENTITY;
+CREATE SEQUENCE reviews_review_id_seq INCREMENT BY 50 OWNED BY Reviews.review_id;
+SELECT setval('reviews_review_id_seq', COALESCE((SELECT max(review_id) FROM Reviews), 0) + 1, false);
+ALTER TABLE Reviews ALTER COLUMN review_id SET DEFAULT nextval('reviews_review_id_seq');
@@ -1,6 +1,7 @@
 package com.example.reviewservice.controllers;
 
 import com.example.reviewservice.dto.GetReviewDTO;
+import com.example.reviewservice.dto.RatingSummaryDTO;
 import com.example.reviewservice.dto.ReviewDTO;
 import com.example.reviewservice.mapper.ReviewMapper;
 import com.example.reviewservice.models.Review;
@@ -19,6 +20,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 
 import java.util.Collections;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -85,6 +87,27 @@ class ReviewControllerTest {
         verify(reviewService, times(1)).getReviewsByPropertyId(eq(1L), any(Pageable.class));
     }
 
+    @Test
+    void getRatingSummaryByPropertyId_ReturnsSummaryResponse() {
+        // Given
+        RatingSummaryDTO ratingSummaryDTO = new RatingSummaryDTO();
+        ratingSummaryDTO.setPropertyId(1L);
+        ratingSummaryDTO.setAverageRating(4.5);
+        ratingSummaryDTO.setTotalReviews(2L);
+        ratingSummaryDTO.setRatingDistribution(Map.of(5, 1L, 4, 1L, 3, 0L, 2, 0L, 1, 0L));
+        when(reviewService.getRatingSummary(1L)).thenReturn(ratingSummaryDTO);
+
+        // When
+        ResponseEntity<RatingSummaryDTO> response = reviewController.getRatingSummaryByPropertyId(1L);
+
+        // Then
+        assertEquals(200, response.getStatusCodeValue());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        assertEquals(ratingSummaryDTO, response.getBody());
+
+        verify(reviewService, times(1)).getRatingSummary(1L);
+    }
+
     @Test
     void createReview_ValidRequest_ReturnsGetReviewDTO() {
         // Given
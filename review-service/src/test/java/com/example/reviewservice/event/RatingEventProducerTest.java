@@ -0,0 +1,70 @@
+package com.example.reviewservice.event;
+
+import com.example.common.kafka.KafkaSendRecorder;
+import com.example.reviewservice.models.RatingSummary;
+import com.example.reviewservice.repositories.RatingSummaryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RatingEventProducerTest {
+
+    @Mock
+    private KafkaTemplate<String, RatingUpdatedEvent> kafkaTemplate;
+
+    @Mock
+    private RatingSummaryRepository ratingSummaryRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private KafkaSendRecorder sendRecorder = new KafkaSendRecorder(meterRegistry);
+
+    @InjectMocks
+    private RatingEventProducer ratingEventProducer;
+
+    @Test
+    void sendRatingUpdatedEvent_SendsEventKeyedByPropertyId() {
+        // Given
+        RatingSummary ratingSummary = new RatingSummary(42L);
+        ratingSummary.setFiveStarCount(1);
+        ratingSummary.setThreeStarCount(1);
+        ratingSummary.setTotalReviews(2);
+        ratingSummary.setRatingSum(8);
+        when(ratingSummaryRepository.findById(42L)).thenReturn(Optional.of(ratingSummary));
+        when(kafkaTemplate.send(anyString(), anyString(), any(RatingUpdatedEvent.class)))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        // When
+        ratingEventProducer.sendRatingUpdatedEvent(42L);
+
+        // Then
+        ArgumentCaptor<RatingUpdatedEvent> eventCaptor = ArgumentCaptor.forClass(RatingUpdatedEvent.class);
+        verify(kafkaTemplate, times(1)).send(eq("rating-updated"), eq("42"), eventCaptor.capture());
+
+        RatingUpdatedEvent event = eventCaptor.getValue();
+        assertEquals(42L, event.getPropertyId());
+        assertEquals(4.0, event.getNewAverageRating());
+        assertEquals(2L, event.getTotalReviews());
+        assertEquals(1L, event.getFiveStarCount());
+        assertEquals(1L, event.getThreeStarCount());
+        assertEquals(1L, meterRegistry.get("kafka.producer.send")
+                .tag("topic", "rating-updated").tag("result", "success").timer().count());
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.reviewservice.repositories;
+
+import com.example.reviewservice.models.RatingSummary;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:tc:postgresql:16:///test_db",
+        "spring.datasource.driver-class-name=org.testcontainers.jdbc.ContainerDatabaseDriver"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class RatingSummaryRepositoryTest {
+
+    @Autowired
+    private RatingSummaryRepository ratingSummaryRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void applyRatingDelta_ShouldCreateAndIncrementHistogram() {
+        // Arrange
+        ratingSummaryRepository.applyRatingDelta(100L, 5, 1);
+        ratingSummaryRepository.applyRatingDelta(100L, 5, 1);
+        ratingSummaryRepository.applyRatingDelta(100L, 3, 1);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        RatingSummary summary = ratingSummaryRepository.findById(100L).orElseThrow();
+
+        // Assert
+        assertThat(summary.getFiveStarCount()).isEqualTo(2L);
+        assertThat(summary.getThreeStarCount()).isEqualTo(1L);
+        assertThat(summary.getTotalReviews()).isEqualTo(3L);
+        assertThat(summary.getAverageRating()).isEqualTo(4.33);
+    }
+
+    @Test
+    void applyRatingDelta_WithNegativeDelta_ShouldDecrementHistogram() {
+        // Arrange
+        ratingSummaryRepository.applyRatingDelta(100L, 4, 1);
+        ratingSummaryRepository.applyRatingDelta(100L, 2, 1);
+        ratingSummaryRepository.applyRatingDelta(100L, 2, -1);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        RatingSummary summary = ratingSummaryRepository.findById(100L).orElseThrow();
+
+        // Assert
+        assertThat(summary.getTwoStarCount()).isZero();
+        assertThat(summary.getFourStarCount()).isEqualTo(1L);
+        assertThat(summary.getTotalReviews()).isEqualTo(1L);
+        assertThat(summary.getAverageRating()).isEqualTo(4.0);
+    }
+}
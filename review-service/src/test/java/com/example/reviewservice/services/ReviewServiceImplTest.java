@@ -2,9 +2,12 @@ package com.example.reviewservice.services;
 
 import com.example.reviewservice.client.*;
 import com.example.reviewservice.dto.GetReviewDTO;
+import com.example.reviewservice.dto.RatingSummaryDTO;
 import com.example.reviewservice.event.RatingEventProducer;
 import com.example.reviewservice.mapper.ReviewMapper;
+import com.example.reviewservice.models.RatingSummary;
 import com.example.reviewservice.models.Review;
+import com.example.reviewservice.repositories.RatingSummaryRepository;
 import com.example.reviewservice.repositories.ReviewRepository;
 import com.example.reviewservice.util.JwtTokenUtils;
 import com.example.reviewservice.util.ReviewException;
@@ -39,6 +42,9 @@ class ReviewServiceImplTest {
     @Mock
     private ReviewRepository reviewRepository;
 
+    @Mock
+    private RatingSummaryRepository ratingSummaryRepository;
+
     @Mock
     private PropertyClient propertyClient;
 
@@ -102,6 +108,52 @@ class ReviewServiceImplTest {
         verify(reviewRepository, times(1)).findByPropertyId(1L, pageable);
     }
 
+    @Test
+    void getRatingSummary_ExistingSummary_ReturnsMappedSummary() {
+        // Given
+        RatingSummary ratingSummary = new RatingSummary(1L);
+        ratingSummary.setFiveStarCount(2);
+        ratingSummary.setFourStarCount(1);
+        ratingSummary.setTotalReviews(3);
+        ratingSummary.setRatingSum(14);
+
+        RatingSummaryDTO ratingSummaryDTO = new RatingSummaryDTO();
+        ratingSummaryDTO.setPropertyId(1L);
+
+        when(ratingSummaryRepository.findById(1L)).thenReturn(Optional.of(ratingSummary));
+        when(reviewMapper.toRatingSummaryDTO(ratingSummary)).thenReturn(ratingSummaryDTO);
+
+        // When
+        RatingSummaryDTO result = reviewService.getRatingSummary(1L);
+
+        // Then
+        assertEquals(ratingSummaryDTO, result);
+        assertEquals(4.67, ratingSummary.getAverageRating());
+        verify(reviewRepository, never()).findByPropertyId(anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    void getRatingSummary_NoReviews_ReturnsEmptySummary() {
+        // Given
+        when(ratingSummaryRepository.findById(1L)).thenReturn(Optional.empty());
+        when(reviewMapper.toRatingSummaryDTO(any(RatingSummary.class))).thenAnswer(invocation -> {
+            RatingSummary summary = invocation.getArgument(0);
+            RatingSummaryDTO dto = new RatingSummaryDTO();
+            dto.setPropertyId(summary.getPropertyId());
+            dto.setAverageRating(summary.getAverageRating());
+            dto.setTotalReviews(summary.getTotalReviews());
+            return dto;
+        });
+
+        // When
+        RatingSummaryDTO result = reviewService.getRatingSummary(1L);
+
+        // Then
+        assertEquals(1L, result.getPropertyId());
+        assertEquals(0.0, result.getAverageRating());
+        assertEquals(0L, result.getTotalReviews());
+    }
+
     @Test
     @Transactional
     void saveReview_ValidReview_SavesAndReturnsReview() {
@@ -131,6 +183,7 @@ class ReviewServiceImplTest {
         assertEquals(getReviewDTO.getId(), result.getId());
 
         verify(reviewRepository, times(1)).save(any(Review.class));
+        verify(ratingSummaryRepository, times(1)).applyRatingDelta(1L, 5, 1);
         verify(ratingEventProducer, times(1)).sendRatingUpdatedEvent(1L);
     }
 
@@ -248,6 +301,31 @@ class ReviewServiceImplTest {
         assertEquals(getReviewDTO, result);
 
         verify(reviewRepository, times(1)).save(existingReview);
+        verify(ratingSummaryRepository, times(1)).applyRatingDelta(1L, 5, -1);
+        verify(ratingSummaryRepository, times(1)).applyRatingDelta(1L, 4, 1);
+    }
+
+    @Test
+    @Transactional
+    void updateReview_SameRating_DoesNotChangeSummary() {
+        doAnswer(invocation -> null).when(reviewService).executeAfterCommit(any());
+
+        // Given
+        Review updatedReviewInput = new Review();
+        updatedReviewInput.setId(1L);
+        updatedReviewInput.setRating(5);
+        updatedReviewInput.setComment("Updated comment");
+
+        when(reviewRepository.findById(1L)).thenReturn(Optional.of(review));
+        when(jwtTokenUtils.getUserId(validToken)).thenReturn(1L);
+        when(reviewRepository.save(any(Review.class))).thenReturn(review);
+        when(reviewMapper.toGetReviewDTO(review)).thenReturn(getReviewDTO);
+
+        // When
+        reviewService.updateReview(updatedReviewInput, validToken);
+
+        // Then
+        verify(ratingSummaryRepository, never()).applyRatingDelta(anyLong(), any(), anyInt());
     }
 
     @Test
@@ -368,6 +446,7 @@ class ReviewServiceImplTest {
         // Then
         assertNotNull(result);
         verify(reviewRepository, times(1)).delete(review);
+        verify(ratingSummaryRepository, times(1)).applyRatingDelta(1L, 5, -1);
         verify(ratingEventProducer, times(1)).sendRatingUpdatedEvent(1L);
     }
 
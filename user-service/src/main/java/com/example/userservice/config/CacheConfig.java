@@ -4,11 +4,15 @@ import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
+import com.example.userservice.services.UserExistenceFilter;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.springframework.boot.autoconfigure.cache.RedisCacheManagerBuilderCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 
@@ -49,6 +53,18 @@ public class CacheConfig {
                                 .entryTtl(Duration.ofMinutes(30)))
                 .withCacheConfiguration("userByEmail",
                         cacheConfiguration()
-                                .entryTtl(Duration.ofMinutes(50)));
+                                .entryTtl(Duration.ofMinutes(50)))
+                .withCacheConfiguration("userExists",
+                        cacheConfiguration()
+                                .entryTtl(Duration.ofMinutes(30)));
+    }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       UserExistenceFilter userExistenceFilter) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(userExistenceFilter, new ChannelTopic(UserExistenceFilter.USER_CREATED_CHANNEL));
+        return container;
     }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.example.userservice.config;
 
+import com.example.common.security.InternalIdentity;
+import com.example.common.security.InternalIdentitySigner;
 import com.example.userservice.util.JwtTokenUtils;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -7,8 +9,6 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -20,31 +20,25 @@ import java.io.IOException;
 @Slf4j
 public class JwtRequestFilter extends OncePerRequestFilter {
     private final JwtTokenUtils jwtTokenUtils;
+    private final InternalIdentitySigner internalIdentitySigner;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         String authHeader = request.getHeader("Authorization");
-        String username = null;
-        String jwtToken = null;
 
         if(authHeader != null && authHeader.length() >= 7 && authHeader.startsWith("Bearer ")) {
-            jwtToken = authHeader.substring(7);
+            String jwtToken = authHeader.substring(7);
             try{
-                username = jwtTokenUtils.getUsername(jwtToken);
+                InternalIdentity identity = internalIdentitySigner.verify(request.getHeader(InternalIdentitySigner.HEADER), jwtToken)
+                        .orElseGet(() -> jwtTokenUtils.getIdentity(jwtToken));
+                if(SecurityContextHolder.getContext().getAuthentication() == null) {
+                    SecurityContextHolder.getContext().setAuthentication(identity.toAuthentication(jwtToken));
+                }
             } catch (Exception e){
                 log.debug("JWT token invalid or expired");
             }
         }
 
-        if(username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UsernamePasswordAuthenticationToken token =
-                    new UsernamePasswordAuthenticationToken(
-                            username,
-                            null,
-                             jwtTokenUtils.getRoles(jwtToken).stream().map(SimpleGrantedAuthority::new).toList()
-                    );
-            SecurityContextHolder.getContext().setAuthentication(token);
-        }
         filterChain.doFilter(request, response);
     }
 }
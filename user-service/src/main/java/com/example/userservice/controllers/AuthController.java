@@ -3,6 +3,7 @@ package com.example.userservice.controllers;
 import com.example.common.exception.ErrorResponse;
 import com.example.userservice.dto.JwtRequest;
 import com.example.userservice.dto.JwtResponse;
+import com.example.userservice.dto.RefreshTokenRequest;
 import com.example.userservice.dto.SaveUserDTO;
 import com.example.userservice.dto.UserDTO;
 import com.example.userservice.services.AuthService;
@@ -40,6 +41,32 @@ public class AuthController {
                 .body(authService.createAuthToken(authRequest));
     }
 
+    @PostMapping(path = "${application.endpoint.auth.refresh}")
+    public ResponseEntity<JwtResponse> refreshAuthToken(@RequestBody @Valid RefreshTokenRequest refreshTokenRequest,
+                                                        BindingResult bindingResult) {
+
+        if (bindingResult.hasErrors()) {
+            ErrorsUtil.returnAllErrors(bindingResult);
+        }
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(authService.refreshAuthToken(refreshTokenRequest));
+    }
+
+    @PostMapping(path = "${application.endpoint.auth.sign-out}")
+    public ResponseEntity<HttpStatus> signOut(@RequestBody @Valid RefreshTokenRequest refreshTokenRequest,
+                                              BindingResult bindingResult) {
+
+        if (bindingResult.hasErrors()) {
+            ErrorsUtil.returnAllErrors(bindingResult);
+        }
+
+        authService.revokeRefreshToken(refreshTokenRequest);
+
+        return ResponseEntity.ok(HttpStatus.OK);
+    }
+
     @PostMapping(path = "${application.endpoint.auth.sign-up}")
     public ResponseEntity<UserDTO> createNewUser(@RequestBody @Valid SaveUserDTO saveUserDTO, BindingResult bindingResult) {
 
@@ -0,0 +1,31 @@
+package com.example.userservice.controllers;
+
+import com.example.common.exception.ErrorResponse;
+import com.example.userservice.util.AuthThrottledException;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Maps a saturated password hashing pool to 429 for every endpoint that hashes passwords
+ * (sign-up, sign-in, profile and password updates). Ordered ahead of the catch-all
+ * {@link com.example.common.exception.GlobalExceptionHandler}, which would otherwise answer 500.
+ */
+@RestControllerAdvice
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ThrottlingExceptionHandler {
+
+    @ExceptionHandler(AuthThrottledException.class)
+    public ResponseEntity<ErrorResponse> handleThrottled(AuthThrottledException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(new ErrorResponse(HttpStatus.TOO_MANY_REQUESTS.value(),
+                        e.getMessage()));
+    }
+}
@@ -23,6 +23,8 @@ import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 
 import java.security.Principal;
+import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("${application.endpoint.users.root}")
@@ -94,6 +96,20 @@ public class UserController {
         return ResponseEntity.ok(userService.existsById(id));
     }
 
+    @GetMapping(path = "${application.endpoint.users.exists-batch}")
+    public ResponseEntity<Map<Long, Boolean>> usersExist(@RequestParam("ids") List<Long> ids) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(userService.existsByIds(ids));
+    }
+
+    @GetMapping(path = "${application.endpoint.users.batch}")
+    public ResponseEntity<List<UserDTO>> getUsersByIds(@RequestParam("ids") List<Long> ids) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(userService.getUsersByIds(ids));
+    }
+
     @ExceptionHandler
     private ResponseEntity<ErrorResponse> handleException(UserException e) {
         return ResponseEntity.badRequest()
@@ -0,0 +1,13 @@
+package com.example.userservice.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.*;
+
+@Setter
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class RefreshTokenRequest {
+    @NotEmpty(message = "Refresh token should not be empty!")
+    private String refreshToken;
+}
@@ -2,21 +2,28 @@ package com.example.userservice.security;
 
 import com.example.userservice.models.User;
 import com.example.userservice.services.UserService;
-import lombok.RequiredArgsConstructor;
+import com.example.userservice.util.AuthMetricsUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 @Service
-@RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserService userService;
+    private final Timer userLookupTimer;
+
+    public CustomUserDetailsService(UserService userService, MeterRegistry meterRegistry) {
+        this.userService = userService;
+        this.userLookupTimer = AuthMetricsUtil.stageTimer(meterRegistry, "user_lookup");
+    }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userService.findByUsername(username)
+        User user = userLookupTimer.record(() -> userService.findByUsername(username))
                 .orElseThrow(() -> new UsernameNotFoundException(String.format(
                         "Username with username %s not found", username
                 )));
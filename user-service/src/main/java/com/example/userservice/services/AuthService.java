@@ -2,12 +2,15 @@ package com.example.userservice.services;
 
 import com.example.userservice.dto.JwtRequest;
 import com.example.userservice.dto.JwtResponse;
+import com.example.userservice.dto.RefreshTokenRequest;
 import com.example.userservice.dto.SaveUserDTO;
 import com.example.userservice.dto.UserDTO;
 
 public interface AuthService {
 
     JwtResponse createAuthToken(JwtRequest authRequest);
+    JwtResponse refreshAuthToken(RefreshTokenRequest refreshTokenRequest);
+    void revokeRefreshToken(RefreshTokenRequest refreshTokenRequest);
     UserDTO createNewUser(SaveUserDTO saveUserDTO);
 
 }
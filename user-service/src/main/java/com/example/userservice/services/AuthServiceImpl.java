@@ -2,55 +2,89 @@ package com.example.userservice.services;
 
 import com.example.userservice.dto.JwtRequest;
 import com.example.userservice.dto.JwtResponse;
+import com.example.userservice.dto.RefreshTokenRequest;
 import com.example.userservice.dto.SaveUserDTO;
 import com.example.userservice.dto.UserDTO;
 import com.example.userservice.mapper.UserMapper;
 import com.example.userservice.models.Role;
 import com.example.userservice.models.User;
 import com.example.userservice.security.CustomUserDetails;
-import com.example.userservice.security.CustomUserDetailsService;
 import com.example.userservice.util.AuthException;
+import com.example.userservice.util.AuthMetricsUtil;
 import com.example.userservice.util.ErrorsUtil;
 import com.example.userservice.util.JwtTokenUtils;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class AuthServiceImpl implements AuthService {
     private final UserService userService;
     private final RoleService roleService;
-    private final CustomUserDetailsService customUserDetailsService;
     private final JwtTokenUtils jwtTokenUtils;
     private final AuthenticationManager authenticationManager;
     private final UserMapper userMapper;
+    private final RefreshTokenStore refreshTokenStore;
+    private final Timer tokenSigningTimer;
     private final Logger LOG = LoggerFactory.getLogger(AuthServiceImpl.class);
 
+    public AuthServiceImpl(UserService userService,
+                           RoleService roleService,
+                           JwtTokenUtils jwtTokenUtils,
+                           AuthenticationManager authenticationManager,
+                           UserMapper userMapper,
+                           RefreshTokenStore refreshTokenStore,
+                           MeterRegistry meterRegistry) {
+        this.userService = userService;
+        this.roleService = roleService;
+        this.jwtTokenUtils = jwtTokenUtils;
+        this.authenticationManager = authenticationManager;
+        this.userMapper = userMapper;
+        this.refreshTokenStore = refreshTokenStore;
+        this.tokenSigningTimer = AuthMetricsUtil.stageTimer(meterRegistry, "token_signing");
+    }
+
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public JwtResponse createAuthToken(JwtRequest authRequest) {
         LOG.info("Attempting to authenticate user: {}", authRequest.getUsername());
+        Authentication authentication;
         try{
-            authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(authRequest.getUsername(), authRequest.getPassword()));
+            authentication = authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(authRequest.getUsername(), authRequest.getPassword()));
         } catch (BadCredentialsException e) {
             LOG.error("Authentication failed for user: {}", authRequest.getUsername(), e);
             throw new AuthException("Incorrect login or password!");
         }
 
-        CustomUserDetails userDetails = (CustomUserDetails) customUserDetailsService
-                .loadUserByUsername(authRequest.getUsername());
+        return issueTokens((CustomUserDetails) authentication.getPrincipal());
+    }
+
+    @Override
+    public JwtResponse refreshAuthToken(RefreshTokenRequest refreshTokenRequest) {
+        String username = refreshTokenStore.consume(refreshTokenRequest.getRefreshToken())
+                .orElseThrow(() -> new AuthException("Refresh token is invalid or expired!"));
 
-        String token = jwtTokenUtils.generateToken(userDetails);
+        CustomUserDetails userDetails = userService.findByUsername(username)
+                .map(CustomUserDetails::new)
+                .orElseThrow(() -> new AuthException("Refresh token is invalid or expired!"));
 
-        return new JwtResponse(token);
+        return issueTokens(userDetails);
+    }
+
+    @Override
+    public void revokeRefreshToken(RefreshTokenRequest refreshTokenRequest) {
+        refreshTokenStore.revoke(refreshTokenRequest.getRefreshToken());
     }
 
     @Override
@@ -73,6 +107,12 @@ public class AuthServiceImpl implements AuthService {
         return userService.createNewUser(user);
     }
 
+    private JwtResponse issueTokens(CustomUserDetails userDetails) {
+        String token = tokenSigningTimer.record(() -> jwtTokenUtils.generateToken(userDetails));
+
+        return new JwtResponse(token, refreshTokenStore.issue(userDetails.getUsername()));
+    }
+
     private User convertRegistrationUserDTOToUser(SaveUserDTO saveUserDTO) {
         return userMapper.toUser(saveUserDTO);
     }
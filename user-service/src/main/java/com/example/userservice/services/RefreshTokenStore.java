@@ -0,0 +1,58 @@
+package com.example.userservice.services;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+
+@Component
+public class RefreshTokenStore {
+
+    private static final String KEY_PREFIX = "user-service:refresh-token:";
+    private static final int TOKEN_BYTES = 32;
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration refreshLifetime;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public RefreshTokenStore(StringRedisTemplate redisTemplate,
+                             @Value("${jwt.refresh-lifetime}") Duration refreshLifetime) {
+        this.redisTemplate = redisTemplate;
+        this.refreshLifetime = refreshLifetime;
+    }
+
+    public String issue(String username) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String refreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        redisTemplate.opsForValue().set(key(refreshToken), username, refreshLifetime);
+        return refreshToken;
+    }
+
+    public Optional<String> consume(String refreshToken) {
+        return Optional.ofNullable(redisTemplate.opsForValue().getAndDelete(key(refreshToken)));
+    }
+
+    public void revoke(String refreshToken) {
+        redisTemplate.delete(key(refreshToken));
+    }
+
+    private String key(String refreshToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(refreshToken.getBytes(StandardCharsets.UTF_8));
+            return KEY_PREFIX + HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.userservice.services;
+
+import com.example.userservice.repositories.UserRepository;
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@Slf4j
+public class UserExistenceFilter implements MessageListener {
+
+    public static final String USER_CREATED_CHANNEL = "user-service:user-created";
+
+    private final UserRepository userRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final long expectedInsertions;
+    private final double falsePositiveProbability;
+
+    private final Set<Long> recentlyRegistered = ConcurrentHashMap.newKeySet();
+    private volatile BloomFilter<Long> bloomFilter;
+    private volatile long trustedUpTo;
+    private long lastMaxId;
+
+    public UserExistenceFilter(UserRepository userRepository,
+                               StringRedisTemplate redisTemplate,
+                               @Value("${application.user-existence-filter.expected-insertions}") long expectedInsertions,
+                               @Value("${application.user-existence-filter.false-positive-probability}") double falsePositiveProbability) {
+        this.userRepository = userRepository;
+        this.redisTemplate = redisTemplate;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveProbability = falsePositiveProbability;
+    }
+
+    /**
+     * Ids above the last trusted rebuild are never ruled out: other instances announce new users over pub/sub,
+     * which can drop messages, so a negative is only given for ids a rebuild has already scanned.
+     */
+    public boolean mightContain(Long id) {
+        BloomFilter<Long> filter = bloomFilter;
+        return filter == null || id > trustedUpTo || filter.mightContain(id);
+    }
+
+    public void register(Long id) {
+        put(id);
+        try {
+            redisTemplate.convertAndSend(USER_CREATED_CHANNEL, String.valueOf(id));
+        } catch (RuntimeException e) {
+            log.warn("Failed to announce user {} to other instances, they will see it after their next rebuild", id, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        put(Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8)));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${application.user-existence-filter.rebuild-interval}",
+            initialDelayString = "${application.user-existence-filter.rebuild-interval}")
+    public synchronized void rebuild() {
+        List<Long> ids = userRepository.findAllIds();
+        BloomFilter<Long> filter = BloomFilter.create(Funnels.longFunnel(),
+                Math.max(expectedInsertions, ids.size() * 2L), falsePositiveProbability);
+        ids.forEach(filter::put);
+
+        // Sign-ups still uncommitted during this scan got ids below its max, so only the previous scan's max is trusted
+        long maxId = ids.stream().mapToLong(Long::longValue).max().orElse(0L);
+        trustedUpTo = bloomFilter == null ? maxId : Math.min(maxId, lastMaxId);
+        lastMaxId = maxId;
+        bloomFilter = filter;
+        recentlyRegistered.forEach(filter::put);
+        if (!recentlyRegistered.isEmpty()) {
+            recentlyRegistered.removeAll(userRepository.findExistingIds(Set.copyOf(recentlyRegistered)));
+        }
+        log.info("User existence filter rebuilt with {} ids", ids.size());
+    }
+
+    private void put(Long id) {
+        recentlyRegistered.add(id);
+        BloomFilter<Long> filter = bloomFilter;
+        if (filter != null) {
+            filter.put(id);
+        }
+    }
+}
@@ -6,6 +6,9 @@ import com.example.userservice.models.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface UserService {
@@ -19,5 +22,7 @@ public interface UserService {
     UserDTO updateUser(UpdateUserDTO updateUserDTO, String token);
     UserDTO assignOwnerRole(Long userId);
     Boolean existsById(Long id);
+    Map<Long, Boolean> existsByIds(Collection<Long> ids);
+    List<UserDTO> getUsersByIds(Collection<Long> ids);
     void deleteUserById(Long id, String token);
 }
@@ -17,11 +17,14 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service("userServiceImpl")
@@ -34,6 +37,9 @@ public class UserServiceImpl implements UserService {
     private final PasswordEncoder passwordEncoder;
     private final UserMapper userMapper;
     private final JwtTokenUtils jwtTokenUtils;
+    private final UserExistenceFilter userExistenceFilter;
+
+    private static final int MAX_BATCH_SIZE = 100;
 
     @Override
     public Optional<User> findByUsername(String username) {
@@ -52,6 +58,13 @@ public class UserServiceImpl implements UserService {
         user.setPassword(passwordEncoder.encode(user.getPassword()));
         user.setCreatedAt(LocalDateTime.now());
         User savedUser = userRepository.save(user);
+        Long userId = savedUser.getId();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                userExistenceFilter.register(userId);
+            }
+        });
         return convertToUserDTO(savedUser);
     }
 
@@ -125,13 +138,53 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Cacheable(value = "userExists", key = "#id", unless = "!#result")
     public Boolean existsById(Long id) {
+        if (!userExistenceFilter.mightContain(id)) {
+            return false;
+        }
         return userRepository.existsById(id);
     }
 
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Map<Long, Boolean> existsByIds(Collection<Long> ids) {
+        checkBatchSize(ids);
+
+        Set<Long> candidates = ids.stream()
+                .filter(userExistenceFilter::mightContain)
+                .collect(Collectors.toSet());
+        Set<Long> existingIds = candidates.isEmpty()
+                ? Set.of()
+                : new HashSet<>(userRepository.findExistingIds(candidates));
+
+        Map<Long, Boolean> result = new LinkedHashMap<>();
+        ids.forEach(id -> result.put(id, existingIds.contains(id)));
+        return result;
+    }
+
+    @Override
+    public List<UserDTO> getUsersByIds(Collection<Long> ids) {
+        checkBatchSize(ids);
+
+        Map<Long, User> usersById = userRepository.findByIdIn(ids).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        return ids.stream()
+                .distinct()
+                .map(usersById::get)
+                .filter(Objects::nonNull)
+                .map(this::convertToUserDTO)
+                .collect(Collectors.toList());
+    }
+
     @Override
     @Transactional
-    @CacheEvict(value = "userById", key = "#id")
+    @Caching(evict = {
+            @CacheEvict(value = "userById", key = "#id"),
+            @CacheEvict(value = "userExists", key = "#id")
+    })
     public void deleteUserById(Long id, String token) {
         Long currentUserId = jwtTokenUtils.getUserId(token);
         List<String> roles = jwtTokenUtils.getRoles(token);
@@ -147,6 +200,12 @@ public class UserServiceImpl implements UserService {
         userRepository.deleteById(id);
     }
 
+    private void checkBatchSize(Collection<Long> ids) {
+        if (ids.size() > MAX_BATCH_SIZE) {
+            throw new UserException("Too many ids requested, maximum is " + MAX_BATCH_SIZE);
+        }
+    }
+
     private UserDTO convertToUserDTO(User user) {
         UserDTO dto = userMapper.toUserDTO(user);
         if (user.getRoles() != null) {
@@ -0,0 +1,15 @@
+package com.example.userservice.util;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+public class AuthMetricsUtil {
+
+    public static Timer stageTimer(MeterRegistry meterRegistry, String stage) {
+        return Timer.builder("auth.stage")
+                .description("Time spent in each stage of authentication")
+                .tag("stage", stage)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.userservice.util;
+
+public class AuthThrottledException extends RuntimeException {
+    public AuthThrottledException(String message) {
+        super(message);
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.userservice.util;
 
+import com.example.common.security.InternalIdentity;
 import com.example.userservice.security.CustomUserDetails;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtParser;
@@ -62,19 +63,37 @@ public class JwtTokenUtils {
     }
 
     public String getUsername(String token) {
-        return getClaimsFromToken(token).getSubject();
+        return InternalIdentity.fromSecurityContext(token)
+                .map(InternalIdentity::username)
+                .orElseGet(() -> getClaimsFromToken(token).getSubject());
     }
 
     public Long getUserId(String token) {
-        return getClaimsFromToken(token).get("id", Long.class);
+        return InternalIdentity.fromSecurityContext(token)
+                .map(InternalIdentity::userId)
+                .orElseGet(() -> getClaimsFromToken(token).get("id", Long.class));
     }
 
     public List<String> getRoles(String token) {
-        return getClaimsFromToken(token).get("roles", List.class);
+        return InternalIdentity.fromSecurityContext(token)
+                .map(InternalIdentity::roles)
+                .orElseGet(() -> getClaimsFromToken(token).get("roles", List.class));
     }
 
     public String getEmail(String token) {
-        return getClaimsFromToken(token).get("email", String.class);
+        return InternalIdentity.fromSecurityContext(token)
+                .map(InternalIdentity::email)
+                .orElseGet(() -> getClaimsFromToken(token).get("email", String.class));
+    }
+
+    public InternalIdentity getIdentity(String token) {
+        Claims claims = getClaimsFromToken(token);
+        return new InternalIdentity(
+                claims.get("id", Long.class),
+                claims.getSubject(),
+                claims.get("email", String.class),
+                claims.get("roles", List.class),
+                claims.getExpiration().toInstant().getEpochSecond());
     }
 
     private Claims getClaimsFromToken(String token) {
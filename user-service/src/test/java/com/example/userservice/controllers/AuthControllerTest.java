@@ -2,6 +2,7 @@ package com.example.userservice.controllers;
 
 import com.example.userservice.dto.JwtRequest;
 import com.example.userservice.dto.JwtResponse;
+import com.example.userservice.dto.RefreshTokenRequest;
 import com.example.userservice.dto.SaveUserDTO;
 import com.example.userservice.dto.UserDTO;
 import com.example.userservice.services.AuthService;
@@ -53,7 +54,7 @@ class AuthControllerTest {
         saveUserDTO.setLastName("User");
         saveUserDTO.setPhone("1234567890");
 
-        jwtResponse = new JwtResponse("testtoken");
+        jwtResponse = new JwtResponse("testtoken", "refreshtoken");
 
         userDTO = new UserDTO();
         userDTO.setId(1L);
@@ -94,6 +95,35 @@ class AuthControllerTest {
         verify(authService, never()).createAuthToken(any(JwtRequest.class));
     }
 
+    @Test
+    void refreshAuthToken_ValidRequest_ReturnsJwtResponse() {
+        // Given
+        RefreshTokenRequest refreshTokenRequest = new RefreshTokenRequest("refreshtoken");
+        when(bindingResult.hasErrors()).thenReturn(false);
+        when(authService.refreshAuthToken(refreshTokenRequest)).thenReturn(jwtResponse);
+
+        // When
+        ResponseEntity<?> response = authController.refreshAuthToken(refreshTokenRequest, bindingResult);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(jwtResponse, response.getBody());
+    }
+
+    @Test
+    void signOut_ValidRequest_RevokesRefreshToken() {
+        // Given
+        RefreshTokenRequest refreshTokenRequest = new RefreshTokenRequest("refreshtoken");
+        when(bindingResult.hasErrors()).thenReturn(false);
+
+        // When
+        ResponseEntity<?> response = authController.signOut(refreshTokenRequest, bindingResult);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(authService, times(1)).revokeRefreshToken(refreshTokenRequest);
+    }
+
     @Test
     void createNewUser_ValidRequest_ReturnsUser() {
         // Given
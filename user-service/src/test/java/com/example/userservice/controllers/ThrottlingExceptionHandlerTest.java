@@ -0,0 +1,76 @@
+package com.example.userservice.controllers;
+
+import com.example.common.exception.GlobalExceptionHandler;
+import com.example.userservice.dto.UpdateUserDTO;
+import com.example.userservice.security.CustomUserDetailsService;
+import com.example.userservice.services.UserService;
+import com.example.userservice.util.AuthThrottledException;
+import com.example.userservice.util.JwtTokenUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class ThrottlingExceptionHandlerTest {
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private CustomUserDetailsService userDetailsService;
+
+    @Mock
+    private JwtTokenUtils jwtTokenUtils;
+
+    @InjectMocks
+    private UserController userController;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(userController)
+                .setControllerAdvice(new GlobalExceptionHandler(), new ThrottlingExceptionHandler())
+                .addPlaceholderValue("application.endpoint.users.root", "/api/v1/users")
+                .addPlaceholderValue("application.endpoint.users.id", "/{id}")
+                .addPlaceholderValue("application.endpoint.users.assign-owner", "/{id}/assign-owner")
+                .addPlaceholderValue("application.endpoint.users.exists", "/{id}/exists")
+                .addPlaceholderValue("application.endpoint.users.exists-batch", "/exists")
+                .addPlaceholderValue("application.endpoint.users.batch", "/batch")
+                .build();
+    }
+
+    @Test
+    void updateUserInfo_HashingPoolSaturated_ReturnsTooManyRequests() throws Exception {
+        // Given
+        when(userService.updateUser(any(UpdateUserDTO.class), anyString()))
+                .thenThrow(new AuthThrottledException("Too many concurrent password operations"));
+
+        // When / Then
+        mockMvc.perform(patch("/api/v1/users")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer token")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"username":"testuser","email":"test@example.com",
+                                 "firstName":"Test","lastName":"User","phone":"1234567890"}
+                                """))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+                .andExpect(jsonPath("$.status").value(429));
+    }
+}
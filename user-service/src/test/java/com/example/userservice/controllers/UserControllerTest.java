@@ -22,6 +22,8 @@ import org.springframework.validation.BindingResult;
 
 import java.security.Principal;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -165,4 +167,30 @@ class UserControllerTest {
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(userDTO, response.getBody());
     }
-}
\ No newline at end of file
+
+    @Test
+    void usersExist_ReturnsExistenceMap() {
+        // Given
+        when(userService.existsByIds(List.of(1L, 2L))).thenReturn(Map.of(1L, true, 2L, false));
+
+        // When
+        ResponseEntity<Map<Long, Boolean>> response = userController.usersExist(List.of(1L, 2L));
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(Map.of(1L, true, 2L, false), response.getBody());
+    }
+
+    @Test
+    void getUsersByIds_ReturnsUsers() {
+        // Given
+        when(userService.getUsersByIds(List.of(1L))).thenReturn(List.of(userDTO));
+
+        // When
+        ResponseEntity<List<UserDTO>> response = userController.getUsersByIds(List.of(1L));
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(List.of(userDTO), response.getBody());
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.userservice.security;
+
+import com.example.userservice.util.AuthThrottledException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PasswordEncoder delegate = mock(PasswordEncoder.class);
+    private ThreadPoolExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void matches_DelegatesOnWorkerPoolAndRecordsStageTimer() {
+        // Given
+        executor = newExecutor(1);
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(delegate, executor, Duration.ofSeconds(1), meterRegistry);
+        when(delegate.matches("password", "hash")).thenReturn(true);
+
+        // When
+        boolean result = encoder.matches("password", "hash");
+
+        // Then
+        assertTrue(result);
+        assertEquals(1, meterRegistry.get("auth.stage").tag("stage", "hash_verify").timer().count());
+    }
+
+    @Test
+    void encode_WhenPoolAndQueueSaturated_ThrowsThrottledException() {
+        // Given
+        executor = newExecutor(1);
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(delegate, executor, Duration.ofSeconds(1), meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.submit(() -> {
+            release.await();
+            return null;
+        });
+        executor.submit(() -> {
+            release.await();
+            return null;
+        });
+
+        // When & Then
+        try {
+            assertThrows(AuthThrottledException.class, () -> encoder.encode("password"));
+            assertEquals(1.0, meterRegistry.get("auth.password.hashing.rejected").counter().count());
+            verify(delegate, never()).encode(any());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void matches_WhenWaitExceedsTimeout_ThrowsThrottledException() {
+        // Given
+        executor = newExecutor(1);
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(delegate, executor, Duration.ofMillis(50), meterRegistry);
+        when(delegate.matches(any(), any())).thenAnswer(invocation -> {
+            Thread.sleep(1000);
+            return true;
+        });
+
+        // When & Then
+        assertThrows(AuthThrottledException.class, () -> encoder.matches("password", "hash"));
+    }
+
+    private ThreadPoolExecutor newExecutor(int queueCapacity) {
+        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new ThreadPoolExecutor.AbortPolicy());
+    }
+}
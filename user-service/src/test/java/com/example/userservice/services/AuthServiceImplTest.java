@@ -2,31 +2,36 @@ package com.example.userservice.services;
 
 import com.example.userservice.dto.JwtRequest;
 import com.example.userservice.dto.JwtResponse;
+import com.example.userservice.dto.RefreshTokenRequest;
 import com.example.userservice.dto.SaveUserDTO;
 import com.example.userservice.dto.UserDTO;
 import com.example.userservice.mapper.UserMapper;
 import com.example.userservice.models.Role;
 import com.example.userservice.models.User;
 import com.example.userservice.security.CustomUserDetails;
-import com.example.userservice.security.CustomUserDetailsService;
 import com.example.userservice.util.AuthException;
 import com.example.userservice.util.JwtTokenUtils;
 import com.example.userservice.util.UserException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,9 +40,6 @@ class AuthServiceImplTest {
     @Mock
     private UserService userService;
 
-    @Mock
-    private CustomUserDetailsService customUserDetailsService;
-
     @Mock
     private JwtTokenUtils jwtTokenUtils;
 
@@ -50,6 +52,12 @@ class AuthServiceImplTest {
     @Mock
     private RoleService roleService;
 
+    @Mock
+    private RefreshTokenStore refreshTokenStore;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private AuthServiceImpl authService;
 
@@ -91,11 +99,10 @@ class AuthServiceImplTest {
     void createAuthToken_ValidCredentials_ReturnsJwtResponse() {
         // Given
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
-                .thenReturn(null);
-        when(customUserDetailsService.loadUserByUsername("testuser"))
-                .thenReturn(userDetails);
+                .thenReturn(new UsernamePasswordAuthenticationToken(userDetails, null, List.of()));
         when(jwtTokenUtils.generateToken(userDetails))
                 .thenReturn("test-token");
+        when(refreshTokenStore.issue("testuser")).thenReturn("refresh-token");
 
         // When
         JwtResponse response = authService.createAuthToken(jwtRequest);
@@ -103,10 +110,63 @@ class AuthServiceImplTest {
         // Then
         assertNotNull(response);
         assertEquals("test-token", response.getToken());
+        assertEquals("refresh-token", response.getRefreshToken());
         verify(authenticationManager, times(1))
                 .authenticate(any(UsernamePasswordAuthenticationToken.class));
     }
 
+    @Test
+    void refreshAuthToken_ValidRefreshToken_RotatesTokensWithoutAuthenticating() {
+        // Given
+        when(refreshTokenStore.consume("old-refresh-token")).thenReturn(Optional.of("testuser"));
+        when(userService.findByUsername("testuser")).thenReturn(Optional.of(user));
+        when(jwtTokenUtils.generateToken(any(CustomUserDetails.class))).thenReturn("new-token");
+        when(refreshTokenStore.issue("testuser")).thenReturn("new-refresh-token");
+
+        // When
+        JwtResponse response = authService.refreshAuthToken(new RefreshTokenRequest("old-refresh-token"));
+
+        // Then
+        assertEquals("new-token", response.getToken());
+        assertEquals("new-refresh-token", response.getRefreshToken());
+        verifyNoInteractions(authenticationManager);
+    }
+
+    @Test
+    void refreshAuthToken_UnknownRefreshToken_ThrowsAuthException() {
+        // Given
+        when(refreshTokenStore.consume("unknown")).thenReturn(Optional.empty());
+
+        // When & Then
+        AuthException exception = assertThrows(AuthException.class,
+                () -> authService.refreshAuthToken(new RefreshTokenRequest("unknown")));
+
+        assertEquals("Refresh token is invalid or expired!", exception.getMessage());
+        verify(jwtTokenUtils, never()).generateToken(any());
+        verify(refreshTokenStore, never()).issue(anyString());
+    }
+
+    @Test
+    void refreshAuthToken_DeletedUser_ThrowsAuthException() {
+        // Given
+        when(refreshTokenStore.consume("old-refresh-token")).thenReturn(Optional.of("testuser"));
+        when(userService.findByUsername("testuser")).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(AuthException.class,
+                () -> authService.refreshAuthToken(new RefreshTokenRequest("old-refresh-token")));
+        verify(refreshTokenStore, never()).issue(anyString());
+    }
+
+    @Test
+    void revokeRefreshToken_DeletesStoredToken() {
+        // When
+        authService.revokeRefreshToken(new RefreshTokenRequest("refresh-token"));
+
+        // Then
+        verify(refreshTokenStore).revoke("refresh-token");
+    }
+
     @Test
     void createAuthToken_InvalidCredentials_ThrowsAuthException() {
         // Given
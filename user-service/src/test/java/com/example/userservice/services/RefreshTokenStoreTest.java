@@ -0,0 +1,75 @@
+package com.example.userservice.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenStoreTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private RefreshTokenStore refreshTokenStore;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenStore = new RefreshTokenStore(redisTemplate, Duration.ofDays(14));
+    }
+
+    @Test
+    void issue_StoresHashedTokenWithLifetime() {
+        // Given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        ArgumentCaptor<String> keyCaptor = ArgumentCaptor.forClass(String.class);
+
+        // When
+        String refreshToken = refreshTokenStore.issue("testuser");
+
+        // Then
+        verify(valueOperations).set(keyCaptor.capture(), eq("testuser"), eq(Duration.ofDays(14)));
+        assertTrue(keyCaptor.getValue().startsWith("user-service:refresh-token:"));
+        assertFalse(keyCaptor.getValue().contains(refreshToken));
+        assertNotEquals(refreshToken, refreshTokenStore.issue("testuser"));
+    }
+
+    @Test
+    void consume_KnownToken_ReturnsUsernameAndDeletesIt() {
+        // Given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        String refreshToken = refreshTokenStore.issue("testuser");
+        ArgumentCaptor<String> keyCaptor = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations).set(keyCaptor.capture(), eq("testuser"), any(Duration.class));
+        when(valueOperations.getAndDelete(keyCaptor.getValue())).thenReturn("testuser");
+
+        // When
+        Optional<String> username = refreshTokenStore.consume(refreshToken);
+
+        // Then
+        assertEquals(Optional.of("testuser"), username);
+    }
+
+    @Test
+    void consume_UnknownToken_ReturnsEmpty() {
+        // Given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        // When & Then
+        assertTrue(refreshTokenStore.consume("unknown").isEmpty());
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.userservice.services;
+
+import com.example.userservice.repositories.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserExistenceFilterTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private UserExistenceFilter userExistenceFilter;
+
+    @BeforeEach
+    void setUp() {
+        userExistenceFilter = new UserExistenceFilter(userRepository, redisTemplate, 1000, 0.001);
+    }
+
+    @Test
+    void mightContain_BeforeRebuild_ReturnsTrue() {
+        assertTrue(userExistenceFilter.mightContain(42L));
+    }
+
+    @Test
+    void rebuild_LoadsIdsFromRepository() {
+        // Given
+        when(userRepository.findAllIds()).thenReturn(List.of(1L, 2L, 3L, 1000L));
+
+        // When
+        userExistenceFilter.rebuild();
+
+        // Then
+        assertTrue(userExistenceFilter.mightContain(1L));
+        assertTrue(userExistenceFilter.mightContain(3L));
+        assertFalse(userExistenceFilter.mightContain(999L));
+    }
+
+    @Test
+    void mightContain_IdAboveLastRebuild_ReturnsTrue() {
+        // Given
+        when(userRepository.findAllIds()).thenReturn(List.of(1L, 2L, 3L));
+        userExistenceFilter.rebuild();
+
+        // When & Then
+        assertTrue(userExistenceFilter.mightContain(4L));
+    }
+
+    @Test
+    void rebuild_IdsAbovePreviousRebuild_StayUntrustedUntilNextOne() {
+        // Given
+        when(userRepository.findAllIds()).thenReturn(List.of(1L), List.of(1L, 5L), List.of(1L, 5L));
+        userExistenceFilter.rebuild();
+
+        // When
+        userExistenceFilter.rebuild();
+        boolean afterSecondRebuild = userExistenceFilter.mightContain(4L);
+        userExistenceFilter.rebuild();
+
+        // Then
+        assertTrue(afterSecondRebuild);
+        assertFalse(userExistenceFilter.mightContain(4L));
+    }
+
+    @Test
+    void register_PublishFails_KeepsIdLocally() {
+        // Given
+        when(userRepository.findAllIds()).thenReturn(List.of(100L));
+        userExistenceFilter.rebuild();
+        doThrow(new RedisConnectionFailureException("Redis is down"))
+                .when(redisTemplate).convertAndSend(UserExistenceFilter.USER_CREATED_CHANNEL, "7");
+
+        // When
+        assertDoesNotThrow(() -> userExistenceFilter.register(7L));
+
+        // Then
+        assertTrue(userExistenceFilter.mightContain(7L));
+    }
+
+    @Test
+    void register_AddsIdAndPublishesToOtherInstances() {
+        // Given
+        when(userRepository.findAllIds()).thenReturn(List.of());
+        userExistenceFilter.rebuild();
+
+        // When
+        userExistenceFilter.register(7L);
+
+        // Then
+        assertTrue(userExistenceFilter.mightContain(7L));
+        verify(redisTemplate, times(1)).convertAndSend(UserExistenceFilter.USER_CREATED_CHANNEL, "7");
+    }
+
+    @Test
+    void onMessage_AddsPublishedId() {
+        // Given
+        when(userRepository.findAllIds()).thenReturn(List.of());
+        userExistenceFilter.rebuild();
+
+        // When
+        userExistenceFilter.onMessage(new DefaultMessage(
+                UserExistenceFilter.USER_CREATED_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "8".getBytes(StandardCharsets.UTF_8)), null);
+
+        // Then
+        assertTrue(userExistenceFilter.mightContain(8L));
+    }
+
+    @Test
+    void rebuild_KeepsIdsRegisteredButNotYetCommitted() {
+        // Given
+        when(userRepository.findAllIds()).thenReturn(List.of());
+        userExistenceFilter.rebuild();
+        userExistenceFilter.register(9L);
+        when(userRepository.findExistingIds(Set.of(9L))).thenReturn(List.of());
+
+        // When
+        userExistenceFilter.rebuild();
+
+        // Then
+        assertTrue(userExistenceFilter.mightContain(9L));
+    }
+}
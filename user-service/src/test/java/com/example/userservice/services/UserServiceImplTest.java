@@ -8,6 +8,7 @@ import com.example.userservice.models.User;
 import com.example.userservice.repositories.UserRepository;
 import com.example.userservice.util.JwtTokenUtils;
 import com.example.userservice.util.UserException;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,6 +21,8 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.*;
 
@@ -45,6 +48,9 @@ class UserServiceImplTest {
     @Mock
     private JwtTokenUtils jwtTokenUtils;
 
+    @Mock
+    private UserExistenceFilter userExistenceFilter;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -57,6 +63,8 @@ class UserServiceImplTest {
 
     @BeforeEach
     void setUp() {
+        TransactionSynchronizationManager.initSynchronization();
+
         user = new User();
         user.setId(1L);
         user.setUsername("testuser");
@@ -85,6 +93,11 @@ class UserServiceImplTest {
         ownerRole.setName("ROLE_OWNER");
     }
 
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
     @Test
     void findByUsername_ShouldReturnOptionalUser() {
         // Given
@@ -187,6 +200,7 @@ class UserServiceImplTest {
     @Test
     void existsById_ShouldReturnBoolean() {
         // Given
+        when(userExistenceFilter.mightContain(1L)).thenReturn(true);
         when(userRepository.existsById(1L)).thenReturn(true);
 
         // Act
@@ -197,6 +211,81 @@ class UserServiceImplTest {
         verify(userRepository, times(1)).existsById(1L);
     }
 
+    @Test
+    void existsById_NotInFilter_ReturnsFalseWithoutQuery() {
+        // Given
+        when(userExistenceFilter.mightContain(1L)).thenReturn(false);
+
+        // When
+        Boolean result = userService.existsById(1L);
+
+        // Then
+        assertFalse(result);
+        verify(userRepository, never()).existsById(anyLong());
+    }
+
+    @Test
+    void existsByIds_QueriesOnlyFilterCandidates() {
+        // Given
+        when(userExistenceFilter.mightContain(1L)).thenReturn(true);
+        when(userExistenceFilter.mightContain(2L)).thenReturn(true);
+        when(userExistenceFilter.mightContain(3L)).thenReturn(false);
+        when(userRepository.findExistingIds(Set.of(1L, 2L))).thenReturn(List.of(1L));
+
+        // When
+        Map<Long, Boolean> result = userService.existsByIds(List.of(1L, 2L, 3L));
+
+        // Then
+        assertEquals(Map.of(1L, true, 2L, false, 3L, false), result);
+        verify(userRepository, times(1)).findExistingIds(Set.of(1L, 2L));
+    }
+
+    @Test
+    void existsByIds_NoCandidates_SkipsQuery() {
+        // Given
+        when(userExistenceFilter.mightContain(anyLong())).thenReturn(false);
+
+        // When
+        Map<Long, Boolean> result = userService.existsByIds(List.of(5L, 6L));
+
+        // Then
+        assertEquals(Map.of(5L, false, 6L, false), result);
+        verify(userRepository, never()).findExistingIds(any());
+    }
+
+    @Test
+    void existsByIds_TooManyIds_ThrowsException() {
+        // Given
+        List<Long> ids = new ArrayList<>();
+        for (long i = 0; i < 101; i++) {
+            ids.add(i);
+        }
+
+        // When & Then
+        assertThrows(UserException.class, () -> userService.existsByIds(ids));
+        verify(userRepository, never()).findExistingIds(any());
+    }
+
+    @Test
+    void getUsersByIds_ReturnsUsersInRequestedOrder() {
+        // Given
+        User secondUser = new User();
+        secondUser.setId(2L);
+        secondUser.setUsername("second");
+        UserDTO secondUserDTO = new UserDTO();
+        secondUserDTO.setId(2L);
+
+        when(userRepository.findByIdIn(List.of(2L, 1L, 3L))).thenReturn(List.of(user, secondUser));
+        when(userMapper.toUserDTO(user)).thenReturn(userDTO);
+        when(userMapper.toUserDTO(secondUser)).thenReturn(secondUserDTO);
+
+        // When
+        List<UserDTO> result = userService.getUsersByIds(List.of(2L, 1L, 3L));
+
+        // Then
+        assertEquals(List.of(secondUserDTO, userDTO), result);
+    }
+
     @Test
     @Transactional
     void createNewUser_ValidUser_CreatesAndReturnsUser() {
@@ -221,6 +310,32 @@ class UserServiceImplTest {
         // Then
         assertNotNull(result);
         verify(userRepository, times(1)).save(inputUser);
+        verify(userExistenceFilter, never()).register(any());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(userExistenceFilter, times(1)).register(2L);
+    }
+
+    @Test
+    void createNewUser_TransactionRolledBack_DoesNotRegisterId() {
+        // Given
+        User inputUser = new User();
+        inputUser.setPassword("password");
+        when(passwordEncoder.encode("password")).thenReturn("encodedPassword");
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> {
+            User saved = invocation.getArgument(0);
+            saved.setId(3L);
+            return saved;
+        });
+        when(userMapper.toUserDTO(any(User.class))).thenReturn(userDTO);
+
+        // When
+        userService.createNewUser(inputUser);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // Then
+        verify(userExistenceFilter, never()).register(any());
     }
 
     @Test
@@ -0,0 +1,90 @@
+package com.example.userservice.services;
+
+import com.example.userservice.mapper.UserMapper;
+import com.example.userservice.repositories.UserRepository;
+import com.example.userservice.util.JwtTokenUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@SpringJUnitConfig(UserServiceTransactionTest.TransactionConfig.class)
+class UserServiceTransactionTest {
+
+    @MockBean
+    private UserRepository userRepository;
+
+    @MockBean
+    private RoleService roleService;
+
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    @MockBean
+    private UserMapper userMapper;
+
+    @MockBean
+    private JwtTokenUtils jwtTokenUtils;
+
+    @MockBean
+    private UserExistenceFilter userExistenceFilter;
+
+    @MockBean
+    private DataSource dataSource;
+
+    @Autowired
+    private UserService userService;
+
+    @Test
+    void existsById_NotInFilter_NeverChecksOutConnection() {
+        // Given
+        when(userExistenceFilter.mightContain(anyLong())).thenReturn(false);
+
+        // When
+        Boolean result = userService.existsById(1L);
+
+        // Then
+        assertFalse(result);
+        verifyNoInteractions(userRepository, dataSource);
+    }
+
+    @Test
+    void existsByIds_NoneInFilter_NeverChecksOutConnection() {
+        // Given
+        when(userExistenceFilter.mightContain(anyLong())).thenReturn(false);
+
+        // When
+        Map<Long, Boolean> result = userService.existsByIds(List.of(1L, 2L));
+
+        // Then
+        assertEquals(Map.of(1L, false, 2L, false), result);
+        verifyNoInteractions(userRepository, dataSource);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @EnableTransactionManagement
+    @Import(UserServiceImpl.class)
+    static class TransactionConfig {
+
+        // Acquires a connection as soon as a transaction begins, like the JPA transaction manager does
+        @Bean
+        PlatformTransactionManager transactionManager(DataSource dataSource) {
+            return new DataSourceTransactionManager(dataSource);
+        }
+    }
+}